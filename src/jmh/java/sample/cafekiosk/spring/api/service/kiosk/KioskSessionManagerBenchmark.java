@@ -0,0 +1,75 @@
+package sample.cafekiosk.spring.api.service.kiosk;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import sample.cafekiosk.unit.beverage.Americano;
+import sample.cafekiosk.unit.beverage.Latte;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/*
+동시에 열린 세션 수별 장바구니 조작 비용과 세션을 채우는 데 드는 메모리.
+./gradlew jmh -PjmhIncludes=KioskSessionManagerBenchmark
+- add / calculateTotalPrice: 8 스레드가 임의의 세션을 건드릴 때의 연산당 시간
+- fillSessions: 빈 관리자에 sessions 개의 세션을 만들고 음료를 담는다.
+  gc 프로파일러의 gc.alloc.rate.norm 이 세션 sessions 개를 만드는 데 할당한 바이트다.
+주문 생성(checkout)은 DB 비용이 대부분이라 여기서는 재지 않는다.
+ */
+@State(Scope.Benchmark)
+public class KioskSessionManagerBenchmark {
+
+    @Param({"1000", "10000"})
+    private int sessions;
+
+    private final Americano americano = new Americano();
+    private final Latte latte = new Latte();
+    private KioskSessionManager filledManager;
+    private String[] sessionIds;
+
+    @Setup
+    public void setUp() {
+        sessionIds = new String[sessions];
+        for (int i = 0; i < sessions; i++) {
+            sessionIds[i] = "kiosk-" + i;
+        }
+        filledManager = fill(newManager());
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void add() {
+        filledManager.add(randomSessionId(), americano, 1);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public int calculateTotalPrice() {
+        return filledManager.calculateTotalPrice(randomSessionId());
+    }
+
+    @Benchmark
+    public KioskSessionManager fillSessions() {
+        return fill(newManager());
+    }
+
+    private KioskSessionManager newManager() {
+        return new KioskSessionManager(null, new SimpleMeterRegistry(), sessions, 30);
+    }
+
+    private KioskSessionManager fill(KioskSessionManager manager) {
+        for (String sessionId : sessionIds) {
+            manager.add(sessionId, americano, 2);
+            manager.add(sessionId, latte, 1);
+        }
+        return manager;
+    }
+
+    private String randomSessionId() {
+        return sessionIds[ThreadLocalRandom.current().nextInt(sessions)];
+    }
+}
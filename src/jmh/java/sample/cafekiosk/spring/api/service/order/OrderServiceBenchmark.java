@@ -0,0 +1,98 @@
+package sample.cafekiosk.spring.api.service.order;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import sample.cafekiosk.spring.api.service.product.ProductIndex;
+import sample.cafekiosk.spring.domain.product.Product;
+import sample.cafekiosk.spring.domain.product.ProductRepository;
+import sample.cafekiosk.spring.domain.product.ProductSellingStatus;
+import sample.cafekiosk.spring.domain.product.ProductSnapshot;
+import sample.cafekiosk.spring.domain.product.ProductType;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/*
+OrderService 의 주문 생성 helper 들을 장바구니 크기별로 측정한다.
+Repository 는 메모리의 목록을 돌려주는 프록시로 대신해서 DB 시간 없이 매핑/집계 비용만 본다.
+상품 조회는 ProductIndex 를 거치므로 첫 조회 이후에는 Repository 를 부르지 않는다.
+ */
+@State(Scope.Benchmark)
+public class OrderServiceBenchmark {
+
+    private static final int CATALOG_SIZE = 50;
+
+    @Param({"1", "10", "100", "1000"})
+    private int cartSize;
+
+    private ProductIndex productIndex;
+    private List<String> productNumbers;
+    private List<ProductSnapshot> products;
+    private List<String> stockProductNumbers;
+
+    @Setup
+    public void setUp() {
+        List<Product> catalog = new ArrayList<>();
+        ProductType[] types = ProductType.values();
+        for (int i = 1; i <= CATALOG_SIZE; i++) {
+            String productNumber = String.format("%03d", i);
+            catalog.add(Product.builder()
+                    .productNumber(productNumber)
+                    .type(types[i % types.length])
+                    .sellingStatus(ProductSellingStatus.SELLING)
+                    .name("메뉴 " + i)
+                    .price(1000 + i * 100)
+                    .build());
+        }
+
+        ProductRepository productRepository = productRepository(catalog);
+        productIndex = new ProductIndex(productRepository, 10_000, 1_000);
+
+        productNumbers = new ArrayList<>();
+        for (int i = 0; i < cartSize; i++) {
+            productNumbers.add(catalog.get(i % CATALOG_SIZE).getProductNumber());
+        }
+        products = productIndex.getProducts(productNumbers);
+        stockProductNumbers = OrderService.extractStockProductNumbers(products);
+    }
+
+    @Benchmark
+    public List<ProductSnapshot> getProducts() {
+        return productIndex.getProducts(productNumbers);
+    }
+
+    @Benchmark
+    public List<String> extractStockProductNumbers() {
+        return OrderService.extractStockProductNumbers(products);
+    }
+
+    @Benchmark
+    public Map<String, Long> createCountingMap() {
+        return OrderService.createCountingMap(stockProductNumbers);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ProductRepository productRepository(List<Product> catalog) {
+        return (ProductRepository) Proxy.newProxyInstance(ProductRepository.class.getClassLoader(),
+                new Class<?>[]{ProductRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findAll") && args == null) {
+                        return new ArrayList<>(catalog);
+                    }
+                    if (method.getName().equals("findAllByProductNumberIn")) {
+                        Collection<String> numbers = (Collection<String>) args[0];
+                        return catalog.stream()
+                                .filter(product -> numbers.contains(product.getProductNumber()))
+                                .collect(Collectors.toList());
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -0,0 +1,117 @@
+package sample.cafekiosk.spring.api.service.stats;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/*
+백만 건 주문(주문당 상품 1~3줄)을 SalesAggregator 에 흘려 넣는 비용을,
+OrderService.createCountingMap 처럼 Map<String, Long> 에 merge 하는 방식과 비교한다.
+행은 미리 배열로 만들어 두므로 DB 읽기 비용은 포함되지 않는다.
+orders + order_product join 을 주문 id 로 정렬해서 백만 건을 흘려 읽는 비용은 아직 재지 않았다.
+./gradlew jmh -PjmhIncludes=SalesAggregatorBenchmark
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SalesAggregatorBenchmark {
+
+    private static final LocalDate START_DATE = LocalDate.of(2023, 1, 1);
+    private static final int DAYS = 365;
+
+    @Param({"1000000"})
+    private int orderCount;
+
+    @Param({"50"})
+    private int productCount;
+
+    private LocalDateTime[] orderDateTimes;
+    private long[] rowOrderIds;
+    private LocalDateTime[] rowDateTimes;
+    private String[] rowProductNumbers;
+    private int[] rowQuantities;
+    private int[] rowUnitPrices;
+    private String[] productNumbers;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        productNumbers = new String[productCount];
+        for (int i = 0; i < productCount; i++) {
+            productNumbers[i] = String.format("%03d", i + 1);
+        }
+
+        orderDateTimes = new LocalDateTime[orderCount];
+        int rowCount = 0;
+        int[] linesPerOrder = new int[orderCount];
+        for (int i = 0; i < orderCount; i++) {
+            orderDateTimes[i] = START_DATE.plusDays(random.nextInt(DAYS)).atTime(10 + random.nextInt(12), random.nextInt(60));
+            linesPerOrder[i] = 1 + random.nextInt(3);
+            rowCount += linesPerOrder[i];
+        }
+
+        rowOrderIds = new long[rowCount];
+        rowDateTimes = new LocalDateTime[rowCount];
+        rowProductNumbers = new String[rowCount];
+        rowQuantities = new int[rowCount];
+        rowUnitPrices = new int[rowCount];
+        int row = 0;
+        for (int i = 0; i < orderCount; i++) {
+            for (int line = 0; line < linesPerOrder[i]; line++, row++) {
+                int product = random.nextInt(productCount);
+                rowOrderIds[row] = i;
+                rowDateTimes[row] = orderDateTimes[i];
+                rowProductNumbers[row] = productNumbers[product];
+                rowQuantities[row] = 1 + random.nextInt(3);
+                rowUnitPrices[row] = 1000 + product * 100;
+            }
+        }
+    }
+
+    @Benchmark
+    public SalesAggregator primitiveArrays() {
+        SalesAggregator aggregator = new SalesAggregator(START_DATE, START_DATE.plusDays(DAYS - 1));
+        for (int row = 0; row < rowDateTimes.length; row++) {
+            aggregator.addOrderLine(rowOrderIds[row], rowDateTimes[row], rowProductNumbers[row], null, rowQuantities[row], rowUnitPrices[row]);
+        }
+        aggregator.topByQuantity(10);
+        aggregator.topByAmount(10);
+        return aggregator;
+    }
+
+    @Benchmark
+    public Object boxedMaps() {
+        Map<Integer, Long> hourlyOrderCounts = new HashMap<>();
+        Map<LocalDate, Long> dailyOrderCounts = new HashMap<>();
+        Map<LocalDate, Long> dailyItemCounts = new HashMap<>();
+        Map<String, Long> productQuantities = new HashMap<>();
+        Map<String, Long> productAmounts = new HashMap<>();
+        for (LocalDateTime orderDateTime : orderDateTimes) {
+            hourlyOrderCounts.merge(orderDateTime.getHour(), 1L, Long::sum);
+            dailyOrderCounts.merge(orderDateTime.toLocalDate(), 1L, Long::sum);
+        }
+        for (int row = 0; row < rowDateTimes.length; row++) {
+            productQuantities.merge(rowProductNumbers[row], (long) rowQuantities[row], Long::sum);
+            productAmounts.merge(rowProductNumbers[row], (long) rowQuantities[row] * rowUnitPrices[row], Long::sum);
+            dailyItemCounts.merge(rowDateTimes[row].toLocalDate(), (long) rowQuantities[row], Long::sum);
+        }
+        return new Object[]{hourlyOrderCounts, dailyOrderCounts, dailyItemCounts,
+                top(productQuantities), top(productAmounts)};
+    }
+
+    private static Object top(Map<String, Long> values) {
+        return values.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .limit(10)
+                .toList();
+    }
+}
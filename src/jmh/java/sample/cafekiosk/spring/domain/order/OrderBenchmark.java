@@ -0,0 +1,71 @@
+package sample.cafekiosk.spring.domain.order;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import sample.cafekiosk.spring.api.service.order.response.OrderResponse;
+import sample.cafekiosk.spring.api.service.product.response.ProductResponse;
+import sample.cafekiosk.spring.domain.product.Product;
+import sample.cafekiosk.spring.domain.product.ProductSellingStatus;
+import sample.cafekiosk.spring.domain.product.ProductType;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// 주문 엔티티 생성과 응답 매핑을 상품 목록 크기별로 측정한다.
+@State(Scope.Benchmark)
+public class OrderBenchmark {
+
+    private static final LocalDateTime REGISTERED_DATE_TIME = LocalDateTime.of(2023, 3, 5, 10, 0);
+
+    @Param({"1", "10", "100", "1000"})
+    private int cartSize;
+
+    private List<Product> products;
+    private Order order;
+
+    @Setup
+    public void setUp() {
+        products = new ArrayList<>();
+        ProductType[] types = ProductType.values();
+        for (int i = 0; i < cartSize; i++) {
+            products.add(Product.builder()
+                    .productNumber(String.format("%03d", i % 50 + 1))
+                    .type(types[i % types.length])
+                    .sellingStatus(ProductSellingStatus.SELLING)
+                    .name("메뉴 " + i)
+                    .price(1000 + i % 50 * 100)
+                    .build());
+        }
+        order = Order.create(products, REGISTERED_DATE_TIME);
+    }
+
+    @Benchmark
+    public Order create() {
+        return Order.create(products, REGISTERED_DATE_TIME);
+    }
+
+    @Benchmark
+    public OrderResponse orderResponseOf() {
+        return OrderResponse.of(order);
+    }
+
+    @Benchmark
+    public List<ProductResponse> productResponseOf() {
+        return products.stream()
+                .map(ProductResponse::of)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public void containsStockType(Blackhole blackhole) {
+        for (Product product : products) {
+            blackhole.consume(ProductType.containsStockType(product.getType()));
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package sample.cafekiosk.unit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import sample.cafekiosk.unit.beverage.Americano;
+import sample.cafekiosk.unit.beverage.Latte;
+
+// 장바구니 크기별 음료 담기 / 수량 변경 / 총액 계산 비용 (수량 기반 장바구니라 크기와 무관해야 한다)
+@State(Scope.Benchmark)
+public class CafeKioskBenchmark {
+
+    @Param({"1", "10", "100", "1000"})
+    private int cartSize;
+
+    private CafeKiosk filledKiosk;
+
+    @Setup
+    public void setUp() {
+        filledKiosk = fill(new CafeKiosk());
+    }
+
+    @Benchmark
+    public CafeKiosk add() {
+        return fill(new CafeKiosk());
+    }
+
+    @Benchmark
+    public CafeKiosk addWithCount() {
+        CafeKiosk cafeKiosk = new CafeKiosk();
+        cafeKiosk.add(new Americano(), cartSize);
+        return cafeKiosk;
+    }
+
+    @Benchmark
+    public CafeKiosk changeQuantity() {
+        CafeKiosk cafeKiosk = new CafeKiosk();
+        Americano americano = new Americano();
+        cafeKiosk.add(americano);
+        cafeKiosk.changeQuantity(americano, cartSize);
+        return cafeKiosk;
+    }
+
+    @Benchmark
+    public int calculateTotalPrice() {
+        return filledKiosk.calculateTotalPrice();
+    }
+
+    private CafeKiosk fill(CafeKiosk cafeKiosk) {
+        Americano americano = new Americano();
+        Latte latte = new Latte();
+        for (int i = 0; i < cartSize; i++) {
+            cafeKiosk.add(i % 2 == 0 ? americano : latte);
+        }
+        return cafeKiosk;
+    }
+}
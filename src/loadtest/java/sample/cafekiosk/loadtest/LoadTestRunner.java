@@ -0,0 +1,179 @@
+package sample.cafekiosk.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+실행 중인 서버에 동시 사용자 수만큼 요청을 계속 보내고 처리량과 지연시간 분포를 출력한다.
+각 사용자는 응답을 받으면 바로 다음 요청을 보낸다. (closed loop)
+
+platform / virtual thread 비교 방법
+1. ./gradlew bootRun --args='--spring.profiles.active=local'
+   ./gradlew loadTest -Plabel=platform
+2. ./gradlew bootRun -PjavaVersion=21 --args='--spring.profiles.active=local,virtual'
+   ./gradlew loadTest -Plabel=virtual
+3. build/loadtest/results.csv 에 두 결과가 한 줄씩 쌓인다.
+
+옵션: --base-url, --scenario(orders | selling | all), --concurrency, --duration(초), --warmup(초), --label
+ */
+public class LoadTestRunner {
+
+    private static final Map<String, Scenario> SCENARIOS = Map.of(
+            "orders", new Scenario("orders", "/api/v1/orders/new", "POST", "{\"productNumbers\":[\"001\",\"002\"]}"),
+            "selling", new Scenario("selling", "/api/v1/products/selling", "GET", null)
+    );
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        String baseUrl = options.getOrDefault("base-url", "http://localhost:8080");
+        String scenarioName = options.getOrDefault("scenario", "all");
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "1000"));
+        Duration duration = Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "30")));
+        Duration warmup = Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup", "5")));
+        String label = options.getOrDefault("label", "unlabeled");
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+
+        List<Scenario> scenarios = scenarioName.equals("all")
+                ? List.of(SCENARIOS.get("selling"), SCENARIOS.get("orders"))
+                : List.of(SCENARIOS.get(scenarioName));
+
+        for (Scenario scenario : scenarios) {
+            run(client, baseUrl, scenario, concurrency, warmup);
+            Result result = run(client, baseUrl, scenario, concurrency, duration);
+            String line = result.toCsv(label, scenario.name(), concurrency);
+            System.out.println(result.describe(label, scenario.name(), concurrency));
+            appendResult(line);
+        }
+    }
+
+    private static Result run(HttpClient client, String baseUrl, Scenario scenario, int concurrency, Duration duration) {
+        LatencyRecorder recorder = new LatencyRecorder();
+        AtomicLong errorCount = new AtomicLong();
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + duration.toNanos();
+
+        CompletableFuture<?>[] users = new CompletableFuture[concurrency];
+        for (int i = 0; i < concurrency; i++) {
+            users[i] = loop(client, scenario.request(baseUrl), deadline, recorder, errorCount);
+        }
+        CompletableFuture.allOf(users).join();
+
+        return new Result(recorder.snapshot(), errorCount.get(), System.nanoTime() - startedAt);
+    }
+
+    private static CompletableFuture<Void> loop(HttpClient client, HttpRequest request, long deadline,
+                                                LatencyRecorder recorder, AtomicLong errorCount) {
+        if (System.nanoTime() >= deadline) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        long sentAt = System.nanoTime();
+        return client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .handle((response, throwable) -> {
+                    if (throwable != null || response.statusCode() >= 400) {
+                        errorCount.incrementAndGet();
+                    } else {
+                        recorder.record(System.nanoTime() - sentAt);
+                    }
+                    return null;
+                })
+                .thenCompose(ignored -> loop(client, request, deadline, recorder, errorCount));
+    }
+
+    private static void appendResult(String line) throws IOException {
+        Path path = Path.of("build", "loadtest", "results.csv");
+        Files.createDirectories(path.getParent());
+        if (Files.notExists(path)) {
+            Files.writeString(path, Result.CSV_HEADER + System.lineSeparator());
+        }
+        Files.writeString(path, line + System.lineSeparator(), StandardOpenOption.APPEND);
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            options.put(args[i].replaceFirst("^--", ""), args[i + 1]);
+        }
+        return options;
+    }
+
+    private record Scenario(String name, String path, String method, String body) {
+
+        private HttpRequest request(String baseUrl) {
+            HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .timeout(Duration.ofSeconds(30));
+            if (body == null) {
+                return builder.method(method, HttpRequest.BodyPublishers.noBody()).build();
+            }
+            return builder.header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+        }
+    }
+
+    // 응답 지연시간(ns)을 모아두는 단순한 가변 배열
+    private static class LatencyRecorder {
+
+        private long[] latencies = new long[1 << 16];
+        private int size;
+
+        private synchronized void record(long latencyNanos) {
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            latencies[size++] = latencyNanos;
+        }
+
+        private synchronized long[] snapshot() {
+            long[] copy = Arrays.copyOf(latencies, size);
+            Arrays.sort(copy);
+            return copy;
+        }
+    }
+
+    private record Result(long[] sortedLatencies, long errorCount, long elapsedNanos) {
+
+        private static final String CSV_HEADER = "label,scenario,concurrency,requests,errors,throughput_per_sec,p50_ms,p90_ms,p99_ms,p999_ms,max_ms";
+
+        private double throughput() {
+            return sortedLatencies.length / (elapsedNanos / 1_000_000_000.0);
+        }
+
+        private double percentileMillis(double percentile) {
+            if (sortedLatencies.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+            return sortedLatencies[Math.max(index, 0)] / 1_000_000.0;
+        }
+
+        private String toCsv(String label, String scenario, int concurrency) {
+            return String.format("%s,%s,%d,%d,%d,%.1f,%.2f,%.2f,%.2f,%.2f,%.2f", label, scenario, concurrency,
+                    sortedLatencies.length, errorCount, throughput(),
+                    percentileMillis(0.5), percentileMillis(0.9), percentileMillis(0.99), percentileMillis(0.999), percentileMillis(1.0));
+        }
+
+        private String describe(String label, String scenario, int concurrency) {
+            return String.format("[%s] %s (동시 사용자 %d명) 요청 %d건, 실패 %d건, 처리량 %.1f req/s, p50 %.2fms, p99 %.2fms, p99.9 %.2fms, max %.2fms",
+                    label, scenario, concurrency, sortedLatencies.length, errorCount, throughput(),
+                    percentileMillis(0.5), percentileMillis(0.99), percentileMillis(0.999), percentileMillis(1.0));
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package sample.cafekiosk.spring.api.controller.kiosk;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import sample.cafekiosk.spring.api.controller.kiosk.dto.request.KioskItemAddRequest;
+import sample.cafekiosk.spring.api.service.kiosk.KioskMenu;
+import sample.cafekiosk.spring.api.service.kiosk.KioskSessionManager;
+import sample.cafekiosk.spring.api.service.kiosk.response.KioskCartResponse;
+import sample.cafekiosk.spring.api.service.order.response.OrderResponse;
+
+import java.time.LocalDateTime;
+
+// 키오스크 화면(세션)별 장바구니. 세션 id 는 화면이 만들어서 보낸다.
+@RequiredArgsConstructor
+@RestController
+public class KioskController {
+
+    private final KioskSessionManager kioskSessionManager;
+
+    @GetMapping("/api/v1/kiosk/sessions/{sessionId}")
+    public KioskCartResponse getCart(@PathVariable String sessionId){
+        return kioskSessionManager.getCart(sessionId);
+    }
+
+    @PostMapping("/api/v1/kiosk/sessions/{sessionId}/items")
+    public KioskCartResponse addItem(@PathVariable String sessionId, @RequestBody KioskItemAddRequest request){
+        kioskSessionManager.add(sessionId, KioskMenu.get(request.getProductNumber()), request.getCount());
+        return kioskSessionManager.getCart(sessionId);
+    }
+
+    @PatchMapping("/api/v1/kiosk/sessions/{sessionId}/items/{productNumber}")
+    public KioskCartResponse changeQuantity(@PathVariable String sessionId, @PathVariable String productNumber, @RequestParam int quantity){
+        kioskSessionManager.changeQuantity(sessionId, KioskMenu.get(productNumber), quantity);
+        return kioskSessionManager.getCart(sessionId);
+    }
+
+    // 한 잔을 뺀다.
+    @DeleteMapping("/api/v1/kiosk/sessions/{sessionId}/items/{productNumber}")
+    public KioskCartResponse removeItem(@PathVariable String sessionId, @PathVariable String productNumber){
+        kioskSessionManager.remove(sessionId, KioskMenu.get(productNumber));
+        return kioskSessionManager.getCart(sessionId);
+    }
+
+    @PostMapping("/api/v1/kiosk/sessions/{sessionId}/checkout")
+    public OrderResponse checkout(@PathVariable String sessionId){
+        return kioskSessionManager.checkout(sessionId, LocalDateTime.now());
+    }
+
+    @DeleteMapping("/api/v1/kiosk/sessions/{sessionId}")
+    public void close(@PathVariable String sessionId){
+        kioskSessionManager.close(sessionId);
+    }
+}
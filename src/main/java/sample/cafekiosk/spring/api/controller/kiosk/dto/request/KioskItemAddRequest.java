@@ -0,0 +1,19 @@
+package sample.cafekiosk.spring.api.controller.kiosk.dto.request;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class KioskItemAddRequest {
+
+    private String productNumber;
+    private int count = 1;
+
+    @Builder
+    public KioskItemAddRequest(String productNumber, int count) {
+        this.productNumber = productNumber;
+        this.count = count;
+    }
+}
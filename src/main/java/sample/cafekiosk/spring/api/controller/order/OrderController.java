@@ -1,22 +1,84 @@
 package sample.cafekiosk.spring.api.controller.order;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import sample.cafekiosk.spring.api.service.order.OrderIdempotencyService;
 import sample.cafekiosk.spring.api.service.order.OrderService;
+import sample.cafekiosk.spring.api.service.order.OrderStatusService;
+import sample.cafekiosk.spring.api.service.order.request.OrderBatchCreateRequest;
 import sample.cafekiosk.spring.api.service.order.request.OrderCreateRequest;
+import sample.cafekiosk.spring.api.service.order.request.OrderSearchRequest;
+import sample.cafekiosk.spring.api.service.order.request.OrderStatusChangeRequest;
+import sample.cafekiosk.spring.api.service.order.response.OrderBatchResponse;
+import sample.cafekiosk.spring.api.service.order.response.OrderPageResponse;
+import sample.cafekiosk.spring.api.service.order.response.OrderResponse;
+import sample.cafekiosk.spring.api.service.order.response.OrderStatusChangeResponse;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
 public class OrderController {
 
     private final OrderService orderService;
+    private final OrderIdempotencyService orderIdempotencyService;
+    private final OrderStatusService orderStatusService;
 
+    // 재시도할 수 있는 클라이언트는 Idempotency-Key 를 보내면 같은 요청이 한 번만 처리된다.
     @PostMapping("/api/v1/orders/new")
-    public void createOrder(OrderCreateRequest request){
+    public OrderResponse createOrder(@RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+                                     @RequestBody OrderCreateRequest request){
         LocalDateTime registeredDateTime = LocalDateTime.now();
-        orderService.createOrder(request, registeredDateTime);
+        if (idempotencyKey == null) {
+            return orderService.createOrder(request, registeredDateTime);
+        }
+        return orderIdempotencyService.createOrder(idempotencyKey, request, registeredDateTime);
+    }
+
+    @PostMapping("/api/v1/orders/batch")
+    public OrderBatchResponse createOrders(@RequestBody OrderBatchCreateRequest request){
+        LocalDateTime registeredDateTime = LocalDateTime.now();
+        return orderService.createOrders(request, registeredDateTime);
+    }
+
+    // 주문별 결과(CHANGED / NOT_FOUND / STATUS_MISMATCH)를 요청한 순서대로 응답한다.
+    @PostMapping("/api/v1/orders/status")
+    public OrderStatusChangeResponse changeOrderStatuses(@RequestBody OrderStatusChangeRequest request){
+        return orderStatusService.changeOrderStatuses(request);
+    }
+
+    @GetMapping("/api/v1/orders")
+    public OrderPageResponse getOrders(@RequestParam(required = false) OrderStatus orderStatus,
+                                       @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDateTime,
+                                       @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDateTime,
+                                       @RequestParam(required = false) String cursor,
+                                       @RequestParam(required = false) Integer size){
+        return orderService.getOrders(OrderSearchRequest.builder()
+                .orderStatus(orderStatus)
+                .startDateTime(startDateTime)
+                .endDateTime(endDateTime)
+                .cursor(cursor)
+                .size(size)
+                .build());
+    }
+
+    @GetMapping("/api/v1/orders/{orderId}")
+    public OrderResponse getOrder(@PathVariable Long orderId){
+        return orderService.getOrder(orderId);
+    }
+
+    @GetMapping("/api/v1/orders/daily")
+    public List<OrderResponse> getDailyOrders(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate orderDate){
+        return orderService.getDailyOrders(orderDate);
     }
 }
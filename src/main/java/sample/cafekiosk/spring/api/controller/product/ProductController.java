@@ -1,14 +1,20 @@
 package sample.cafekiosk.spring.api.controller.product;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import sample.cafekiosk.spring.api.controller.product.dto.request.ProductCreateRequest;
 import sample.cafekiosk.spring.api.service.ProductService;
+import sample.cafekiosk.spring.api.service.product.SellingProducts;
 import sample.cafekiosk.spring.api.service.product.response.ProductResponse;
-
-import java.util.List;
+import sample.cafekiosk.spring.domain.product.ProductSellingStatus;
 
 @RequiredArgsConstructor
 @RestController
@@ -21,8 +27,22 @@ public class ProductController {
         productService.createProduct(request);
     }
 
+    @PatchMapping("/api/v1/products/{productNumber}/selling-status")
+    public ProductResponse changeSellingStatus(@PathVariable String productNumber, @RequestParam ProductSellingStatus sellingStatus){
+        return productService.changeSellingStatus(productNumber, sellingStatus);
+    }
+
+    // 목록이 바뀌지 않았다면 If-None-Match 에 대해 본문 없이 304 로 응답한다.
     @GetMapping("/api/v1/products/selling")
-    public List<ProductResponse> getSellingProducts(){
-        return productService.getSellingProducts();
+    public ResponseEntity<byte[]> getSellingProducts(WebRequest webRequest){
+        SellingProducts sellingProducts = productService.getSellingProductsSnapshot();
+        if (webRequest.checkNotModified(sellingProducts.eTag())) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .eTag(sellingProducts.eTag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(sellingProducts.body());
     }
 }
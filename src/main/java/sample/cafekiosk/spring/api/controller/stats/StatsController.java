@@ -0,0 +1,61 @@
+package sample.cafekiosk.spring.api.controller.stats;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import sample.cafekiosk.spring.api.service.order.OrderSalesReportService;
+import sample.cafekiosk.spring.api.service.order.OrderStatisticsService;
+import sample.cafekiosk.spring.api.service.order.SalesReportPeriod;
+import sample.cafekiosk.spring.api.service.order.response.OrderSalesReportResponse;
+import sample.cafekiosk.spring.api.service.order.response.OrderStatisticsResponse;
+import sample.cafekiosk.spring.api.service.sales.DailySalesService;
+import sample.cafekiosk.spring.api.service.stats.SalesAnalyticsService;
+import sample.cafekiosk.spring.api.service.stats.response.SalesStatsResponse;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@RequiredArgsConstructor
+@RestController
+public class StatsController {
+
+    private final OrderSalesReportService orderSalesReportService;
+    private final OrderStatisticsService orderStatisticsService;
+    private final SalesAnalyticsService salesAnalyticsService;
+    private final DailySalesService dailySalesService;
+
+    @GetMapping("/api/v1/stats/sales")
+    public SalesStatsResponse getSalesStats(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+                                            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+                                            @RequestParam(defaultValue = "PAYMENT_COMPLETED") OrderStatus orderStatus,
+                                            @RequestParam(defaultValue = "10") int topN){
+        return salesAnalyticsService.getSalesStats(startDate, endDate, orderStatus, topN);
+    }
+
+    // 기간 전체의 주문 수와 매출 합계를 orders 에서 바로 집계한다. (집계 단위별로 나눈 결과는 /sales/report)
+    @GetMapping("/api/v1/stats/orders")
+    public OrderStatisticsResponse getOrderStatistics(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+                                                      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+                                                      @RequestParam(defaultValue = "PAYMENT_COMPLETED") OrderStatus orderStatus){
+        return orderStatisticsService.getOrderStatistics(startDate, endDate, orderStatus);
+    }
+
+    @GetMapping("/api/v1/stats/sales/report")
+    public OrderSalesReportResponse getSalesReport(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+                                                   @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+                                                   @RequestParam(defaultValue = "PAYMENT_COMPLETED") OrderStatus orderStatus,
+                                                   @RequestParam(defaultValue = "DAY") SalesReportPeriod period){
+        return orderSalesReportService.getSalesReport(startDate, endDate, orderStatus, period, LocalDateTime.now());
+    }
+
+    // 지난 날짜의 daily_sales 집계를 orders 에서 다시 만든다. (집계 도입 전 주문 채워 넣기 / 보정)
+    @PostMapping("/api/v1/stats/sales/daily/rebuild")
+    public void rebuildDailySales(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+                                  @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate){
+        dailySalesService.rebuild(startDate, endDate);
+    }
+}
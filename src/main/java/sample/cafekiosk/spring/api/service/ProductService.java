@@ -1,16 +1,25 @@
 package sample.cafekiosk.spring.api.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import sample.cafekiosk.spring.api.controller.product.dto.request.ProductCreateRequest;
+import sample.cafekiosk.spring.api.service.product.ProductMetrics;
+import sample.cafekiosk.spring.api.service.product.ProductMetrics.Operation;
+import sample.cafekiosk.spring.api.service.product.SellingProducts;
+import sample.cafekiosk.spring.api.service.product.SellingProductsCache;
 import sample.cafekiosk.spring.domain.product.Product;
+import sample.cafekiosk.spring.domain.product.ProductChangedEvent;
+import sample.cafekiosk.spring.domain.product.ProductCreatedEvent;
+import sample.cafekiosk.spring.domain.product.ProductNumberAllocator;
 import sample.cafekiosk.spring.domain.product.ProductRepository;
 import sample.cafekiosk.spring.domain.product.ProductSellingStatus;
+import sample.cafekiosk.spring.domain.product.ProductSnapshot;
 import sample.cafekiosk.spring.api.service.product.response.ProductResponse;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 import static sample.cafekiosk.spring.domain.product.ProductSellingStatus.SELLING;
 import static sample.cafekiosk.spring.domain.product.ProductType.HANDMADE;
@@ -21,34 +30,44 @@ import static sample.cafekiosk.spring.domain.product.ProductType.HANDMADE;
 public class ProductService {
 
     private final ProductRepository productRepository;
+    private final ProductNumberAllocator productNumberAllocator;
+    private final SellingProductsCache sellingProductsCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ProductMetrics productMetrics;
 
     public List<ProductResponse> getSellingProducts(){
-        List<Product> products = productRepository.findAllBySellingStatusIn(ProductSellingStatus.forDisplay());
+        return getSellingProductsSnapshot().products();
+    }
 
-        return products.stream()
-                .map(ProductResponse::of)
-                .collect(Collectors.toList());
+    // 캐시에 있으면 트랜잭션(커넥션) 없이 바로 돌려준다. 캐시를 다시 채울 때만 캐시가 직접 트랜잭션을 연다.
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public SellingProducts getSellingProductsSnapshot(){
+        return productMetrics.record(Operation.SELLING_PRODUCTS, sellingProductsCache::get);
     }
 
     @Transactional
     public ProductResponse createProduct(ProductCreateRequest request) {
-        String nextProductNumber = createNextProductNumber();
+        return productMetrics.record(Operation.CREATE, () -> {
+            String nextProductNumber = productNumberAllocator.allocate();
 
-        Product product = request.toEntity(nextProductNumber);
-        Product savedProduct = productRepository.save(product);
+            Product product = request.toEntity(nextProductNumber);
+            Product savedProduct = productRepository.save(product);
+            eventPublisher.publishEvent(new ProductCreatedEvent(ProductSnapshot.of(savedProduct)));
 
-        return ProductResponse.of(savedProduct);
+            return ProductResponse.of(savedProduct);
+        });
     }
 
-    private String createNextProductNumber(){
-        String latestProdcutNumber = productRepository.findLatestProductNumber();
-        if(latestProdcutNumber == null) {
-            return "001";
-        }
+    @Transactional
+    public ProductResponse changeSellingStatus(String productNumber, ProductSellingStatus sellingStatus) {
+        return productMetrics.record(Operation.CHANGE_SELLING_STATUS, () -> {
+            Product product = productRepository.findByProductNumber(productNumber)
+                    .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 상품입니다. productNumber=" + productNumber));
 
-        int latestProductNumberInt = Integer.parseInt(latestProdcutNumber);
-        int nextProductNumberInt = latestProductNumberInt + 1;
+            product.changeSellingStatus(sellingStatus);
+            eventPublisher.publishEvent(new ProductChangedEvent(ProductSnapshot.of(product)));
 
-        return String.format("%03d", nextProductNumberInt);
+            return ProductResponse.of(product);
+        });
     }
 }
@@ -0,0 +1,28 @@
+package sample.cafekiosk.spring.api.service.kiosk;
+
+import sample.cafekiosk.unit.beverage.Americano;
+import sample.cafekiosk.unit.beverage.Beverage;
+import sample.cafekiosk.unit.beverage.Latte;
+
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// 키오스크 화면에서 고를 수 있는 음료. API 로 들어온 상품번호를 음료로 바꾼다.
+public final class KioskMenu {
+
+    private static final Map<String, Beverage> BEVERAGES = Stream.of(new Americano(), new Latte())
+            .collect(Collectors.toUnmodifiableMap(Beverage::getProductNumber, Function.identity()));
+
+    private KioskMenu() {
+    }
+
+    public static Beverage get(String productNumber) {
+        Beverage beverage = BEVERAGES.get(productNumber);
+        if (beverage == null) {
+            throw new IllegalArgumentException("키오스크에서 판매하지 않는 상품입니다. productNumber=" + productNumber);
+        }
+        return beverage;
+    }
+}
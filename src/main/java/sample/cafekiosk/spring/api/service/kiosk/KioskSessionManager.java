@@ -0,0 +1,196 @@
+package sample.cafekiosk.spring.api.service.kiosk;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalNotification;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import sample.cafekiosk.spring.api.service.kiosk.response.KioskCartResponse;
+import sample.cafekiosk.spring.api.service.order.OrderService;
+import sample.cafekiosk.spring.api.service.order.request.OrderCreateRequest;
+import sample.cafekiosk.spring.api.service.order.response.OrderResponse;
+import sample.cafekiosk.unit.CafeKiosk;
+import sample.cafekiosk.unit.beverage.Beverage;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/*
+키오스크 화면(세션)마다 CafeKiosk 장바구니를 하나씩 들고 있는다.
+세션 수는 max-sessions 로 제한하고, idle-timeout 동안 쓰지 않은 장바구니는 버린다.
+CafeKiosk 자체는 thread-safe 하지 않으므로 장바구니를 건드릴 때는 세션마다 있는 lock 을 잡는다.
+한 화면은 한 사람이 쓰기 때문에 세션 간에는 서로 기다리지 않는다.
+결제 중에는 lock 을 잡은 채 DB 작업을 하므로, virtual thread 에서 carrier 를 붙잡지 않도록 synchronized 대신 ReentrantLock 을 쓴다.
+결제(checkout)는 장바구니를 OrderCreateRequest 로 바꿔 OrderService 로 주문을 만들고, 성공하면 세션을 닫는다.
+세션을 가져온 뒤 lock 을 기다리는 동안 결제나 종료로 세션이 닫힐 수 있으므로, lock 을 잡은 다음 닫혔는지 다시 확인한다.
+닫힌 세션에 담으려던 요청은 새 세션을 만들어 다시 담는다. (닫힌 장바구니에 담겨서 사라지는 일이 없다.)
+ */
+@Component
+public class KioskSessionManager {
+
+    private final OrderService orderService;
+    private final Cache<String, KioskSession> sessions;
+
+    public KioskSessionManager(OrderService orderService,
+                               MeterRegistry meterRegistry,
+                               @Value("${cafekiosk.kiosk.session.max-sessions:20000}") long maxSessions,
+                               @Value("${cafekiosk.kiosk.session.idle-timeout-minutes:30}") long idleTimeoutMinutes) {
+        this.orderService = orderService;
+        this.sessions = CacheBuilder.newBuilder()
+                .maximumSize(maxSessions)
+                .expireAfterAccess(Duration.ofMinutes(idleTimeoutMinutes))
+                // 만료/용량 초과로 버려진 세션도 닫힌 것으로 표시한다. 다른 세션의 lock 을 기다리지 않도록 lock 없이 표시만 한다.
+                .removalListener((RemovalNotification<String, KioskSession> notification) -> {
+                    if (notification.wasEvicted()) {
+                        notification.getValue().markClosed();
+                    }
+                })
+                .build();
+        meterRegistry.gauge("cafekiosk.kiosk.sessions", sessions, Cache::size);
+    }
+
+    public void add(String sessionId, Beverage beverage, int count) {
+        update(sessionId, cafeKiosk -> cafeKiosk.add(beverage, count));
+    }
+
+    public void remove(String sessionId, Beverage beverage) {
+        KioskSession session = sessions.getIfPresent(sessionId);
+        if (session != null) {
+            session.run(cafeKiosk -> cafeKiosk.remove(beverage));
+        }
+    }
+
+    public void changeQuantity(String sessionId, Beverage beverage, int quantity) {
+        update(sessionId, cafeKiosk -> cafeKiosk.changeQuantity(beverage, quantity));
+    }
+
+    public int calculateTotalPrice(String sessionId) {
+        KioskSession session = sessions.getIfPresent(sessionId);
+        return session == null ? 0 : session.call(CafeKiosk::calculateTotalPrice, 0);
+    }
+
+    public List<Beverage> getBeverages(String sessionId) {
+        KioskSession session = sessions.getIfPresent(sessionId);
+        return session == null ? List.of() : session.call(CafeKiosk::getBeverages, List.of());
+    }
+
+    // 수량과 총액을 같은 lock 안에서 읽어서 서로 어긋나지 않는 장바구니를 돌려준다.
+    public KioskCartResponse getCart(String sessionId) {
+        KioskSession session = sessions.getIfPresent(sessionId);
+        KioskCartResponse emptyCart = KioskCartResponse.of(sessionId, Map.of(), 0);
+        return session == null
+                ? emptyCart
+                : session.call(cafeKiosk -> KioskCartResponse.of(sessionId, cafeKiosk.getQuantities(), cafeKiosk.calculateTotalPrice()), emptyCart);
+    }
+
+    /*
+    결제하는 동안 같은 세션의 담기/빼기는 기다리게 해서, 주문된 내용과 비워지는 장바구니가 어긋나지 않게 한다.
+    주문이 실패하면 장바구니는 그대로 남는다.
+     */
+    public OrderResponse checkout(String sessionId, LocalDateTime registeredDateTime) {
+        KioskSession session = sessions.getIfPresent(sessionId);
+        OrderResponse orderResponse = session == null ? null : session.call(cafeKiosk -> {
+            if (cafeKiosk.getQuantities().isEmpty()) {
+                throw new IllegalArgumentException("장바구니가 비어 있습니다.");
+            }
+
+            OrderResponse createdOrder = orderService.createOrder(toOrderCreateRequest(cafeKiosk.getQuantities()), registeredDateTime);
+            closeLocked(sessionId, session);
+            return createdOrder;
+        }, null);
+
+        if (orderResponse == null) {
+            throw new IllegalArgumentException("장바구니가 비어 있습니다.");
+        }
+        return orderResponse;
+    }
+
+    public void close(String sessionId) {
+        KioskSession session = sessions.getIfPresent(sessionId);
+        if (session != null) {
+            session.run(cafeKiosk -> closeLocked(sessionId, session));
+        }
+    }
+
+    public long getSessionCount() {
+        return sessions.size();
+    }
+
+    // 만료된 세션 정리는 접근할 때 조금씩 일어난다. 테스트나 측정에서 바로 정리하고 싶을 때 사용한다.
+    public void cleanUp() {
+        sessions.cleanUp();
+    }
+
+    static OrderCreateRequest toOrderCreateRequest(Map<Beverage, Integer> quantities) {
+        List<String> productNumbers = new ArrayList<>();
+        quantities.forEach((beverage, quantity) ->
+                productNumbers.addAll(Collections.nCopies(quantity, beverage.getProductNumber())));
+
+        return OrderCreateRequest.builder()
+                .productNumbers(productNumbers)
+                .build();
+    }
+
+    // 가져온 세션이 lock 을 기다리는 사이에 닫혔다면 새 세션을 만들어 다시 시도한다.
+    private void update(String sessionId, Consumer<CafeKiosk> action) {
+        while (!getOrCreate(sessionId).run(action)) {
+            Thread.onSpinWait();
+        }
+    }
+
+    // 세션 lock 을 잡은 상태에서 호출한다. 그 사이 같은 id 로 새로 만들어진 세션은 지우지 않는다.
+    private void closeLocked(String sessionId, KioskSession session) {
+        session.cafeKiosk.clear();
+        session.markClosed();
+        sessions.asMap().remove(sessionId, session);
+    }
+
+    private KioskSession getOrCreate(String sessionId) {
+        try {
+            return sessions.get(sessionId, KioskSession::new);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("키오스크 세션을 만들지 못했습니다. sessionId=" + sessionId, e.getCause());
+        }
+    }
+
+    private static class KioskSession {
+
+        private final CafeKiosk cafeKiosk = new CafeKiosk();
+        private final ReentrantLock lock = new ReentrantLock();
+        private volatile boolean closed;
+
+        void markClosed() {
+            closed = true;
+        }
+
+        // 닫힌 세션이면 action 을 실행하지 않고 false 를 돌려준다.
+        boolean run(Consumer<CafeKiosk> action) {
+            return call(kiosk -> {
+                action.accept(kiosk);
+                return Boolean.TRUE;
+            }, Boolean.FALSE);
+        }
+
+        // 닫힌 세션이면 action 을 실행하지 않고 closedValue 를 돌려준다.
+        <T> T call(Function<CafeKiosk, T> action, T closedValue) {
+            lock.lock();
+            try {
+                if (closed) {
+                    return closedValue;
+                }
+                return action.apply(cafeKiosk);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
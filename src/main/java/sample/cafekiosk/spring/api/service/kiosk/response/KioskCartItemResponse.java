@@ -0,0 +1,31 @@
+package sample.cafekiosk.spring.api.service.kiosk.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import sample.cafekiosk.unit.beverage.Beverage;
+
+@Getter
+public class KioskCartItemResponse {
+
+    private String productNumber;
+    private String name;
+    private int price;
+    private int quantity;
+
+    @Builder
+    public KioskCartItemResponse(String productNumber, String name, int price, int quantity) {
+        this.productNumber = productNumber;
+        this.name = name;
+        this.price = price;
+        this.quantity = quantity;
+    }
+
+    public static KioskCartItemResponse of(Beverage beverage, int quantity) {
+        return KioskCartItemResponse.builder()
+                .productNumber(beverage.getProductNumber())
+                .name(beverage.getName())
+                .price(beverage.getPrice())
+                .quantity(quantity)
+                .build();
+    }
+}
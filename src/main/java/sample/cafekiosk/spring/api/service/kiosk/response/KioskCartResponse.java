@@ -0,0 +1,35 @@
+package sample.cafekiosk.spring.api.service.kiosk.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import sample.cafekiosk.unit.beverage.Beverage;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Getter
+public class KioskCartResponse {
+
+    private String sessionId;
+    private int totalPrice;
+    private List<KioskCartItemResponse> items;
+
+    @Builder
+    public KioskCartResponse(String sessionId, int totalPrice, List<KioskCartItemResponse> items) {
+        this.sessionId = sessionId;
+        this.totalPrice = totalPrice;
+        this.items = items;
+    }
+
+    // 담긴 순서대로 음료별 한 줄씩 만든다.
+    public static KioskCartResponse of(String sessionId, Map<Beverage, Integer> quantities, int totalPrice) {
+        return KioskCartResponse.builder()
+                .sessionId(sessionId)
+                .totalPrice(totalPrice)
+                .items(quantities.entrySet().stream()
+                        .map(entry -> KioskCartItemResponse.of(entry.getKey(), entry.getValue()))
+                        .collect(Collectors.toList()))
+                .build();
+    }
+}
@@ -0,0 +1,183 @@
+package sample.cafekiosk.spring.api.service.mail;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import sample.cafekiosk.spring.client.mail.MailSendClient;
+import sample.cafekiosk.spring.domain.history.mail.MailSendHistory;
+import sample.cafekiosk.spring.domain.history.mail.MailSendHistoryRepository;
+import sample.cafekiosk.spring.domain.history.mail.MailSendStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/*
+outbox 에 쌓인 메일을 batchSize 건씩 가져가서 보낸다.
+한 건씩 조건부 UPDATE 로 가져가고(claim), 가져간 건들은 동시에 전송한 뒤 각각 결과를 기록한다.
+실패하면 지수 백오프로 다음 시도 시각을 미루고, maxAttempts 번 실패하면 DEAD 로 남긴다.
+전송 대기는 대부분 네트워크 I/O 이므로 virtual thread 모드(spring.threads.virtual.enabled)에서는 virtual thread 로 전송한다.
+ */
+@Slf4j
+@Component
+public class MailOutboxDispatcher {
+
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(10);
+
+    private final MailSendClient mailSendClient;
+    private final MailSendHistoryRepository mailSendHistoryRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Timer sendSuccessTimer;
+    private final Timer sendFailureTimer;
+    private final Counter deadCounter;
+    private final Counter afterSendFailureCounter;
+    private final SimpleAsyncTaskExecutor executor;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration baseBackoff;
+    private final Duration lease;
+    private final boolean enabled;
+
+    public MailOutboxDispatcher(MailSendClient mailSendClient,
+                                MailSendHistoryRepository mailSendHistoryRepository,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry,
+                                @Value("${cafekiosk.mail.outbox.batch-size:50}") int batchSize,
+                                @Value("${cafekiosk.mail.outbox.max-attempts:5}") int maxAttempts,
+                                @Value("${cafekiosk.mail.outbox.base-backoff-ms:1000}") long baseBackoffMillis,
+                                @Value("${cafekiosk.mail.outbox.lease-ms:60000}") long leaseMillis,
+                                @Value("${cafekiosk.mail.outbox.enabled:true}") boolean enabled,
+                                @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.mailSendClient = mailSendClient;
+        this.mailSendHistoryRepository = mailSendHistoryRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.sendSuccessTimer = sendTimer(meterRegistry, "success");
+        this.sendFailureTimer = sendTimer(meterRegistry, "failure");
+        this.deadCounter = Counter.builder("cafekiosk.mail.dead")
+                .description("최대 시도 횟수만큼 실패해서 DEAD 로 남은 메일 수")
+                .register(meterRegistry);
+        this.afterSendFailureCounter = Counter.builder("cafekiosk.mail.after-send.failure")
+                .description("전송 뒤 후속 처리에 실패한 횟수")
+                .register(meterRegistry);
+        this.executor = new SimpleAsyncTaskExecutor("mail-outbox-");
+        this.executor.setConcurrencyLimit(batchSize);
+        if (virtualThreads) {
+            if (Runtime.version().feature() >= 21) {
+                this.executor.setVirtualThreads(true);
+            } else {
+                log.warn("virtual thread 는 Java 21 이상에서만 사용할 수 있습니다. 메일 전송은 platform thread 로 실행합니다.");
+            }
+        }
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.baseBackoff = Duration.ofMillis(baseBackoffMillis);
+        this.lease = Duration.ofMillis(leaseMillis);
+        this.enabled = enabled;
+    }
+
+    @Scheduled(fixedDelayString = "${cafekiosk.mail.outbox.poll-interval-ms:1000}")
+    public void scheduledDispatch() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            dispatch(LocalDateTime.now());
+        } catch (RuntimeException e) {
+            log.warn("메일 outbox 처리에 실패했습니다. 다음 주기에 다시 시도합니다.", e);
+        }
+    }
+
+    // 이번 배치에서 전송을 시도한 건수를 돌려준다.
+    public int dispatch(LocalDateTime now) {
+        List<Long> targetIds = transactionTemplate.execute(status ->
+                mailSendHistoryRepository.findDispatchTargetIds(now, PageRequest.of(0, batchSize)));
+
+        List<Long> claimedIds = targetIds.stream()
+                .filter(id -> claim(id, now))
+                .collect(Collectors.toList());
+
+        List<CompletableFuture<Void>> futures = claimedIds.stream()
+                .map(id -> executor.submitCompletable(() -> send(id, now)))
+                .collect(Collectors.toList());
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        return claimedIds.size();
+    }
+
+    private boolean claim(Long id, LocalDateTime now) {
+        Integer claimed = transactionTemplate.execute(status -> mailSendHistoryRepository.claim(id, now, now.plus(lease)));
+        return claimed != null && claimed == 1;
+    }
+
+    private void send(Long id, LocalDateTime now) {
+        MailSendHistory history = mailSendHistoryRepository.findById(id).orElse(null);
+        if (history == null) {
+            return;
+        }
+
+        String error;
+        Timer.Sample sample = Timer.start();
+        try {
+            if (mailSendClient.sendEmail(history.getFromEmail(), history.getToEmail(), history.getSubject(), history.getContent())) {
+                sample.stop(sendSuccessTimer);
+                // 메일은 이미 나갔으므로 후속 처리보다 먼저 전송 완료로 남긴다. (후속 처리가 실패해도 다시 보내지 않는다.)
+                record(id, sent -> sent.markSent(now));
+                afterSent(id);
+                return;
+            }
+            error = "메일 서버가 전송을 거절했습니다.";
+        } catch (RuntimeException e) {
+            error = e.getClass().getSimpleName() + ": " + e.getMessage();
+        }
+        sample.stop(sendFailureTimer);
+
+        String failure = error;
+        Duration backoff = backoff(history.getAttemptCount() + 1);
+        record(id, failed -> {
+            failed.markFailed(failure, now, maxAttempts, backoff);
+            if (failed.getStatus() == MailSendStatus.DEAD) {
+                deadCounter.increment();
+            }
+        });
+    }
+
+    private void afterSent(Long id) {
+        try {
+            mailSendClient.a();
+            mailSendClient.b();
+            mailSendClient.c();
+        } catch (RuntimeException e) {
+            afterSendFailureCounter.increment();
+            log.warn("메일 전송 후속 처리에 실패했습니다. 메일은 다시 보내지 않습니다. id={}", id, e);
+        }
+    }
+
+    private void record(Long id, Consumer<MailSendHistory> change) {
+        transactionTemplate.executeWithoutResult(status ->
+                mailSendHistoryRepository.findById(id).ifPresent(change));
+    }
+
+    private static Timer sendTimer(MeterRegistry meterRegistry, String result) {
+        return Timer.builder("cafekiosk.mail.send")
+                .description("outbox 메일 한 건의 전송 시간")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private Duration backoff(int attempt) {
+        Duration backoff = baseBackoff.multipliedBy(1L << Math.min(attempt - 1, 20));
+        return backoff.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : backoff;
+    }
+}
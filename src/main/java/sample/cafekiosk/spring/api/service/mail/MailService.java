@@ -1,36 +1,37 @@
 package sample.cafekiosk.spring.api.service.mail;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.stereotype.Service;
-import sample.cafekiosk.spring.client.mail.MailSendClient;
+import org.springframework.transaction.annotation.Transactional;
 import sample.cafekiosk.spring.domain.history.mail.MailSendHistory;
 import sample.cafekiosk.spring.domain.history.mail.MailSendHistoryRepository;
 
+import java.time.LocalDateTime;
+
 @Service
-@RequiredArgsConstructor
 public class MailService {
 
-    private final MailSendClient mailSendClient;
     private final MailSendHistoryRepository mailSendHistoryRepository;
+    private final Timer requestTimer;
 
-    public boolean sendMail(String fromEmail, String toEmail, String subject, String content) {
-
-        boolean result = mailSendClient.sendEmail(fromEmail, toEmail, subject, content);
-        if (result) {
-            mailSendHistoryRepository.save(MailSendHistory.builder()
-                    .fromEmail(fromEmail)
-                    .toEmail(toEmail)
-                    .subject(subject)
-                    .content(content)
-                    .build());
-
-            mailSendClient.a();
-            mailSendClient.b();
-            mailSendClient.c();
-
-            return true;
-        }
+    public MailService(MailSendHistoryRepository mailSendHistoryRepository, MeterRegistry meterRegistry) {
+        this.mailSendHistoryRepository = mailSendHistoryRepository;
+        this.requestTimer = Timer.builder("cafekiosk.mail.request")
+                .description("메일 전송 요청을 outbox 에 저장하는 시간")
+                .register(meterRegistry);
+    }
 
-        return false;
+    // 메일 서버를 기다리지 않는다. 호출한 쪽 트랜잭션과 함께 outbox 에 저장하고, 실제 전송은 MailOutboxDispatcher 가 한다.
+    @Transactional
+    public void sendMail(String fromEmail, String toEmail, String subject, String content) {
+        requestTimer.record(() ->
+                mailSendHistoryRepository.save(MailSendHistory.builder()
+                        .fromEmail(fromEmail)
+                        .toEmail(toEmail)
+                        .subject(subject)
+                        .content(content)
+                        .requestedDateTime(LocalDateTime.now())
+                        .build()));
     }
 }
@@ -0,0 +1,28 @@
+package sample.cafekiosk.spring.api.service.order;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// 주문 목록의 마지막 항목 위치. 클라이언트에는 base64 문자열로만 노출한다.
+public record OrderCursor(LocalDateTime registeredDateTime, Long id) {
+
+    private static final String DELIMITER = "_";
+
+    public String encode() {
+        String raw = registeredDateTime + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static OrderCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiterIndex = raw.lastIndexOf(DELIMITER);
+            return new OrderCursor(LocalDateTime.parse(raw.substring(0, delimiterIndex)),
+                    Long.parseLong(raw.substring(delimiterIndex + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 cursor 입니다.", e);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package sample.cafekiosk.spring.api.service.order;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import sample.cafekiosk.spring.api.service.order.request.OrderCreateRequest;
+import sample.cafekiosk.spring.api.service.order.response.OrderResponse;
+import sample.cafekiosk.spring.domain.idempotency.IdempotencyRecord;
+import sample.cafekiosk.spring.domain.idempotency.IdempotencyRecordRepository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/*
+Idempotency-Key 가 붙은 주문 생성 요청을 한 번만 실행한다.
+1. 최근 결과는 크기/시간 제한이 있는 메모리 캐시에서 바로 돌려준다.
+2. 같은 키로 동시에 들어온 요청은 먼저 들어온 요청의 결과를 기다린다.
+3. 캐시에서 밀려났거나 다른 노드에서 처리된 키는 idempotency_record 테이블에서 찾는다.
+같은 키로 다른 상품 목록을 보내면 예외가 발생한다.
+ */
+@Slf4j
+@Service
+public class OrderIdempotencyService {
+
+    private final OrderService orderService;
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration retention;
+
+    private final Cache<String, IdempotentResult> completedResults;
+    private final ConcurrentMap<String, CompletableFuture<IdempotentResult>> inFlightResults = new ConcurrentHashMap<>();
+
+    public OrderIdempotencyService(OrderService orderService,
+                                   IdempotencyRecordRepository idempotencyRecordRepository,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${cafekiosk.order.idempotency.cache-size:10000}") long cacheSize,
+                                   @Value("${cafekiosk.order.idempotency.cache-ttl-minutes:1440}") long cacheTtlMinutes,
+                                   @Value("${cafekiosk.order.idempotency.retention-days:7}") long retentionDays) {
+        this.orderService = orderService;
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retention = Duration.ofDays(retentionDays);
+        this.completedResults = CacheBuilder.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(Duration.ofMinutes(cacheTtlMinutes))
+                .build();
+    }
+
+    public OrderResponse createOrder(String idempotencyKey, OrderCreateRequest request, LocalDateTime registeredDateTime) {
+        // 상품번호가 없는 요청은 해시를 만들 수 없으므로 주문과 같은 검사로 먼저 거른다.
+        OrderService.validateProductNumbers(request.getProductNumbers());
+        String requestHash = hash(request);
+
+        IdempotentResult cached = completedResults.getIfPresent(idempotencyKey);
+        if (cached != null) {
+            return cached.responseFor(requestHash);
+        }
+
+        CompletableFuture<IdempotentResult> future = new CompletableFuture<>();
+        CompletableFuture<IdempotentResult> inFlight = inFlightResults.putIfAbsent(idempotencyKey, future);
+        if (inFlight != null) {
+            return await(inFlight).responseFor(requestHash);
+        }
+
+        try {
+            IdempotentResult result = findStoredResult(idempotencyKey)
+                    .orElseGet(() -> executeOnce(idempotencyKey, requestHash, request, registeredDateTime));
+            completedResults.put(idempotencyKey, result);
+            future.complete(result);
+            return result.responseFor(requestHash);
+        } catch (RuntimeException e) {
+            // 실패한 결과는 저장하지 않는다. 기다리던 요청에는 같은 예외를 전달하고, 이후 재시도는 다시 실행된다.
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightResults.remove(idempotencyKey, future);
+        }
+    }
+
+    @Scheduled(cron = "${cafekiosk.order.idempotency.purge-cron:0 0 4 * * *}")
+    public void purgeExpiredRecords() {
+        Integer deleted = transactionTemplate.execute(status ->
+                idempotencyRecordRepository.deleteCreatedBefore(LocalDateTime.now().minus(retention)));
+        log.info("만료된 idempotency 기록을 삭제했습니다. count={}", deleted);
+    }
+
+    // 테스트에서 테이블 fallback 을 확인할 때 사용한다.
+    public void evictCache() {
+        completedResults.invalidateAll();
+    }
+
+    private IdempotentResult executeOnce(String idempotencyKey, String requestHash, OrderCreateRequest request, LocalDateTime registeredDateTime) {
+        try {
+            OrderResponse response = transactionTemplate.execute(status -> {
+                IdempotencyRecord record = idempotencyRecordRepository.saveAndFlush(new IdempotencyRecord(idempotencyKey, requestHash));
+                OrderResponse created = orderService.createOrder(request, registeredDateTime);
+                record.complete(created.getId());
+                return created;
+            });
+            return new IdempotentResult(requestHash, response);
+        } catch (DataIntegrityViolationException e) {
+            // 다른 노드가 같은 키를 먼저 처리했다. 그 결과를 돌려준다.
+            return findStoredResult(idempotencyKey).orElseThrow(() -> e);
+        }
+    }
+
+    private Optional<IdempotentResult> findStoredResult(String idempotencyKey) {
+        return idempotencyRecordRepository.findById(idempotencyKey)
+                .filter(record -> record.getOrderId() != null)
+                .map(record -> new IdempotentResult(record.getRequestHash(), orderService.getOrder(record.getOrderId())));
+    }
+
+    private static IdempotentResult await(CompletableFuture<IdempotentResult> inFlight) {
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static String hash(OrderCreateRequest request) {
+        return Hashing.sha256()
+                .hashString(String.join(",", request.getProductNumbers()), StandardCharsets.UTF_8)
+                .toString();
+    }
+
+    private record IdempotentResult(String requestHash, OrderResponse response) {
+
+        private OrderResponse responseFor(String requestHash) {
+            if (!this.requestHash.equals(requestHash)) {
+                throw new IllegalArgumentException("같은 Idempotency-Key 로 다른 주문을 요청했습니다.");
+            }
+            return response;
+        }
+    }
+}
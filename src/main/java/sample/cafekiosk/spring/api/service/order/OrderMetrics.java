@@ -0,0 +1,81 @@
+package sample.cafekiosk.spring.api.service.order;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/*
+주문 생성 단계별 소요 시간과 거절 사유, 주문 크기를 기록한다.
+percentile histogram 설정은 application.yml 의 management.metrics.distribution 에서 cafekiosk.* 전체에 건다.
+ */
+@Component
+public class OrderMetrics {
+
+    private final Map<Stage, Timer> stageTimers = new EnumMap<>(Stage.class);
+    private final Counter insufficientStockCounter;
+    private final Counter unknownProductCounter;
+    private final DistributionSummary orderSizeSummary;
+
+    public OrderMetrics(MeterRegistry meterRegistry) {
+        for (Stage stage : Stage.values()) {
+            stageTimers.put(stage, Timer.builder("cafekiosk.order.stage")
+                    .description("주문 생성 단계별 소요 시간")
+                    .tag("stage", stage.getTag())
+                    .register(meterRegistry));
+        }
+        this.insufficientStockCounter = rejectionCounter(meterRegistry, "insufficient_stock");
+        this.unknownProductCounter = rejectionCounter(meterRegistry, "unknown_product");
+        this.orderSizeSummary = DistributionSummary.builder("cafekiosk.order.size")
+                .description("주문 한 건에 담긴 상품 수")
+                .baseUnit("items")
+                .register(meterRegistry);
+    }
+
+    public <T> T record(Stage stage, Supplier<T> supplier) {
+        return stageTimers.get(stage).record(supplier);
+    }
+
+    public void record(Stage stage, Runnable runnable) {
+        stageTimers.get(stage).record(runnable);
+    }
+
+    public void recordOrderSize(int size) {
+        orderSizeSummary.record(size);
+    }
+
+    public void countInsufficientStock() {
+        insufficientStockCounter.increment();
+    }
+
+    public void countUnknownProduct() {
+        unknownProductCounter.increment();
+    }
+
+    private static Counter rejectionCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("cafekiosk.order.rejections")
+                .description("주문 생성이 거절된 횟수")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public enum Stage {
+
+        PRODUCT_LOOKUP("product_lookup"),
+        STOCK_DEDUCTION("stock_deduction"),
+        ORDER_SAVE("order_save"),
+        SALES_ROLLUP("sales_rollup"),
+        RESPONSE_MAPPING("response_mapping");
+
+        private final String tag;
+    }
+}
@@ -0,0 +1,273 @@
+package sample.cafekiosk.spring.api.service.order;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import sample.cafekiosk.spring.api.service.order.response.OrderSalesReportItemResponse;
+import sample.cafekiosk.spring.api.service.order.response.OrderSalesReportResponse;
+import sample.cafekiosk.spring.domain.order.OrderEvent;
+import sample.cafekiosk.spring.domain.order.OrderRepository;
+import sample.cafekiosk.spring.domain.order.OrderSalesSummary;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+import sample.cafekiosk.spring.domain.sales.DailySales;
+import sample.cafekiosk.spring.domain.sales.DailySalesRepository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static sample.cafekiosk.unit.CafeKiosk.SHOP_CLOSE_TIME;
+
+/*
+기간 매출 리포트. 기간을 하루 단위로 나누고, 캐시에 없는 날만 읽는다.
+- 영업이 끝난 날(SHOP_CLOSE_TIME 이후)은 일자별 집계(daily_sales)에서 쿼리 한 번으로 읽는다.
+  집계를 도입하기 전의 날짜는 행이 없어 0 으로 나오므로 DailySalesService.rebuild 로 먼저 채운다.
+- 영업 중인 날(오늘)은 orders 에서 전용 fork-join pool 로 병렬 집계한다.
+- 오늘 이후의 날은 아직 주문이 없으므로 읽지 않고 0 으로 채운다. (기간이 미래로 길어도 쿼리 수가 늘지 않는다.)
+  집계 쿼리가 커넥션을 잡고 기다리므로 공용 pool 대신 커넥션 풀보다 작은 전용 pool 을 쓴다.
+영업이 끝난 날의 결과는 더 바뀌지 않으므로 계속 캐시하고, 영업 중인 날은 매번 다시 집계한다.
+다만 지난 날짜의 주문이 생성되거나 상태가 바뀌면(커밋 후 OrderEvent) 그 날짜의 캐시를 버린다.
+캐시는 서버(JVM)마다 따로 있고 이벤트도 그 서버 안에서만 전달되므로, 서버가 한 대일 때만 맞다.
+여러 대로 띄우면 다른 서버에서 바뀐 지난 날짜를 알 수 없으므로 캐시를 공유 저장소로 옮기거나 끄고 써야 한다.
+ */
+@Service
+public class OrderSalesReportService implements DisposableBean {
+
+    private final OrderRepository orderRepository;
+    private final DailySalesRepository dailySalesRepository;
+    private final ForkJoinPool forkJoinPool;
+    private final int maxDays;
+
+    private static final OrderSalesSummary EMPTY_SUMMARY = new OrderSalesSummary(0L, 0L);
+
+    private final ConcurrentMap<DailyKey, OrderSalesSummary> closedDays = new ConcurrentHashMap<>();
+    private final AtomicLong evictionVersion = new AtomicLong();
+    private final LongAdder queryCount = new LongAdder();
+
+    public OrderSalesReportService(OrderRepository orderRepository,
+                                   DailySalesRepository dailySalesRepository,
+                                   @Value("${cafekiosk.statistics.report.parallelism:4}") int parallelism,
+                                   @Value("${cafekiosk.statistics.report.max-days:3660}") int maxDays) {
+        this.orderRepository = orderRepository;
+        this.dailySalesRepository = dailySalesRepository;
+        this.forkJoinPool = new ForkJoinPool(parallelism, OrderSalesReportService::newWorkerThread, null, false);
+        this.maxDays = maxDays;
+    }
+
+    // 기간(startDate ~ endDate, 양 끝 포함)의 매출을 period 단위로 묶어서 응답한다. 첫/마지막 구간은 기간에 맞춰 잘린다.
+    public OrderSalesReportResponse getSalesReport(LocalDate startDate, LocalDate endDate, OrderStatus orderStatus,
+                                                   SalesReportPeriod period, LocalDateTime now) {
+        validate(startDate, endDate, orderStatus, period);
+
+        List<LocalDate> days = startDate.datesUntil(endDate.plusDays(1)).toList();
+        OrderSalesSummary[] summaries = new OrderSalesSummary[days.size()];
+        int[] missingClosedIndexes = new int[days.size()];
+        int missingClosedCount = 0;
+        int[] openIndexes = new int[days.size()];
+        int openCount = 0;
+        LocalDate today = now.toLocalDate();
+        for (int index = 0; index < days.size(); index++) {
+            if (days.get(index).isAfter(today)) {
+                summaries[index] = EMPTY_SUMMARY;
+                continue;
+            }
+            summaries[index] = closedDays.get(new DailyKey(days.get(index), orderStatus));
+            if (summaries[index] != null) {
+                continue;
+            }
+            if (isClosed(days.get(index), now)) {
+                missingClosedIndexes[missingClosedCount++] = index;
+            } else {
+                openIndexes[openCount++] = index;
+            }
+        }
+
+        if (missingClosedCount > 0) {
+            loadClosedDays(days, orderStatus, now, summaries, missingClosedIndexes, missingClosedCount);
+        }
+        if (openCount > 0) {
+            forkJoinPool.invoke(new DailySummaryTask(days, orderStatus, now, summaries, openIndexes, 0, openCount));
+        }
+
+        return OrderSalesReportResponse.of(startDate, endDate, orderStatus, period, groupBy(period, days, summaries, startDate, endDate));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOrderEvent(OrderEvent event) {
+        evict(event.registeredDateTime().toLocalDate());
+    }
+
+    public void evict(LocalDate salesDate) {
+        // 버전을 먼저 올려야, 이 사이에 집계를 마친 작업이 이전 값을 캐시에 남기지 않는다. (cacheIfClosed 참고)
+        evictionVersion.incrementAndGet();
+        for (OrderStatus orderStatus : OrderStatus.values()) {
+            closedDays.remove(new DailyKey(salesDate, orderStatus));
+        }
+    }
+
+    public void clear() {
+        evictionVersion.incrementAndGet();
+        closedDays.clear();
+    }
+
+    public int getCachedDayCount() {
+        return closedDays.size();
+    }
+
+    public long getQueryCount() {
+        return queryCount.sum();
+    }
+
+    @Override
+    public void destroy() {
+        forkJoinPool.shutdownNow();
+    }
+
+    private void validate(LocalDate startDate, LocalDate endDate, OrderStatus orderStatus, SalesReportPeriod period) {
+        if (startDate == null || endDate == null || orderStatus == null || period == null) {
+            throw new IllegalArgumentException("시작일, 종료일, 주문 상태, 집계 단위는 필수입니다.");
+        }
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("시작일은 종료일보다 늦을 수 없습니다.");
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) + 1 > maxDays) {
+            throw new IllegalArgumentException("리포트 기간은 최대 " + maxDays + "일입니다.");
+        }
+    }
+
+    // 영업이 끝난 날들(indexes[0, count))을 daily_sales 에서 한 번에 읽는다. 행이 없는 날은 주문이 없던 날이다.
+    private void loadClosedDays(List<LocalDate> days, OrderStatus orderStatus, LocalDateTime now, OrderSalesSummary[] summaries,
+                                int[] indexes, int count) {
+        long version = evictionVersion.get();
+        queryCount.increment();
+        LocalDate firstDate = days.get(indexes[0]);
+        LocalDate lastDate = days.get(indexes[count - 1]);
+        Map<LocalDate, DailySales> dailySalesMap = dailySalesRepository.findAllBySalesDateRange(firstDate, lastDate.plusDays(1), orderStatus).stream()
+                .collect(Collectors.toMap(dailySales -> dailySales.getId().getSalesDate(), Function.identity()));
+
+        for (int i = 0; i < count; i++) {
+            LocalDate salesDate = days.get(indexes[i]);
+            DailySales dailySales = dailySalesMap.get(salesDate);
+            OrderSalesSummary summary = dailySales == null
+                    ? EMPTY_SUMMARY
+                    : new OrderSalesSummary(dailySales.getOrderCount(), dailySales.getTotalAmount());
+            summaries[indexes[i]] = summary;
+            cacheIfClosed(new DailyKey(salesDate, orderStatus), summary, version, now);
+        }
+    }
+
+    private OrderSalesSummary aggregate(LocalDate salesDate, OrderStatus orderStatus, LocalDateTime now) {
+        long version = evictionVersion.get();
+        queryCount.increment();
+        OrderSalesSummary summary = orderRepository.aggregateOrderBy(salesDate.atStartOfDay(), salesDate.plusDays(1).atStartOfDay(), orderStatus);
+        cacheIfClosed(new DailyKey(salesDate, orderStatus), summary, version, now);
+        return summary;
+    }
+
+    private void cacheIfClosed(DailyKey key, OrderSalesSummary summary, long version, LocalDateTime now) {
+        if (!isClosed(key.salesDate(), now)) {
+            return;
+        }
+
+        closedDays.put(key, summary);
+        // 집계하는 동안 캐시가 비워졌다면 방금 넣은 값은 이전 데이터일 수 있으므로 다시 뺀다.
+        if (evictionVersion.get() != version) {
+            closedDays.remove(key, summary);
+        }
+    }
+
+    private static boolean isClosed(LocalDate salesDate, LocalDateTime now) {
+        return !now.isBefore(salesDate.atTime(SHOP_CLOSE_TIME));
+    }
+
+    private static List<OrderSalesReportItemResponse> groupBy(SalesReportPeriod period, List<LocalDate> days, OrderSalesSummary[] summaries,
+                                                              LocalDate startDate, LocalDate endDate) {
+        List<OrderSalesReportItemResponse> items = new ArrayList<>();
+        int index = 0;
+        while (index < days.size()) {
+            LocalDate itemEndDate = min(period.endOf(days.get(index)), endDate);
+            LocalDate itemStartDate = max(period.startOf(days.get(index)), startDate);
+            long orderCount = 0;
+            long totalAmount = 0;
+            while (index < days.size() && !days.get(index).isAfter(itemEndDate)) {
+                orderCount += summaries[index].orderCount();
+                totalAmount += summaries[index].totalAmount();
+                index++;
+            }
+            items.add(OrderSalesReportItemResponse.builder()
+                    .startDate(itemStartDate)
+                    .endDate(itemEndDate)
+                    .orderCount(orderCount)
+                    .totalAmount(totalAmount)
+                    .build());
+        }
+        return items;
+    }
+
+    private static LocalDate min(LocalDate a, LocalDate b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    private static LocalDate max(LocalDate a, LocalDate b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private static ForkJoinWorkerThread newWorkerThread(ForkJoinPool pool) {
+        ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+        thread.setName("sales-report-" + thread.getPoolIndex());
+        return thread;
+    }
+
+    private record DailyKey(LocalDate salesDate, OrderStatus orderStatus) {
+    }
+
+    // 영업 중인 날들(missingIndexes[from, to))을 반씩 나눠서 하루 단위가 될 때까지 fork 한다.
+    private class DailySummaryTask extends RecursiveAction {
+
+        private final List<LocalDate> days;
+        private final OrderStatus orderStatus;
+        private final LocalDateTime now;
+        private final OrderSalesSummary[] summaries;
+        private final int[] missingIndexes;
+        private final int from;
+        private final int to;
+
+        DailySummaryTask(List<LocalDate> days, OrderStatus orderStatus, LocalDateTime now, OrderSalesSummary[] summaries,
+                         int[] missingIndexes, int from, int to) {
+            this.days = days;
+            this.orderStatus = orderStatus;
+            this.now = now;
+            this.summaries = summaries;
+            this.missingIndexes = missingIndexes;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                int index = missingIndexes[from];
+                summaries[index] = aggregate(days.get(index), orderStatus, now);
+                return;
+            }
+
+            int middle = (from + to) >>> 1;
+            invokeAll(new DailySummaryTask(days, orderStatus, now, summaries, missingIndexes, from, middle),
+                    new DailySummaryTask(days, orderStatus, now, summaries, missingIndexes, middle, to));
+        }
+    }
+}
@@ -2,22 +2,37 @@ package sample.cafekiosk.spring.api.service.order;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import sample.cafekiosk.spring.api.service.order.OrderMetrics.Stage;
+import sample.cafekiosk.spring.api.service.order.request.OrderBatchCreateRequest;
 import sample.cafekiosk.spring.api.service.order.request.OrderCreateRequest;
+import sample.cafekiosk.spring.api.service.order.request.OrderSearchRequest;
+import sample.cafekiosk.spring.api.service.order.response.OrderBatchResponse;
+import sample.cafekiosk.spring.api.service.order.response.OrderBatchResultResponse;
+import sample.cafekiosk.spring.api.service.order.response.OrderPageResponse;
 import sample.cafekiosk.spring.api.service.order.response.OrderResponse;
+import sample.cafekiosk.spring.api.service.order.response.OrderSummaryResponse;
+import sample.cafekiosk.spring.api.service.product.ProductIndex;
+import sample.cafekiosk.spring.api.service.sales.DailySalesService;
+import sample.cafekiosk.spring.api.service.stock.StockDeductionStrategies;
+import sample.cafekiosk.spring.api.service.stock.StockDeductionStrategy;
 import sample.cafekiosk.spring.domain.order.Order;
+import sample.cafekiosk.spring.domain.order.OrderCreatedEvent;
 import sample.cafekiosk.spring.domain.order.OrderRepository;
-import sample.cafekiosk.spring.domain.product.Product;
+import sample.cafekiosk.spring.domain.order.OrderSummary;
 import sample.cafekiosk.spring.domain.product.ProductRepository;
+import sample.cafekiosk.spring.domain.product.ProductSnapshot;
 import sample.cafekiosk.spring.domain.product.ProductType;
-import sample.cafekiosk.spring.domain.stock.Stock;
-import sample.cafekiosk.spring.domain.stock.StockRepository;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.HashSet;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 import static java.util.Arrays.stream;
@@ -29,72 +44,202 @@ import static java.util.Arrays.stream;
 public class OrderService {
 
     private final ProductRepository productRepository;
+    private final ProductIndex productIndex;
     private final OrderRepository orderRepository;
-    private final StockRepository stockRepository;
+    private final StockDeductionStrategies stockDeductionStrategies;
+    private final DailySalesService dailySalesService;
+    private final OrderMetrics orderMetrics;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${cafekiosk.order.batch.max-size:500}")
+    private int maxBatchSize;
 
     /*
     재고 감소는 동시성 문제의 대표적인 문제(ex. 두 사람이 동시에 재고 수를 읽고 각자 차감을 하였을 때 우선 순위를 책정할 때)
     이것의 해결 방안은 optimistic lock / pessimistic lock / ...
+    실제 차감 방식은 StockDeductionStrategy 구현체(변경 감지 / 메모리 / optimistic / pessimistic / 조건부 UPDATE)로 분리되어 있고,
+    cafekiosk.stock.deduction-mode 로 선택한다. 방식별 비교는 ./gradlew stockDeductionBenchmark 로 측정한다.
      */
     public OrderResponse createOrder(OrderCreateRequest request, LocalDateTime registeredDate){
         List<String> productNumbers = request.getProductNumbers();
-        List<Product> products = findProductsBy(productNumbers);
+        validateProductNumbers(productNumbers);
+        orderMetrics.recordOrderSize(productNumbers.size());
+
+        List<ProductSnapshot> products = orderMetrics.record(Stage.PRODUCT_LOOKUP, () -> getProductsBy(productNumbers));
+
+        orderMetrics.record(Stage.STOCK_DEDUCTION, () -> deductStockQuantities(products));
+
+        // flush 까지 포함해야 INSERT 비용이 이 단계에 잡힌다.
+        Order savedOrder = orderMetrics.record(Stage.ORDER_SAVE, () -> orderRepository.saveAndFlush(createOrderBy(products, registeredDate)));
+        orderMetrics.record(Stage.SALES_ROLLUP, () -> dailySalesService.recordCreated(savedOrder));
+        // 커밋된 뒤에 OrderEventBus 로 넘어간다.
+        eventPublisher.publishEvent(OrderCreatedEvent.of(savedOrder));
+
+        return orderMetrics.record(Stage.RESPONSE_MAPPING, () -> OrderResponse.of(savedOrder));
+    }
+
+    /*
+    여러 주문을 한 트랜잭션에서 생성한다.
+    상품은 배치 전체에 대해 한 번만 조회하고, 재고는 주문 순서대로 현재 설정된 재고 차감 방식으로 주문마다 차감한다.
+    차감 방식은 주문 단위로 "모두 차감되거나 하나도 차감되지 않음" 을 보장하므로, 재고가 부족한 주문만 실패로 응답하고
+    나머지 주문은 그대로 진행된다. (stock 테이블을 따로 읽어 판단하지 않으므로 메모리 모드에서도 판단이 어긋나지 않는다.)
+    주문은 saveAll 로 JDBC batch insert 된다.
+     */
+    public OrderBatchResponse createOrders(OrderBatchCreateRequest request, LocalDateTime registeredDateTime) {
+        List<OrderCreateRequest> orderRequests = request.getOrders();
+        if (orderRequests == null || orderRequests.isEmpty()) {
+            throw new IllegalArgumentException("주문 목록은 필수입니다.");
+        }
+        if (orderRequests.size() > maxBatchSize) {
+            throw new IllegalArgumentException("한 번에 생성할 수 있는 주문은 최대 " + maxBatchSize + "건입니다.");
+        }
+
+        Map<String, ProductSnapshot> productMap = orderMetrics.record(Stage.PRODUCT_LOOKUP, () -> createProductMapBy(orderRequests));
+        StockDeductionStrategy stockDeductionStrategy = stockDeductionStrategies.current();
+
+        OrderBatchResultResponse[] results = new OrderBatchResultResponse[orderRequests.size()];
+        List<Integer> acceptedIndexes = new ArrayList<>();
+        List<Order> acceptedOrders = new ArrayList<>();
+
+        for (int index = 0; index < orderRequests.size(); index++) {
+            List<String> productNumbers = orderRequests.get(index).getProductNumbers();
+            if (productNumbers == null || productNumbers.isEmpty()) {
+                results[index] = OrderBatchResultResponse.failure(index, "주문할 상품이 없습니다.");
+                continue;
+            }
+            orderMetrics.recordOrderSize(productNumbers.size());
+
+            List<ProductSnapshot> products = productNumbers.stream()
+                    .map(productMap::get)
+                    .collect(Collectors.toList());
+            if (products.contains(null)) {
+                orderMetrics.countUnknownProduct();
+                results[index] = OrderBatchResultResponse.failure(index, "존재하지 않는 상품이 있습니다.");
+                continue;
+            }
+
+            try {
+                orderMetrics.record(Stage.STOCK_DEDUCTION, () -> stockDeductionStrategy.deduct(createCountingMap(extractStockProductNumbers(products))));
+            } catch (IllegalArgumentException e) {
+                orderMetrics.countInsufficientStock();
+                results[index] = OrderBatchResultResponse.failure(index, "재고가 부족한 상품이 있습니다.");
+                continue;
+            }
+
+            acceptedIndexes.add(index);
+            acceptedOrders.add(createOrderBy(products, registeredDateTime));
+        }
+
+        // 단건 주문과 마찬가지로 flush 까지 포함해서 batch INSERT 비용이 이 단계에 잡히게 한다.
+        List<Order> savedOrders = orderMetrics.record(Stage.ORDER_SAVE, () -> orderRepository.saveAllAndFlush(acceptedOrders));
+        orderMetrics.record(Stage.SALES_ROLLUP, () -> dailySalesService.recordCreated(savedOrders));
+        savedOrders.forEach(savedOrder -> eventPublisher.publishEvent(OrderCreatedEvent.of(savedOrder)));
 
-        deductStockQuantities(products);
+        return orderMetrics.record(Stage.RESPONSE_MAPPING, () -> {
+            for (int i = 0; i < acceptedIndexes.size(); i++) {
+                int index = acceptedIndexes.get(i);
+                results[index] = OrderBatchResultResponse.success(index, savedOrders.get(i).getId());
+            }
+            return OrderBatchResponse.of(List.of(results));
+        });
+    }
+
+    @Transactional(readOnly = true)
+    public OrderResponse getOrder(Long orderId) {
+        Order order = orderRepository.findWithProductsById(orderId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 주문입니다. orderId=" + orderId));
 
+        return OrderResponse.of(order);
+    }
 
-        Order order = Order.create(products, registeredDate);
-        Order savedOrder = orderRepository.save(order);
+    @Transactional(readOnly = true)
+    public List<OrderResponse> getDailyOrders(LocalDate orderDate) {
+        return orderRepository.findAllWithProductsBy(orderDate.atStartOfDay(), orderDate.plusDays(1).atStartOfDay()).stream()
+                .map(OrderResponse::of)
+                .collect(Collectors.toList());
+    }
+
+    // size + 1 건을 읽어서 다음 페이지가 있는지 확인한다.
+    @Transactional(readOnly = true)
+    public OrderPageResponse getOrders(OrderSearchRequest request) {
+        OrderCursor cursor = request.getCursor() == null ? null : OrderCursor.decode(request.getCursor());
+        List<OrderSummary> summaries = orderRepository.findSummariesAfter(request.getOrderStatus(),
+                request.getStartDateTime(),
+                request.getEndDateTime(),
+                cursor == null ? null : cursor.registeredDateTime(),
+                cursor == null ? null : cursor.id(),
+                request.getSize() + 1);
+
+        boolean hasNext = summaries.size() > request.getSize();
+        List<OrderSummary> page = hasNext ? summaries.subList(0, request.getSize()) : summaries;
+        OrderSummary last = page.isEmpty() ? null : page.get(page.size() - 1);
+
+        return OrderPageResponse.builder()
+                .orders(page.stream()
+                        .map(OrderSummaryResponse::of)
+                        .collect(Collectors.toList()))
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? new OrderCursor(last.registeredDateTime(), last.id()).encode() : null)
+                .build();
+    }
+
+    private List<ProductSnapshot> getProductsBy(List<String> productNumbers) {
+        try {
+            return productIndex.getProducts(productNumbers);
+        } catch (IllegalArgumentException e) {
+            orderMetrics.countUnknownProduct();
+            throw e;
+        }
+    }
 
-        return OrderResponse.of(savedOrder);
+    // 주문 상품의 FK 만 필요하므로 상품 엔티티를 읽지 않고 프록시를 연결한다.
+    private Order createOrderBy(List<ProductSnapshot> products, LocalDateTime registeredDateTime) {
+        return Order.create(products, product -> productRepository.getReferenceById(product.id()), registeredDateTime);
     }
 
-    private void deductStockQuantities(List<Product> products) {
+    private void deductStockQuantities(List<ProductSnapshot> products) {
         // 재고 차감 체크가 필요한 상품들 filter
         List<String> stockProductNumbers = extractStockProductNumbers(products);
-        // 재고 엔티티 조회
-        Map<String, Stock> sotckMap = createStockMapBy(stockProductNumbers);
         // 상품별 counting
         Map<String, Long> productCountingMap = createCountingMap(stockProductNumbers);
         // 재고 차감 시도
-        HashSet<String> distinctStockProductNumbers = new HashSet<>(stockProductNumbers);
-        for(String stockProductNumber : distinctStockProductNumbers){
-            Stock stock = sotckMap.get(stockProductNumber);
-            int quantity = productCountingMap.get(stockProductNumber).intValue();
-            if(stock.isQuantityLessThan(quantity)){
-                throw new IllegalArgumentException("재고가 부족한 상품이 있습니다.");
-            }
-            stock.deductQuantity(quantity);
+        try {
+            stockDeductionStrategies.current().deduct(productCountingMap);
+        } catch (IllegalArgumentException e) {
+            orderMetrics.countInsufficientStock();
+            throw e;
         }
     }
 
-    private static Map<String, Long> createCountingMap(List<String> stockProductNumbers) {
+    // OrderIdempotencyService 가 요청을 해시하기 전에 같은 검사를 하도록 package-private 으로 둔다.
+    static void validateProductNumbers(List<String> productNumbers) {
+        if (productNumbers == null || productNumbers.isEmpty()) {
+            throw new IllegalArgumentException("주문할 상품이 없습니다.");
+        }
+    }
+
+    // 아래 helper 들은 JMH 벤치마크(src/jmh)에서 직접 호출하기 때문에 package-private 으로 둔다.
+    static Map<String, Long> createCountingMap(List<String> stockProductNumbers) {
         Map<String, Long> productCountingMap = stockProductNumbers.stream()
                 .collect(Collectors.groupingBy(s -> s, Collectors.counting()));
         return productCountingMap;
     }
 
-    private Map<String, Stock> createStockMapBy(List<String> stockProductNumbers) {
-        List<Stock> stocks = stockRepository.findAllByProductNumberIn(stockProductNumbers);
-        Map<String, Stock> sotckMap = stocks.stream()
-                .collect(Collectors.toMap(Stock::getProductNumber, stock -> stock));
-        return sotckMap;
-    }
-
-    private static List<String> extractStockProductNumbers(List<Product> products) {
-        return products.stream()
-                .filter(product -> ProductType.containsStockType(product.getType()))
-                .map(Product::getProductNumber)
+    private Map<String, ProductSnapshot> createProductMapBy(List<OrderCreateRequest> orderRequests) {
+        List<String> productNumbers = orderRequests.stream()
+                .map(OrderCreateRequest::getProductNumbers)
+                .filter(Objects::nonNull)
+                .flatMap(List::stream)
+                .distinct()
                 .collect(Collectors.toList());
-    }
 
-    private List<Product> findProductsBy(List<String> productNumbers) {
-        List<Product> products = productRepository.findAllByProductNumberIn(productNumbers);
-        Map<String, Product> productMap = products.stream()
-                .collect(Collectors.toMap(product -> product.getProductNumber(), p -> p));
+        return productIndex.findAllByProductNumbers(productNumbers);
+    }
 
-        return productNumbers.stream()
-                .map(productNumber -> productMap.get(productNumber))
+    static List<String> extractStockProductNumbers(List<ProductSnapshot> products) {
+        return products.stream()
+                .filter(product -> ProductType.containsStockType(product.type()))
+                .map(ProductSnapshot::productNumber)
                 .collect(Collectors.toList());
     }
 }
@@ -2,40 +2,50 @@ package sample.cafekiosk.spring.api.service.order;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import sample.cafekiosk.spring.api.service.mail.MailService;
-import sample.cafekiosk.spring.domain.order.Order;
+import sample.cafekiosk.spring.api.service.order.response.OrderStatisticsResponse;
+import sample.cafekiosk.spring.api.service.sales.DailySalesService;
 import sample.cafekiosk.spring.domain.order.OrderRepository;
+import sample.cafekiosk.spring.domain.order.OrderSalesSummary;
 import sample.cafekiosk.spring.domain.order.OrderStatus;
 
 import java.time.LocalDate;
-import java.util.List;
 
 @RequiredArgsConstructor
 @Service
 public class OrderStatisticsService {
 
     private final OrderRepository orderRepository;
+    private final DailySalesService dailySalesService;
     private final MailService mailService;
 
     public boolean sendOrderStatisticsMail(LocalDate orderDate, String email){
-        // 해당 일자에 결제완료된 주문들을 가져와서
-        List<Order> orders = orderRepository.findOrderBy(orderDate.atStartOfDay(),
-                orderDate.plusDays(1).atStartOfDay(),
-                OrderStatus.PAYMENT_COMPLETED);
-
-        // 총 매출 합계를 계산하고
-        int totalAmount = orders.stream()
-                .mapToInt(Order::getTotalPrice)
-                .sum();
-
-        // 메일 전송
-        boolean result = mailService.sendMail("no-reply@cafekiosk.com", email,
+        // 해당 일자에 결제완료된 주문들의 매출 합계를 일자별 집계에서 바로 읽어와서
+        long totalAmount = dailySalesService.getDailySales(orderDate, OrderStatus.PAYMENT_COMPLETED)
+                .getTotalAmount();
+
+        // 메일 전송 요청 (outbox 에 저장하고 바로 돌아온다. 저장에 실패하면 예외가 그대로 전파된다.)
+        mailService.sendMail("no-reply@cafekiosk.com", email,
                 String.format("[매출통계] %s", orderDate), String.format("총 매출 합계는 %s원입니다.", totalAmount));
 
-        if(!result){
-            throw new IllegalArgumentException("매출 통계 메일 전송에 실패 했습니다.");
+        return true;
+    }
+
+    // 기간(startDate ~ endDate, 양 끝 포함) 동안의 주문 수와 매출 합계를 DB 에서 집계한다. 주문 엔티티를 읽지 않는다.
+    @Transactional(readOnly = true)
+    public OrderStatisticsResponse getOrderStatistics(LocalDate startDate, LocalDate endDate, OrderStatus orderStatus) {
+        if (startDate == null || endDate == null || orderStatus == null) {
+            throw new IllegalArgumentException("시작일, 종료일, 주문 상태는 필수입니다.");
+        }
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("시작일은 종료일보다 늦을 수 없습니다.");
         }
 
-        return true;
+        OrderSalesSummary summary = orderRepository.aggregateOrderBy(startDate.atStartOfDay(),
+                endDate.plusDays(1).atStartOfDay(),
+                orderStatus);
+
+        return OrderStatisticsResponse.of(startDate, endDate, orderStatus, summary);
     }
 }
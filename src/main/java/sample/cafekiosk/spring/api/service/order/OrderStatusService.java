@@ -0,0 +1,111 @@
+package sample.cafekiosk.spring.api.service.order;
+
+import com.google.common.collect.Lists;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import sample.cafekiosk.spring.api.service.order.request.OrderStatusChangeRequest;
+import sample.cafekiosk.spring.api.service.order.response.OrderStatusChangeResponse;
+import sample.cafekiosk.spring.api.service.order.response.OrderStatusChangeResultResponse;
+import sample.cafekiosk.spring.api.service.sales.DailySalesService;
+import sample.cafekiosk.spring.domain.order.OrderRepository;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+import sample.cafekiosk.spring.domain.order.OrderStatusChangedEvent;
+import sample.cafekiosk.spring.domain.order.OrderSummary;
+import sample.cafekiosk.spring.domain.orderProduct.OrderProductRepository;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/*
+결제 대사처럼 많은 주문의 상태를 한꺼번에 바꾼다.
+주문 엔티티를 읽지 않고, chunk 마다 대상 행을 잠근 뒤 한 번의 "update ... where id in (...) and order_status = :expected" 로 바꾼다.
+잠근 행의 상태를 먼저 읽어 두므로 UPDATE 가 실제로 바꾼 주문을 id 별로 알 수 있다.
+ */
+@Transactional
+@Service
+public class OrderStatusService {
+
+    private final OrderRepository orderRepository;
+    private final OrderProductRepository orderProductRepository;
+    private final DailySalesService dailySalesService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+
+    public OrderStatusService(OrderRepository orderRepository,
+                              OrderProductRepository orderProductRepository,
+                              DailySalesService dailySalesService,
+                              ApplicationEventPublisher eventPublisher,
+                              @Value("${cafekiosk.order.status.chunk-size:500}") int chunkSize) {
+        this.orderRepository = orderRepository;
+        this.orderProductRepository = orderProductRepository;
+        this.dailySalesService = dailySalesService;
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+    }
+
+    public OrderStatusChangeResponse changeOrderStatuses(OrderStatusChangeRequest request) {
+        OrderStatus expectedStatus = request.getExpectedStatus();
+        OrderStatus targetStatus = request.getTargetStatus();
+        OrderStatus.validateTransition(expectedStatus, targetStatus);
+        if (request.getOrderIds() == null || request.getOrderIds().isEmpty()) {
+            throw new IllegalArgumentException("상태를 변경할 주문 번호는 필수입니다.");
+        }
+
+        List<Long> orderIds = request.getOrderIds().stream()
+                .distinct()
+                .toList();
+
+        Map<Long, OrderStatusChangeResultResponse> results = new HashMap<>();
+        // 잠그는 순서를 항상 같게 해서 같은 주문들을 동시에 바꾸려는 요청끼리 교착 상태에 빠지지 않게 한다.
+        for (List<Long> chunk : Lists.partition(orderIds.stream().sorted().toList(), chunkSize)) {
+            changeStatuses(chunk, expectedStatus, targetStatus, results);
+        }
+
+        return OrderStatusChangeResponse.of(orderIds.stream()
+                .map(results::get)
+                .toList());
+    }
+
+    private void changeStatuses(List<Long> orderIds, OrderStatus expectedStatus, OrderStatus targetStatus,
+                                Map<Long, OrderStatusChangeResultResponse> results) {
+        Map<Long, OrderSummary> currentOrders = orderRepository.findSummariesForUpdate(orderIds).stream()
+                .collect(Collectors.toMap(OrderSummary::id, Function.identity()));
+
+        List<OrderSummary> targetOrders = currentOrders.values().stream()
+                .filter(order -> order.orderStatus() == expectedStatus)
+                .toList();
+        if (!targetOrders.isEmpty()) {
+            List<Long> targetOrderIds = targetOrders.stream()
+                    .map(OrderSummary::id)
+                    .toList();
+
+            int updatedCount = orderRepository.updateStatus(targetOrderIds, expectedStatus, targetStatus);
+            if (updatedCount != targetOrders.size()) {
+                // 행을 잠근 상태이므로 일어나지 않아야 한다. 집계가 어긋나지 않도록 전체를 롤백한다.
+                throw new IllegalStateException("주문 상태 변경 건수가 맞지 않습니다. expected=" + targetOrders.size() + ", actual=" + updatedCount);
+            }
+
+            dailySalesService.recordStatusChanged(targetOrders, orderProductRepository.findQuantitiesByOrderIdIn(targetOrderIds),
+                    expectedStatus, targetStatus);
+            // 커밋된 뒤에 OrderEventBus 로 넘어간다.
+            targetOrders.forEach(order -> eventPublisher.publishEvent(new OrderStatusChangedEvent(
+                    order.id(), expectedStatus, targetStatus, order.totalPrice(), order.registeredDateTime())));
+        }
+
+        for (Long orderId : orderIds) {
+            OrderSummary order = currentOrders.get(orderId);
+            if (order == null) {
+                results.put(orderId, OrderStatusChangeResultResponse.notFound(orderId));
+            } else if (order.orderStatus() == expectedStatus) {
+                results.put(orderId, OrderStatusChangeResultResponse.changed(orderId, targetStatus));
+            } else {
+                results.put(orderId, OrderStatusChangeResultResponse.statusMismatch(orderId, order.orderStatus()));
+            }
+        }
+    }
+}
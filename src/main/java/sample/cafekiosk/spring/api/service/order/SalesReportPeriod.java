@@ -0,0 +1,40 @@
+package sample.cafekiosk.spring.api.service.order;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+@Getter
+@RequiredArgsConstructor
+public enum SalesReportPeriod {
+
+    DAY("일별"),
+    WEEK("주별"), // 월요일 시작
+    MONTH("월별"),
+    YEAR("연별");
+
+    private final String text;
+
+    // date 가 속한 구간의 첫날
+    public LocalDate startOf(LocalDate date) {
+        return switch (this) {
+            case DAY -> date;
+            case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> date.withDayOfMonth(1);
+            case YEAR -> date.withDayOfYear(1);
+        };
+    }
+
+    // date 가 속한 구간의 마지막 날
+    public LocalDate endOf(LocalDate date) {
+        return switch (this) {
+            case DAY -> date;
+            case WEEK -> date.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY));
+            case MONTH -> date.with(TemporalAdjusters.lastDayOfMonth());
+            case YEAR -> date.with(TemporalAdjusters.lastDayOfYear());
+        };
+    }
+}
@@ -0,0 +1,8 @@
+package sample.cafekiosk.spring.api.service.order.event;
+
+// ring buffer 가 가득 찼을 때 발행하는 쪽의 동작
+public enum BackpressurePolicy {
+
+    BLOCK, // 가장 느린 소비자가 자리를 비울 때까지 기다린다. (publish-timeout-ms 가 지나면 버린다.)
+    DROP   // 기다리지 않고 새 이벤트를 버린다.
+}
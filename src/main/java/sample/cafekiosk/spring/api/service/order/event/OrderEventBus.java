@@ -0,0 +1,215 @@
+package sample.cafekiosk.spring.api.service.order.event;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import sample.cafekiosk.spring.domain.order.OrderEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+커밋된 주문 이벤트를 ring buffer 에 넣고, 소비자(OrderEventConsumer 빈)마다 전용 스레드에서 batch 로 넘겨준다.
+주문 트랜잭션과 요청 스레드는 이벤트를 넣기만 하고 바로 돌아가므로, 통계/메일 같은 후속 작업이 주문 응답 시간에 더해지지 않는다.
+- 이벤트는 커밋된 뒤에만 들어간다. 롤백된 주문의 이벤트는 버려진다.
+- 메모리 안의 파이프라인이므로 프로세스가 죽으면 아직 처리되지 않은 이벤트는 사라진다. 잃으면 안 되는 작업은 outbox 를 쓴다.
+- ring buffer 가 가득 차면 cafekiosk.order.events.backpressure 에 따라 기다리거나(BLOCK) 버린다(DROP).
+- 읽을 이벤트가 없으면 소비자 스레드는 잠들고, 발행자는 잠든 소비자가 있을 때만 lock 을 잡고 깨운다.
+ */
+@Slf4j
+@Component
+public class OrderEventBus implements SmartLifecycle {
+
+    /*
+    웹 서버의 graceful shutdown(DEFAULT_PHASE - 1024)과 웹 서버 종료(DEFAULT_PHASE - 2048)보다 낮은 phase.
+    phase 가 높은 것부터 멈추므로, 처리 중이던 요청이 모두 끝나고 그 요청들이 발행한 이벤트까지 처리한 뒤에 멈춘다.
+     */
+    static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private static final long AWAIT_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final OrderEventRingBuffer<OrderEvent> ringBuffer;
+    private final List<ConsumerWorker> workers = new ArrayList<>();
+    private final BackpressurePolicy backpressurePolicy;
+    private final long publishTimeoutNanos;
+    private final Counter droppedCounter;
+    private final ReentrantLock waitLock = new ReentrantLock();
+    private final Condition publishedCondition = waitLock.newCondition();
+    private final AtomicBoolean consumerWaiting = new AtomicBoolean();
+    private volatile boolean running;
+
+    public OrderEventBus(List<OrderEventConsumer> consumers,
+                         MeterRegistry meterRegistry,
+                         @Value("${cafekiosk.order.events.buffer-size:1024}") int bufferSize,
+                         @Value("${cafekiosk.order.events.backpressure:BLOCK}") BackpressurePolicy backpressurePolicy,
+                         @Value("${cafekiosk.order.events.publish-timeout-ms:1000}") long publishTimeoutMillis) {
+        List<AtomicLong> sequences = new ArrayList<>();
+        for (OrderEventConsumer consumer : consumers) {
+            if (consumer.getBatchSize() < 1) {
+                throw new IllegalArgumentException("batch 크기는 1 이상이어야 합니다. consumer=" + consumer.getName());
+            }
+            AtomicLong sequence = OrderEventRingBuffer.newConsumerSequence();
+            sequences.add(sequence);
+            workers.add(new ConsumerWorker(consumer, sequence));
+        }
+        this.ringBuffer = new OrderEventRingBuffer<>(bufferSize, sequences);
+        this.backpressurePolicy = backpressurePolicy;
+        this.publishTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(publishTimeoutMillis);
+        this.droppedCounter = meterRegistry.counter("cafekiosk.order.events.dropped");
+        meterRegistry.gauge("cafekiosk.order.events.backlog", ringBuffer, OrderEventRingBuffer::getBacklog);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOrderEvent(OrderEvent event) {
+        publish(event);
+    }
+
+    public boolean publish(OrderEvent event) {
+        boolean published = backpressurePolicy == BackpressurePolicy.BLOCK
+                ? ringBuffer.publish(event, publishTimeoutNanos)
+                : ringBuffer.tryPublish(event);
+        if (published) {
+            signalConsumers();
+        } else {
+            droppedCounter.increment();
+            log.warn("주문 이벤트 버퍼가 가득 차서 이벤트를 버렸습니다. policy={}, event={}", backpressurePolicy, event);
+        }
+        return published;
+    }
+
+    // 지금까지 발행된 이벤트를 모든 소비자가 처리할 때까지 기다린다. (테스트용)
+    public boolean awaitConsumed(long timeoutMillis) {
+        long target = ringBuffer.getClaimedSequence();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        while (workers.stream().anyMatch(worker -> worker.sequence.get() < target)) {
+            if (System.nanoTime() - deadline >= 0) {
+                return false;
+            }
+            LockSupport.parkNanos(AWAIT_PARK_NANOS);
+        }
+        return true;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        workers.forEach(ConsumerWorker::start);
+    }
+
+    // 종료할 때는 이미 들어온 이벤트까지 처리하고 멈춘다.
+    @Override
+    public void stop() {
+        running = false;
+        waitLock.lock();
+        try {
+            publishedCondition.signalAll();
+        } finally {
+            waitLock.unlock();
+        }
+        for (ConsumerWorker worker : workers) {
+            try {
+                worker.thread.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    /*
+    잠든 소비자가 없으면 lock 을 잡지 않는다.
+    발행(공개) 다음에 consumerWaiting 을 읽고, 소비자는 consumerWaiting 을 세운 다음에 공개 여부를 읽으므로 깨우기를 놓치지 않는다.
+     */
+    private void signalConsumers() {
+        if (consumerWaiting.get() && consumerWaiting.getAndSet(false)) {
+            waitLock.lock();
+            try {
+                publishedCondition.signalAll();
+            } finally {
+                waitLock.unlock();
+            }
+        }
+    }
+
+    private void awaitPublished(long sequence) {
+        waitLock.lock();
+        try {
+            while (running) {
+                consumerWaiting.set(true);
+                if (ringBuffer.isAvailable(sequence)) {
+                    return;
+                }
+                publishedCondition.await();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            waitLock.unlock();
+        }
+    }
+
+    private class ConsumerWorker implements Runnable {
+
+        private final OrderEventConsumer consumer;
+        private final AtomicLong sequence;
+        private final List<OrderEvent> batch;
+        private Thread thread;
+
+        ConsumerWorker(OrderEventConsumer consumer, AtomicLong sequence) {
+            this.consumer = consumer;
+            this.sequence = sequence;
+            this.batch = new ArrayList<>(consumer.getBatchSize());
+        }
+
+        void start() {
+            thread = new Thread(this, "order-event-" + consumer.getName());
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        @Override
+        public void run() {
+            while (true) {
+                long current = sequence.get();
+                long polled = ringBuffer.poll(current, consumer.getBatchSize(), batch);
+                if (polled == current) {
+                    if (!running || Thread.currentThread().isInterrupted()) {
+                        return;
+                    }
+                    awaitPublished(current + 1);
+                    continue;
+                }
+
+                try {
+                    consumer.consume(batch);
+                } catch (RuntimeException e) {
+                    log.warn("주문 이벤트 처리에 실패했습니다. consumer={}, events={}", consumer.getName(), batch.size(), e);
+                } finally {
+                    batch.clear();
+                    ringBuffer.commit(sequence, polled);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package sample.cafekiosk.spring.api.service.order.event;
+
+import sample.cafekiosk.spring.domain.order.OrderEvent;
+
+import java.util.List;
+
+/*
+OrderEventBus 가 전용 스레드에서 호출한다. 빈으로 등록하면 자동으로 연결된다.
+쌓여 있는 이벤트를 최대 batchSize 건씩 발행 순서대로 넘겨준다.
+전달받은 목록은 호출이 끝나면 재사용되므로 보관하려면 복사해야 한다.
+ */
+public interface OrderEventConsumer {
+
+    String getName();
+
+    default int getBatchSize() {
+        return 1;
+    }
+
+    void consume(List<OrderEvent> events);
+}
@@ -0,0 +1,63 @@
+package sample.cafekiosk.spring.api.service.order.event;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import sample.cafekiosk.spring.domain.order.OrderCreatedEvent;
+import sample.cafekiosk.spring.domain.order.OrderEvent;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+import sample.cafekiosk.spring.domain.order.OrderStatusChangedEvent;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+// 커밋된 주문 수 / 주문 금액 / 상태 변경을 batch 단위로 모아 메트릭에 더한다.
+@Component
+public class OrderEventMetricsConsumer implements OrderEventConsumer {
+
+    private final Map<OrderStatus, Counter> statusChangedCounters = new EnumMap<>(OrderStatus.class);
+    private final Counter createdCounter;
+    private final Counter amountCounter;
+    private final int batchSize;
+
+    public OrderEventMetricsConsumer(MeterRegistry meterRegistry,
+                                     @Value("${cafekiosk.order.events.metrics.batch-size:64}") int batchSize) {
+        for (OrderStatus orderStatus : OrderStatus.values()) {
+            statusChangedCounters.put(orderStatus, meterRegistry.counter("cafekiosk.order.status.changed", "status", orderStatus.name()));
+        }
+        this.createdCounter = meterRegistry.counter("cafekiosk.order.created");
+        this.amountCounter = meterRegistry.counter("cafekiosk.order.created.amount");
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public String getName() {
+        return "metrics";
+    }
+
+    @Override
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    @Override
+    public void consume(List<OrderEvent> events) {
+        long createdCount = 0;
+        long amount = 0;
+        for (OrderEvent event : events) {
+            if (event instanceof OrderCreatedEvent created) {
+                createdCount++;
+                amount += created.totalPrice();
+            } else if (event instanceof OrderStatusChangedEvent changed) {
+                statusChangedCounters.get(changed.orderStatus()).increment();
+            }
+        }
+
+        if (createdCount > 0) {
+            createdCounter.increment(createdCount);
+            amountCounter.increment(amount);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package sample.cafekiosk.spring.api.service.order.event;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/*
+여러 스레드가 발행하고 여러 소비자가 각자 전부를 읽는 고정 크기 ring buffer. (Disruptor 의 multi-producer 방식)
+- 발행: claimed 를 CAS 로 올려 칸을 예약하고, 값을 쓴 뒤 그 칸의 회차(sequence / 크기)를 기록해서 공개한다.
+- 소비: 소비자마다 처리한 마지막 sequence 를 들고 있고, 연속으로 공개된 칸까지 한 번에(batch) 읽는다.
+- 가장 느린 소비자가 아직 읽지 않은 칸은 덮어쓰지 않는다. 가득 차면 tryPublish 는 false 를 돌려준다.
+- 칸마다 남은 소비자 수를 세고, 마지막으로 읽은 소비자가 칸을 비워서 다 쓴 이벤트를 붙잡아 두지 않는다.
+lock 을 쓰지 않으며, 배열은 처음에 한 번만 만든다.
+ */
+public class OrderEventRingBuffer<E> {
+
+    private static final long PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+    private final Object[] entries;
+    private final AtomicIntegerArray publishedRounds;
+    private final AtomicIntegerArray remainingReaders;
+    private final int mask;
+    private final int indexShift;
+    private final AtomicLong claimed = new AtomicLong(-1);
+    private final List<AtomicLong> consumerSequences;
+    private volatile long cachedMinConsumerSequence = -1;
+
+    public OrderEventRingBuffer(int bufferSize, List<AtomicLong> consumerSequences) {
+        if (bufferSize < 1 || Integer.bitCount(bufferSize) != 1) {
+            throw new IllegalArgumentException("ring buffer 크기는 2의 거듭제곱이어야 합니다. bufferSize=" + bufferSize);
+        }
+        this.entries = new Object[bufferSize];
+        this.publishedRounds = new AtomicIntegerArray(bufferSize);
+        for (int i = 0; i < bufferSize; i++) {
+            publishedRounds.set(i, -1);
+        }
+        this.remainingReaders = new AtomicIntegerArray(bufferSize);
+        this.mask = bufferSize - 1;
+        this.indexShift = Integer.numberOfTrailingZeros(bufferSize);
+        this.consumerSequences = List.copyOf(consumerSequences);
+    }
+
+    public static AtomicLong newConsumerSequence() {
+        return new AtomicLong(-1);
+    }
+
+    public boolean tryPublish(E event) {
+        long sequence = tryClaim();
+        if (sequence < 0) {
+            return false;
+        }
+
+        entries[(int) sequence & mask] = event;
+        remainingReaders.set((int) sequence & mask, consumerSequences.size());
+        // 값을 쓴 다음에 공개해야 소비자가 덜 쓴 칸을 읽지 않는다. (volatile 쓰기)
+        publishedRounds.set((int) sequence & mask, (int) (sequence >>> indexShift));
+        return true;
+    }
+
+    // 자리가 날 때까지 기다린다. timeoutNanos 가 0 이하면 끝없이 기다린다.
+    public boolean publish(E event, long timeoutNanos) {
+        long deadline = System.nanoTime() + timeoutNanos;
+        while (!tryPublish(event)) {
+            if (timeoutNanos > 0 && System.nanoTime() - deadline >= 0) {
+                return false;
+            }
+            if (Thread.currentThread().isInterrupted()) {
+                return false;
+            }
+            LockSupport.parkNanos(PARK_NANOS);
+        }
+        return true;
+    }
+
+    /*
+    consumerSequence 다음부터 공개된 이벤트를 최대 maxBatchSize 건 batch 에 담고, 담은 마지막 sequence 를 돌려준다.
+    읽을 것이 없으면 consumerSequence 를 그대로 돌려준다.
+    처리가 끝난 뒤 commit 으로 consumerSequence 를 돌려받은 값까지 옮겨야 그 칸들을 다시 쓸 수 있다.
+     */
+    @SuppressWarnings("unchecked")
+    public long poll(long consumerSequence, int maxBatchSize, List<E> batch) {
+        long limit = Math.min(claimed.get(), consumerSequence + maxBatchSize);
+        long sequence = consumerSequence + 1;
+        for (; sequence <= limit && isPublished(sequence); sequence++) {
+            batch.add((E) entries[(int) sequence & mask]);
+        }
+        return sequence - 1;
+    }
+
+    /*
+    poll 로 읽은 칸들을 처리했다고 표시하고 consumerSequence 를 polledSequence 로 옮긴다.
+    그 칸을 읽을 소비자가 더 없으면 비운다. 비우는 것이 sequence 를 옮기기 전이므로, 발행자가 새로 쓴 값을 지우는 일은 없다.
+     */
+    public void commit(AtomicLong consumerSequence, long polledSequence) {
+        for (long sequence = consumerSequence.get() + 1; sequence <= polledSequence; sequence++) {
+            int index = (int) sequence & mask;
+            if (remainingReaders.decrementAndGet(index) == 0) {
+                entries[index] = null;
+            }
+        }
+        consumerSequence.set(polledSequence);
+    }
+
+    // sequence 칸이 공개되어 읽을 수 있는지
+    public boolean isAvailable(long sequence) {
+        return isPublished(sequence);
+    }
+
+    // sequence 칸에 남아 있는 값 (테스트용)
+    Object entryAt(long sequence) {
+        return entries[(int) sequence & mask];
+    }
+
+    public long getClaimedSequence() {
+        return claimed.get();
+    }
+
+    // 가장 느린 소비자 기준으로 아직 읽히지 않은 이벤트 수
+    public long getBacklog() {
+        return claimed.get() - minConsumerSequence();
+    }
+
+    public int getBufferSize() {
+        return entries.length;
+    }
+
+    private long tryClaim() {
+        while (true) {
+            long current = claimed.get();
+            long next = current + 1;
+            long wrapPoint = next - entries.length;
+            if (wrapPoint > cachedMinConsumerSequence) {
+                long minSequence = minConsumerSequence();
+                cachedMinConsumerSequence = minSequence;
+                if (wrapPoint > minSequence) {
+                    return -1;
+                }
+            }
+            if (claimed.compareAndSet(current, next)) {
+                return next;
+            }
+        }
+    }
+
+    private boolean isPublished(long sequence) {
+        return publishedRounds.get((int) sequence & mask) == (int) (sequence >>> indexShift);
+    }
+
+    private long minConsumerSequence() {
+        long min = claimed.get();
+        for (AtomicLong consumerSequence : consumerSequences) {
+            min = Math.min(min, consumerSequence.get());
+        }
+        return min;
+    }
+}
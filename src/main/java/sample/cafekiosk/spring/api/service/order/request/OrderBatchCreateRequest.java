@@ -0,0 +1,19 @@
+package sample.cafekiosk.spring.api.service.order.request;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class OrderBatchCreateRequest {
+
+    private List<OrderCreateRequest> orders;
+
+    @Builder
+    public OrderBatchCreateRequest(List<OrderCreateRequest> orders) {
+        this.orders = orders;
+    }
+}
@@ -0,0 +1,29 @@
+package sample.cafekiosk.spring.api.service.order.request;
+
+import lombok.Builder;
+import lombok.Getter;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class OrderSearchRequest {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    private OrderStatus orderStatus;
+    private LocalDateTime startDateTime;
+    private LocalDateTime endDateTime;
+    private String cursor;
+    private int size;
+
+    @Builder
+    public OrderSearchRequest(OrderStatus orderStatus, LocalDateTime startDateTime, LocalDateTime endDateTime, String cursor, Integer size) {
+        this.orderStatus = orderStatus;
+        this.startDateTime = startDateTime;
+        this.endDateTime = endDateTime;
+        this.cursor = cursor;
+        this.size = size == null ? DEFAULT_SIZE : Math.min(Math.max(size, 1), MAX_SIZE);
+    }
+}
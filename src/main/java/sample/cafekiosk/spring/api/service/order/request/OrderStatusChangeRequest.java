@@ -0,0 +1,24 @@
+package sample.cafekiosk.spring.api.service.order.request;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class OrderStatusChangeRequest {
+
+    private List<Long> orderIds;
+    private OrderStatus expectedStatus;
+    private OrderStatus targetStatus;
+
+    @Builder
+    public OrderStatusChangeRequest(List<Long> orderIds, OrderStatus expectedStatus, OrderStatus targetStatus) {
+        this.orderIds = orderIds;
+        this.expectedStatus = expectedStatus;
+        this.targetStatus = targetStatus;
+    }
+}
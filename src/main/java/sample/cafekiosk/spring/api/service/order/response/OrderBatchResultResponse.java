@@ -0,0 +1,37 @@
+package sample.cafekiosk.spring.api.service.order.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+public class OrderBatchResultResponse {
+
+    private int index;
+    private boolean success;
+    private Long orderId;
+    private String message;
+
+    @Builder
+    public OrderBatchResultResponse(int index, boolean success, Long orderId, String message) {
+        this.index = index;
+        this.success = success;
+        this.orderId = orderId;
+        this.message = message;
+    }
+
+    public static OrderBatchResultResponse success(int index, Long orderId) {
+        return OrderBatchResultResponse.builder()
+                .index(index)
+                .success(true)
+                .orderId(orderId)
+                .build();
+    }
+
+    public static OrderBatchResultResponse failure(int index, String message) {
+        return OrderBatchResultResponse.builder()
+                .index(index)
+                .success(false)
+                .message(message)
+                .build();
+    }
+}
@@ -0,0 +1,21 @@
+package sample.cafekiosk.spring.api.service.order.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class OrderPageResponse {
+
+    private List<OrderSummaryResponse> orders;
+    private boolean hasNext;
+    private String nextCursor;
+
+    @Builder
+    public OrderPageResponse(List<OrderSummaryResponse> orders, boolean hasNext, String nextCursor) {
+        this.orders = orders;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+    }
+}
@@ -0,0 +1,32 @@
+package sample.cafekiosk.spring.api.service.order.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import sample.cafekiosk.spring.domain.orderProduct.OrderProduct;
+
+@Getter
+public class OrderProductResponse {
+
+    private String productNumber;
+    private String name;
+    private int price;
+    private int quantity;
+
+    @Builder
+    public OrderProductResponse(String productNumber, String name, int price, int quantity) {
+        this.productNumber = productNumber;
+        this.name = name;
+        this.price = price;
+        this.quantity = quantity;
+    }
+
+    // 주문 시점에 복사해 둔 값만 사용한다.
+    public static OrderProductResponse of(OrderProduct orderProduct) {
+        return OrderProductResponse.builder()
+                .productNumber(orderProduct.getProductNumber())
+                .name(orderProduct.getProductName())
+                .price(orderProduct.getUnitPrice())
+                .quantity(orderProduct.getQuantity())
+                .build();
+    }
+}
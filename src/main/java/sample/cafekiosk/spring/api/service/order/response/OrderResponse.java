@@ -2,7 +2,6 @@ package sample.cafekiosk.spring.api.service.order.response;
 
 import lombok.Builder;
 import lombok.Getter;
-import sample.cafekiosk.spring.api.service.product.response.ProductResponse;
 import sample.cafekiosk.spring.domain.order.Order;
 import sample.cafekiosk.spring.domain.order.OrderStatus;
 
@@ -16,10 +15,10 @@ public class OrderResponse {
     private Long id;
     private int totalPrice;
     private LocalDateTime registeredDateTime;
-    private List<ProductResponse> products;
+    private List<OrderProductResponse> products;
 
     @Builder
-    public OrderResponse(Long id, int totalPrice, LocalDateTime registeredDateTime, List<ProductResponse> products) {
+    public OrderResponse(Long id, int totalPrice, LocalDateTime registeredDateTime, List<OrderProductResponse> products) {
         this.id = id;
         this.totalPrice = totalPrice;
         this.registeredDateTime = registeredDateTime;
@@ -32,7 +31,7 @@ public class OrderResponse {
                 .totalPrice(order.getTotalPrice())
                 .registeredDateTime(order.getRegisteredDateTime())
                 .products(order.getOrderProducts().stream()
-                        .map(orderProduct -> ProductResponse.of(orderProduct.getProduct()))
+                        .map(OrderProductResponse::of)
                         .collect(Collectors.toList()))
                 .build();
     }
@@ -0,0 +1,23 @@
+package sample.cafekiosk.spring.api.service.order.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+public class OrderSalesReportItemResponse {
+
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private long orderCount;
+    private long totalAmount;
+
+    @Builder
+    public OrderSalesReportItemResponse(LocalDate startDate, LocalDate endDate, long orderCount, long totalAmount) {
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.orderCount = orderCount;
+        this.totalAmount = totalAmount;
+    }
+}
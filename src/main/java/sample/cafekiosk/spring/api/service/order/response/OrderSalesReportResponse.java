@@ -0,0 +1,46 @@
+package sample.cafekiosk.spring.api.service.order.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import sample.cafekiosk.spring.api.service.order.SalesReportPeriod;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+public class OrderSalesReportResponse {
+
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private OrderStatus orderStatus;
+    private SalesReportPeriod period;
+    private long orderCount;
+    private long totalAmount;
+    private List<OrderSalesReportItemResponse> items;
+
+    @Builder
+    public OrderSalesReportResponse(LocalDate startDate, LocalDate endDate, OrderStatus orderStatus, SalesReportPeriod period,
+                                    long orderCount, long totalAmount, List<OrderSalesReportItemResponse> items) {
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.orderStatus = orderStatus;
+        this.period = period;
+        this.orderCount = orderCount;
+        this.totalAmount = totalAmount;
+        this.items = items;
+    }
+
+    public static OrderSalesReportResponse of(LocalDate startDate, LocalDate endDate, OrderStatus orderStatus, SalesReportPeriod period,
+                                              List<OrderSalesReportItemResponse> items) {
+        return OrderSalesReportResponse.builder()
+                .startDate(startDate)
+                .endDate(endDate)
+                .orderStatus(orderStatus)
+                .period(period)
+                .orderCount(items.stream().mapToLong(OrderSalesReportItemResponse::getOrderCount).sum())
+                .totalAmount(items.stream().mapToLong(OrderSalesReportItemResponse::getTotalAmount).sum())
+                .items(items)
+                .build();
+    }
+}
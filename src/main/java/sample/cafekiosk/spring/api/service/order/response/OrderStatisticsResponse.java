@@ -0,0 +1,37 @@
+package sample.cafekiosk.spring.api.service.order.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import sample.cafekiosk.spring.domain.order.OrderSalesSummary;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+
+import java.time.LocalDate;
+
+@Getter
+public class OrderStatisticsResponse {
+
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private OrderStatus orderStatus;
+    private long orderCount;
+    private long totalAmount;
+
+    @Builder
+    public OrderStatisticsResponse(LocalDate startDate, LocalDate endDate, OrderStatus orderStatus, long orderCount, long totalAmount) {
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.orderStatus = orderStatus;
+        this.orderCount = orderCount;
+        this.totalAmount = totalAmount;
+    }
+
+    public static OrderStatisticsResponse of(LocalDate startDate, LocalDate endDate, OrderStatus orderStatus, OrderSalesSummary summary) {
+        return OrderStatisticsResponse.builder()
+                .startDate(startDate)
+                .endDate(endDate)
+                .orderStatus(orderStatus)
+                .orderCount(summary.orderCount())
+                .totalAmount(summary.totalAmount())
+                .build();
+    }
+}
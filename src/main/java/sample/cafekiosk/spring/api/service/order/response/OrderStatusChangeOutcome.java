@@ -0,0 +1,15 @@
+package sample.cafekiosk.spring.api.service.order.response;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum OrderStatusChangeOutcome {
+
+    CHANGED("변경됨"),
+    NOT_FOUND("존재하지 않는 주문"),
+    STATUS_MISMATCH("기대한 상태가 아님");
+
+    private final String text;
+}
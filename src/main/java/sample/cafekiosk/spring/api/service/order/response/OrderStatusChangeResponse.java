@@ -0,0 +1,33 @@
+package sample.cafekiosk.spring.api.service.order.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class OrderStatusChangeResponse {
+
+    private int changedCount;
+    private int failureCount;
+    private List<OrderStatusChangeResultResponse> results;
+
+    @Builder
+    public OrderStatusChangeResponse(int changedCount, int failureCount, List<OrderStatusChangeResultResponse> results) {
+        this.changedCount = changedCount;
+        this.failureCount = failureCount;
+        this.results = results;
+    }
+
+    public static OrderStatusChangeResponse of(List<OrderStatusChangeResultResponse> results) {
+        int changedCount = (int) results.stream()
+                .filter(OrderStatusChangeResultResponse::isChanged)
+                .count();
+
+        return OrderStatusChangeResponse.builder()
+                .changedCount(changedCount)
+                .failureCount(results.size() - changedCount)
+                .results(results)
+                .build();
+    }
+}
@@ -0,0 +1,45 @@
+package sample.cafekiosk.spring.api.service.order.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+
+@Getter
+public class OrderStatusChangeResultResponse {
+
+    private Long orderId;
+    private OrderStatusChangeOutcome outcome;
+    private OrderStatus orderStatus;
+
+    @Builder
+    public OrderStatusChangeResultResponse(Long orderId, OrderStatusChangeOutcome outcome, OrderStatus orderStatus) {
+        this.orderId = orderId;
+        this.outcome = outcome;
+        this.orderStatus = orderStatus;
+    }
+
+    public static OrderStatusChangeResultResponse changed(Long orderId, OrderStatus orderStatus) {
+        return of(orderId, OrderStatusChangeOutcome.CHANGED, orderStatus);
+    }
+
+    public static OrderStatusChangeResultResponse notFound(Long orderId) {
+        return of(orderId, OrderStatusChangeOutcome.NOT_FOUND, null);
+    }
+
+    // orderStatus 는 현재(바뀌지 않은) 상태다.
+    public static OrderStatusChangeResultResponse statusMismatch(Long orderId, OrderStatus orderStatus) {
+        return of(orderId, OrderStatusChangeOutcome.STATUS_MISMATCH, orderStatus);
+    }
+
+    public boolean isChanged() {
+        return outcome == OrderStatusChangeOutcome.CHANGED;
+    }
+
+    private static OrderStatusChangeResultResponse of(Long orderId, OrderStatusChangeOutcome outcome, OrderStatus orderStatus) {
+        return OrderStatusChangeResultResponse.builder()
+                .orderId(orderId)
+                .outcome(outcome)
+                .orderStatus(orderStatus)
+                .build();
+    }
+}
@@ -0,0 +1,34 @@
+package sample.cafekiosk.spring.api.service.order.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+import sample.cafekiosk.spring.domain.order.OrderSummary;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class OrderSummaryResponse {
+
+    private Long id;
+    private OrderStatus orderStatus;
+    private int totalPrice;
+    private LocalDateTime registeredDateTime;
+
+    @Builder
+    public OrderSummaryResponse(Long id, OrderStatus orderStatus, int totalPrice, LocalDateTime registeredDateTime) {
+        this.id = id;
+        this.orderStatus = orderStatus;
+        this.totalPrice = totalPrice;
+        this.registeredDateTime = registeredDateTime;
+    }
+
+    public static OrderSummaryResponse of(OrderSummary orderSummary) {
+        return OrderSummaryResponse.builder()
+                .id(orderSummary.id())
+                .orderStatus(orderSummary.orderStatus())
+                .totalPrice(orderSummary.totalPrice())
+                .registeredDateTime(orderSummary.registeredDateTime())
+                .build();
+    }
+}
@@ -0,0 +1,184 @@
+package sample.cafekiosk.spring.api.service.product;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import sample.cafekiosk.spring.domain.product.ProductEvent;
+import sample.cafekiosk.spring.domain.product.ProductRepository;
+import sample.cafekiosk.spring.domain.product.ProductSnapshot;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/*
+주문 생성이 상품을 찾고 검증할 때 쓰는 상품번호 -> 상품 스냅샷 색인.
+색인은 한 번 만들면 바꾸지 않는 Map 이고, 바뀔 때는 새 Map 을 만들어 통째로 교체한다(copy-on-write).
+그래서 조회는 lock 없이 volatile 읽기 한 번으로 끝나고, 주문 생성 경로에서 상품 SELECT 가 사라진다.
+상품이 바뀌면 버전만 올리고 다음 조회에서 전체를 다시 읽는다. (SellingProductsCache 와 같은 방식)
+색인에 없는 상품번호는 그 번호들만 DB 에서 확인해서 색인에 합치고, DB 에도 없던 번호는 잠깐(negative-ttl) 기억해서
+같은 잘못된 번호로 반복해서 들어오는 주문이 매번 DB 를 조회하지 않게 한다.
+DB 는 호출한 쪽의 트랜잭션(커넥션)으로 읽는다. 주문 트랜잭션 안에서 커넥션을 하나 더 잡지 않으므로 커넥션 풀이 모자라도 서로 기다리며 멈추지 않는다.
+ */
+@Component
+public class ProductIndex {
+
+    private final ProductRepository productRepository;
+    private final Cache<String, Boolean> unknownProductNumbers;
+
+    private final AtomicLong version = new AtomicLong();
+    private final ReentrantLock loadLock = new ReentrantLock();
+    private final LongAdder loadCount = new LongAdder();
+    private volatile Snapshots current;
+
+    public ProductIndex(ProductRepository productRepository,
+                        @Value("${cafekiosk.product.index.negative-cache-size:10000}") long negativeCacheSize,
+                        @Value("${cafekiosk.product.index.negative-ttl-ms:1000}") long negativeTtlMillis) {
+        this.productRepository = productRepository;
+        this.unknownProductNumbers = CacheBuilder.newBuilder()
+                .maximumSize(negativeCacheSize)
+                .expireAfterWrite(Duration.ofMillis(negativeTtlMillis))
+                .build();
+    }
+
+    // 요청 순서대로 스냅샷을 돌려준다. 하나라도 없는 상품번호가 있으면 예외가 발생한다.
+    public List<ProductSnapshot> getProducts(List<String> productNumbers) {
+        Map<String, ProductSnapshot> productMap = findAllByProductNumbers(productNumbers);
+        if (productMap.size() != productNumbers.stream().distinct().count()) {
+            throw new IllegalArgumentException("존재하지 않는 상품이 있습니다.");
+        }
+
+        return productNumbers.stream()
+                .map(productMap::get)
+                .collect(Collectors.toList());
+    }
+
+    // 찾은 상품만 담아서 돌려준다.
+    public Map<String, ProductSnapshot> findAllByProductNumbers(Collection<String> productNumbers) {
+        Map<String, ProductSnapshot> products = load().products();
+        Map<String, ProductSnapshot> found = new HashMap<>();
+        List<String> missingProductNumbers = productNumbers.stream()
+                .distinct()
+                .filter(productNumber -> {
+                    if (unknownProductNumbers.getIfPresent(productNumber) != null) {
+                        return false;
+                    }
+                    ProductSnapshot product = products.get(productNumber);
+                    if (product == null) {
+                        return true;
+                    }
+                    found.put(productNumber, product);
+                    return false;
+                })
+                .collect(Collectors.toList());
+
+        if (!missingProductNumbers.isEmpty()) {
+            found.putAll(loadMissing(missingProductNumbers));
+        }
+        return found;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onProductChanged(ProductEvent event) {
+        invalidate();
+    }
+
+    public void invalidate() {
+        version.incrementAndGet();
+        unknownProductNumbers.invalidateAll();
+    }
+
+    // 테스트에서 상품 테이블을 직접 비운 뒤 색인을 버릴 때 사용한다.
+    public void clear() {
+        loadLock.lock();
+        try {
+            invalidate();
+            current = null;
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    public long getLoadCount() {
+        return loadCount.sum();
+    }
+
+    private Snapshots load() {
+        Snapshots snapshots = getIfFresh();
+        if (snapshots != null) {
+            return snapshots;
+        }
+
+        loadLock.lock();
+        try {
+            // 기다리는 동안 다른 요청이 이미 읽어왔다면 그 값을 사용한다.
+            snapshots = getIfFresh();
+            if (snapshots != null) {
+                return snapshots;
+            }
+
+            long loadingVersion = version.get();
+            loadCount.increment();
+            Map<String, ProductSnapshot> products = productRepository.findAll().stream()
+                    .map(ProductSnapshot::of)
+                    .collect(Collectors.toMap(ProductSnapshot::productNumber, Function.identity()));
+
+            snapshots = new Snapshots(loadingVersion, Map.copyOf(products));
+            current = snapshots;
+            return snapshots;
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    private Map<String, ProductSnapshot> loadMissing(List<String> productNumbers) {
+        long loadingVersion = version.get();
+        Map<String, ProductSnapshot> loaded = productRepository.findAllByProductNumberIn(productNumbers).stream()
+                .map(ProductSnapshot::of)
+                .collect(Collectors.toMap(ProductSnapshot::productNumber, Function.identity()));
+        // 읽는 도중에 상품이 바뀌지 않았을 때만 없는 번호로 기억한다.
+        if (loadingVersion == version.get()) {
+            productNumbers.stream()
+                    .filter(productNumber -> !loaded.containsKey(productNumber))
+                    .forEach(productNumber -> unknownProductNumbers.put(productNumber, Boolean.TRUE));
+        }
+        if (loaded.isEmpty()) {
+            return loaded;
+        }
+
+        loadLock.lock();
+        try {
+            // 읽는 도중에 색인이 바뀌었다면 합치지 않는다. 다음 조회에서 전체를 다시 읽는다.
+            Snapshots snapshots = current;
+            if (snapshots != null && snapshots.version() == version.get()) {
+                Map<String, ProductSnapshot> merged = new HashMap<>(snapshots.products());
+                merged.putAll(loaded);
+                current = new Snapshots(snapshots.version(), Map.copyOf(merged));
+            }
+        } finally {
+            loadLock.unlock();
+        }
+        return loaded;
+    }
+
+    private Snapshots getIfFresh() {
+        Snapshots snapshots = current;
+        if (snapshots == null || snapshots.version() != version.get()) {
+            return null;
+        }
+        return snapshots;
+    }
+
+    private record Snapshots(long version, Map<String, ProductSnapshot> products) {
+    }
+}
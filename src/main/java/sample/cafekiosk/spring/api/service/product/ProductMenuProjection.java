@@ -0,0 +1,45 @@
+package sample.cafekiosk.spring.api.service.product;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import sample.cafekiosk.spring.domain.product.ProductEvent;
+import sample.cafekiosk.spring.domain.product.ProductMenuViewRepository;
+
+/*
+ProductService 가 발행하는 상품 이벤트로 product_menu_view 를 갱신한다.
+상품을 바꾼 트랜잭션 안에서 바로 반영하므로, 상품 변경이 롤백되면 메뉴 조회 테이블도 같이 롤백된다.
+기동할 때는 product 테이블에서 통째로 다시 만든다. (data.sql 처럼 이벤트 없이 들어간 상품이 있을 수 있다.)
+다시 만든 뒤에는 판매 상품 캐시를 비운다. 그 전이나 도중에 읽어 둔 목록이 남지 않게 하기 위해서이다.
+ */
+@Component
+public class ProductMenuProjection {
+
+    private final ProductMenuViewRepository productMenuViewRepository;
+    private final SellingProductsCache sellingProductsCache;
+    private final TransactionTemplate transactionTemplate;
+
+    public ProductMenuProjection(ProductMenuViewRepository productMenuViewRepository, SellingProductsCache sellingProductsCache,
+                                 PlatformTransactionManager transactionManager) {
+        this.productMenuViewRepository = productMenuViewRepository;
+        this.sellingProductsCache = sellingProductsCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    @EventListener
+    public void on(ProductEvent event) {
+        productMenuViewRepository.upsert(event.product());
+    }
+
+    public void rebuild() {
+        transactionTemplate.executeWithoutResult(status -> productMenuViewRepository.rebuild());
+        sellingProductsCache.invalidate();
+    }
+}
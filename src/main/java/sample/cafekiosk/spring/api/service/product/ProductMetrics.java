@@ -0,0 +1,44 @@
+package sample.cafekiosk.spring.api.service.product;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/*
+상품 작업별 소요 시간을 기록한다. OrderMetrics 와 같이 timer 를 기동 시점에 모두 등록해 두고 재사용한다.
+ */
+@Component
+public class ProductMetrics {
+
+    private final Map<Operation, Timer> operationTimers = new EnumMap<>(Operation.class);
+
+    public ProductMetrics(MeterRegistry meterRegistry) {
+        for (Operation operation : Operation.values()) {
+            operationTimers.put(operation, Timer.builder("cafekiosk.product.operation")
+                    .description("상품 작업별 소요 시간")
+                    .tag("operation", operation.getTag())
+                    .register(meterRegistry));
+        }
+    }
+
+    public <T> T record(Operation operation, Supplier<T> supplier) {
+        return operationTimers.get(operation).record(supplier);
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public enum Operation {
+
+        SELLING_PRODUCTS("selling_products"),
+        CREATE("create"),
+        CHANGE_SELLING_STATUS("change_selling_status");
+
+        private final String tag;
+    }
+}
@@ -0,0 +1,9 @@
+package sample.cafekiosk.spring.api.service.product;
+
+import sample.cafekiosk.spring.api.service.product.response.ProductResponse;
+
+import java.util.List;
+
+// 판매 상품 목록과, 그 목록을 미리 직렬화한 JSON 본문 및 ETag
+public record SellingProducts(List<ProductResponse> products, byte[] body, String eTag) {
+}
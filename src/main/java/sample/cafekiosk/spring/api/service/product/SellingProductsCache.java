@@ -0,0 +1,115 @@
+package sample.cafekiosk.spring.api.service.product;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.DigestUtils;
+import sample.cafekiosk.spring.api.service.product.response.ProductResponse;
+import sample.cafekiosk.spring.domain.product.ProductEvent;
+import sample.cafekiosk.spring.domain.product.ProductMenuViewRepository;
+import sample.cafekiosk.spring.domain.product.ProductSellingStatus;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/*
+키오스크가 주기적으로 조회하는 판매 상품 목록을 직렬화된 형태로 들고 있는다.
+상품이 바뀌면 버전만 올리고, 다음 조회에서 다시 읽는다. 캐시된 값은 자신을 읽기 시작한 시점의 버전을 갖고 있어서
+읽는 도중에 상품이 바뀌었다면 그 값은 사용되지 않는다.
+동시에 여러 요청이 캐시를 놓쳐도 DB 조회는 한 번만 일어난다.
+목록은 엔티티가 아니라 메뉴 조회 전용 테이블(product_menu_view)에서 읽는다. (ProductMenuProjection)
+ */
+@Component
+public class SellingProductsCache {
+
+    private final ProductMenuViewRepository productMenuViewRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    private final AtomicLong version = new AtomicLong();
+    private final AtomicReference<CachedSellingProducts> cached = new AtomicReference<>();
+    private final ReentrantLock loadLock = new ReentrantLock();
+    private final LongAdder loadCount = new LongAdder();
+
+    public SellingProductsCache(ProductMenuViewRepository productMenuViewRepository, ObjectMapper objectMapper, PlatformTransactionManager transactionManager) {
+        this.productMenuViewRepository = productMenuViewRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    public SellingProducts get() {
+        SellingProducts sellingProducts = getIfFresh();
+        if (sellingProducts != null) {
+            return sellingProducts;
+        }
+
+        loadLock.lock();
+        try {
+            // 기다리는 동안 다른 요청이 이미 읽어왔다면 그 값을 사용한다.
+            sellingProducts = getIfFresh();
+            if (sellingProducts != null) {
+                return sellingProducts;
+            }
+
+            long loadingVersion = version.get();
+            SellingProducts loaded = load();
+            cached.set(new CachedSellingProducts(loadingVersion, loaded));
+            return loaded;
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    // 커밋뿐 아니라 롤백된 경우에도 비운다. 트랜잭션 안에서 아직 커밋되지 않은 상품을 읽어 캐시했을 수 있기 때문이다.
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onProductChanged(ProductEvent event) {
+        invalidate();
+    }
+
+    public void invalidate() {
+        version.incrementAndGet();
+    }
+
+    public long getLoadCount() {
+        return loadCount.sum();
+    }
+
+    private SellingProducts getIfFresh() {
+        CachedSellingProducts current = cached.get();
+        if (current == null || current.version() != version.get()) {
+            return null;
+        }
+        return current.sellingProducts();
+    }
+
+    private SellingProducts load() {
+        loadCount.increment();
+        List<ProductResponse> products = transactionTemplate.execute(status ->
+                productMenuViewRepository.findAllBySellingStatusIn(ProductSellingStatus.forDisplay()).stream()
+                        .map(ProductResponse::of)
+                        .collect(Collectors.toList()));
+
+        byte[] body = serialize(products);
+        return new SellingProducts(List.copyOf(products), body, "\"" + DigestUtils.md5DigestAsHex(body) + "\"");
+    }
+
+    private byte[] serialize(List<ProductResponse> products) {
+        try {
+            return objectMapper.writeValueAsBytes(products);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("판매 상품 목록을 직렬화하지 못했습니다.", e);
+        }
+    }
+
+    private record CachedSellingProducts(long version, SellingProducts sellingProducts) {
+    }
+}
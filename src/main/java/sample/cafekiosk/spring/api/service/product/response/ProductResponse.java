@@ -3,6 +3,7 @@ package sample.cafekiosk.spring.api.service.product.response;
 import lombok.Builder;
 import lombok.Getter;
 import sample.cafekiosk.spring.domain.product.Product;
+import sample.cafekiosk.spring.domain.product.ProductMenuItem;
 import sample.cafekiosk.spring.domain.product.ProductSellingStatus;
 import sample.cafekiosk.spring.domain.product.ProductType;
 
@@ -36,4 +37,15 @@ public class ProductResponse {
                 .price(product.getPrice())
                 .build();
     }
+
+    public static ProductResponse of(ProductMenuItem item){
+        return ProductResponse.builder()
+                .id(item.id())
+                .productNumber(item.productNumber())
+                .type(item.type())
+                .sellingStatus(item.sellingStatus())
+                .name(item.name())
+                .price(item.price())
+                .build();
+    }
 }
@@ -0,0 +1,139 @@
+package sample.cafekiosk.spring.api.service.sales;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import sample.cafekiosk.spring.api.service.sales.response.DailySalesResponse;
+import sample.cafekiosk.spring.domain.order.Order;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+import sample.cafekiosk.spring.domain.order.OrderSummary;
+import sample.cafekiosk.spring.domain.orderProduct.OrderProductQuantity;
+import sample.cafekiosk.spring.domain.sales.DailyProductSales;
+import sample.cafekiosk.spring.domain.sales.DailyProductSalesId;
+import sample.cafekiosk.spring.domain.sales.DailyProductSalesRepository;
+import sample.cafekiosk.spring.domain.sales.DailySales;
+import sample.cafekiosk.spring.domain.sales.DailySalesId;
+import sample.cafekiosk.spring.domain.sales.DailySalesRepository;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+일자 + 주문상태별 매출 집계(rollup)를 주문 트랜잭션 안에서 증분으로 갱신한다.
+행은 merge(upsert) 한 문장으로 "없으면 만들고 있으면 x = x + ?" 로 변경하므로 동시에 들어온 주문끼리 값을 덮어쓰지 않고,
+그날의 첫 주문도 별도 트랜잭션(커넥션) 없이 주문 트랜잭션 안에서 처리한다.
+집계를 도입하기 전의 주문이나 어긋난 집계는 rebuild 로 orders 에서 다시 만든다.
+ */
+@RequiredArgsConstructor
+@Transactional
+@Service
+public class DailySalesService {
+
+    private final DailySalesRepository dailySalesRepository;
+    private final DailyProductSalesRepository dailyProductSalesRepository;
+
+    public void recordCreated(Order order) {
+        recordCreated(List.of(order));
+    }
+
+    public void recordCreated(List<Order> orders) {
+        SalesDelta delta = new SalesDelta();
+        orders.forEach(order -> delta.add(order, order.getOrderStatus(), 1));
+        apply(delta);
+    }
+
+    public void recordStatusChanged(Order order, OrderStatus previousStatus) {
+        SalesDelta delta = new SalesDelta();
+        delta.add(order, previousStatus, -1);
+        delta.add(order, order.getOrderStatus(), 1);
+        apply(delta);
+    }
+
+    /*
+    엔티티 없이 일괄 변경된 주문들의 집계를 옮긴다.
+    orders 는 변경 전 요약(등록 시각, 금액)이고, orderProducts 는 그 주문들의 상품 수량이다.
+     */
+    public void recordStatusChanged(List<OrderSummary> orders, List<OrderProductQuantity> orderProducts,
+                                    OrderStatus previousStatus, OrderStatus orderStatus) {
+        Map<Long, LocalDate> salesDates = new HashMap<>();
+        SalesDelta delta = new SalesDelta();
+        for (OrderSummary order : orders) {
+            LocalDate salesDate = order.registeredDateTime().toLocalDate();
+            salesDates.put(order.id(), salesDate);
+            delta.addOrder(salesDate, previousStatus, order.totalPrice(), -1);
+            delta.addOrder(salesDate, orderStatus, order.totalPrice(), 1);
+        }
+        for (OrderProductQuantity orderProduct : orderProducts) {
+            LocalDate salesDate = salesDates.get(orderProduct.orderId());
+            delta.addProduct(salesDate, previousStatus, orderProduct.productNumber(), orderProduct.quantity(), -1);
+            delta.addProduct(salesDate, orderStatus, orderProduct.productNumber(), orderProduct.quantity(), 1);
+        }
+        apply(delta);
+    }
+
+    @Transactional(readOnly = true)
+    public DailySalesResponse getDailySales(LocalDate salesDate, OrderStatus orderStatus) {
+        DailySales dailySales = dailySalesRepository.findById(DailySalesId.of(salesDate, orderStatus)).orElse(null);
+        List<DailyProductSales> productSales = dailyProductSalesRepository.findAllBy(salesDate, orderStatus);
+
+        return DailySalesResponse.of(salesDate, orderStatus, dailySales, productSales);
+    }
+
+    public void increase(LocalDate salesDate, OrderStatus orderStatus, long orderCount, long totalAmount) {
+        dailySalesRepository.upsert(salesDate, orderStatus.name(), orderCount, totalAmount);
+    }
+
+    public void increaseProduct(LocalDate salesDate, OrderStatus orderStatus, String productNumber, long quantity) {
+        dailyProductSalesRepository.upsert(salesDate, orderStatus.name(), productNumber, quantity);
+    }
+
+    /*
+    [startDate, endDate] 의 집계를 지우고 orders / order_product 에서 다시 만든다.
+    집계를 도입하기 전에 들어온 주문을 채워 넣거나 어긋난 집계를 바로잡을 때 사용한다.
+    다시 만드는 동안 같은 날짜에 커밋되는 주문은 빠지거나 두 번 더해질 수 있으므로 주문이 들어오지 않는 날짜(지난 날짜)에 실행한다.
+     */
+    public void rebuild(LocalDate startDate, LocalDate endDate) {
+        if (endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("시작일은 종료일보다 늦을 수 없습니다.");
+        }
+
+        LocalDate endExclusive = endDate.plusDays(1);
+        dailySalesRepository.deleteAllBySalesDateRange(startDate, endExclusive);
+        dailyProductSalesRepository.deleteAllBySalesDateRange(startDate, endExclusive);
+        dailySalesRepository.insertAllFromOrders(startDate.atStartOfDay(), endExclusive.atStartOfDay());
+        dailyProductSalesRepository.insertAllFromOrders(startDate.atStartOfDay(), endExclusive.atStartOfDay());
+    }
+
+    private void apply(SalesDelta delta) {
+        delta.sales.forEach((id, amounts) ->
+                increase(id.getSalesDate(), id.getOrderStatus(), amounts[0], amounts[1]));
+        delta.productQuantities.forEach((id, quantity) ->
+                increaseProduct(id.getSalesDate(), id.getOrderStatus(), id.getProductNumber(), quantity));
+    }
+
+    // 여러 주문의 증감을 (일자, 상태) 단위로 모아서 update 횟수를 줄인다.
+    private static class SalesDelta {
+
+        private final Map<DailySalesId, long[]> sales = new HashMap<>();
+        private final Map<DailyProductSalesId, Long> productQuantities = new HashMap<>();
+
+        void add(Order order, OrderStatus orderStatus, int sign) {
+            LocalDate salesDate = order.getRegisteredDateTime().toLocalDate();
+            addOrder(salesDate, orderStatus, order.getTotalPrice(), sign);
+            order.getOrderProducts().forEach(orderProduct ->
+                    addProduct(salesDate, orderStatus, orderProduct.getProductNumber(), orderProduct.getQuantity(), sign));
+        }
+
+        void addOrder(LocalDate salesDate, OrderStatus orderStatus, int totalPrice, int sign) {
+            long[] amounts = sales.computeIfAbsent(DailySalesId.of(salesDate, orderStatus), id -> new long[2]);
+            amounts[0] += sign;
+            amounts[1] += (long) sign * totalPrice;
+        }
+
+        void addProduct(LocalDate salesDate, OrderStatus orderStatus, String productNumber, int quantity, int sign) {
+            productQuantities.merge(DailyProductSalesId.of(salesDate, orderStatus, productNumber), (long) sign * quantity, Long::sum);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package sample.cafekiosk.spring.api.service.sales.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+import sample.cafekiosk.spring.domain.sales.DailyProductSales;
+import sample.cafekiosk.spring.domain.sales.DailySales;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Getter
+public class DailySalesResponse {
+
+    private LocalDate salesDate;
+    private OrderStatus orderStatus;
+    private long orderCount;
+    private long totalAmount;
+    private Map<String, Long> productQuantities;
+
+    @Builder
+    public DailySalesResponse(LocalDate salesDate, OrderStatus orderStatus, long orderCount, long totalAmount, Map<String, Long> productQuantities) {
+        this.salesDate = salesDate;
+        this.orderStatus = orderStatus;
+        this.orderCount = orderCount;
+        this.totalAmount = totalAmount;
+        this.productQuantities = productQuantities;
+    }
+
+    public static DailySalesResponse of(LocalDate salesDate, OrderStatus orderStatus, DailySales dailySales, List<DailyProductSales> productSales) {
+        return DailySalesResponse.builder()
+                .salesDate(salesDate)
+                .orderStatus(orderStatus)
+                .orderCount(dailySales == null ? 0 : dailySales.getOrderCount())
+                .totalAmount(dailySales == null ? 0 : dailySales.getTotalAmount())
+                .productQuantities(productSales.stream()
+                        .collect(Collectors.toMap(sales -> sales.getId().getProductNumber(), DailyProductSales::getQuantity)))
+                .build();
+    }
+}
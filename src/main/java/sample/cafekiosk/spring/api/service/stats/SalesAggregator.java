@@ -0,0 +1,191 @@
+package sample.cafekiosk.spring.api.service.stats;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/*
+주문 / 주문 상품 행을 한 줄씩 받아 primitive 배열에 누적한다.
+- 상품은 처음 나온 순서대로 번호(product index)를 붙이고, 판매 수량 / 매출은 그 번호 위치의 long 배열에 더한다.
+- 시간대별 주문 수는 long[24], 일자별 주문 수 / 상품 수는 기간 일수 크기의 long 배열에 더한다.
+행마다 Long 을 새로 만들지 않으며, 메모리는 행 수가 아니라 상품 수 + 기간 일수에만 비례한다.
+상품번호 -> 번호 사전만 Map 을 쓰는데, 값은 상품이 처음 나올 때 한 번만 만들어진다.
+ */
+public class SalesAggregator {
+
+    public static final int HOURS = 24;
+
+    private static final int INITIAL_PRODUCT_CAPACITY = 64;
+
+    private final LocalDate startDate;
+    private final long startEpochDay;
+    private final long[] hourlyOrderCounts = new long[HOURS];
+    private final long[] dailyOrderCounts;
+    private final long[] dailyItemCounts;
+
+    private final Map<String, Integer> productIndexes = new HashMap<>();
+    private String[] productNumbers = new String[INITIAL_PRODUCT_CAPACITY];
+    private String[] productNames = new String[INITIAL_PRODUCT_CAPACITY];
+    private long[] productQuantities = new long[INITIAL_PRODUCT_CAPACITY];
+    private long[] productAmounts = new long[INITIAL_PRODUCT_CAPACITY];
+    private int productCount;
+    private long lastOrderId = Long.MIN_VALUE;
+
+    // startDate ~ endDate (양 끝 포함)
+    public SalesAggregator(LocalDate startDate, LocalDate endDate) {
+        this.startDate = startDate;
+        this.startEpochDay = startDate.toEpochDay();
+        int dayCount = Math.toIntExact(endDate.toEpochDay() - startEpochDay + 1);
+        this.dailyOrderCounts = new long[dayCount];
+        this.dailyItemCounts = new long[dayCount];
+    }
+
+    // 주문 id 순서로 들어오는 주문 상품 줄. 주문 id 가 바뀔 때 주문 수를 센다.
+    public void addOrderLine(long orderId, LocalDateTime registeredDateTime, String productNumber, String productName,
+                             int quantity, int unitPrice) {
+        if (orderId != lastOrderId) {
+            lastOrderId = orderId;
+            addOrder(registeredDateTime);
+        }
+        if (productNumber != null) {
+            addOrderProduct(registeredDateTime, productNumber, productName, quantity, unitPrice);
+        }
+    }
+
+    public void addOrder(LocalDateTime registeredDateTime) {
+        hourlyOrderCounts[registeredDateTime.getHour()]++;
+        dailyOrderCounts[dayIndexOf(registeredDateTime)]++;
+    }
+
+    public void addOrderProduct(LocalDateTime registeredDateTime, String productNumber, String productName, int quantity, int unitPrice) {
+        int productIndex = productIndexOf(productNumber, productName);
+        productQuantities[productIndex] += quantity;
+        productAmounts[productIndex] += (long) quantity * unitPrice;
+        dailyItemCounts[dayIndexOf(registeredDateTime)] += quantity;
+    }
+
+    // 판매 수량이 많은 순서로 최대 n 개의 product index. 같으면 상품번호 순서다.
+    public int[] topByQuantity(int n) {
+        return top(productQuantities, n);
+    }
+
+    // 매출이 많은 순서로 최대 n 개의 product index. 같으면 상품번호 순서다.
+    public int[] topByAmount(int n) {
+        return top(productAmounts, n);
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public int getDayCount() {
+        return dailyOrderCounts.length;
+    }
+
+    public int getProductCount() {
+        return productCount;
+    }
+
+    public String getProductNumber(int productIndex) {
+        return productNumbers[productIndex];
+    }
+
+    public String getProductName(int productIndex) {
+        return productNames[productIndex];
+    }
+
+    public long getProductQuantity(int productIndex) {
+        return productQuantities[productIndex];
+    }
+
+    public long getProductAmount(int productIndex) {
+        return productAmounts[productIndex];
+    }
+
+    public long getHourlyOrderCount(int hour) {
+        return hourlyOrderCounts[hour];
+    }
+
+    public long getDailyOrderCount(int dayIndex) {
+        return dailyOrderCounts[dayIndex];
+    }
+
+    public long getDailyItemCount(int dayIndex) {
+        return dailyItemCounts[dayIndex];
+    }
+
+    public long getOrderCount() {
+        return sum(dailyOrderCounts);
+    }
+
+    public long getItemCount() {
+        return sum(dailyItemCounts);
+    }
+
+    public long getTotalAmount() {
+        return sum(productAmounts);
+    }
+
+    private int dayIndexOf(LocalDateTime registeredDateTime) {
+        return (int) (registeredDateTime.toLocalDate().toEpochDay() - startEpochDay);
+    }
+
+    private int productIndexOf(String productNumber, String productName) {
+        Integer productIndex = productIndexes.get(productNumber);
+        if (productIndex != null) {
+            return productIndex;
+        }
+
+        if (productCount == productNumbers.length) {
+            int capacity = productCount * 2;
+            productNumbers = Arrays.copyOf(productNumbers, capacity);
+            productNames = Arrays.copyOf(productNames, capacity);
+            productQuantities = Arrays.copyOf(productQuantities, capacity);
+            productAmounts = Arrays.copyOf(productAmounts, capacity);
+        }
+        productNumbers[productCount] = productNumber;
+        productNames[productCount] = productName;
+        productIndexes.put(productNumber, productCount);
+        return productCount++;
+    }
+
+    // 상품 수만큼 한 번 훑으면서 크기 n 의 배열에 내림차순으로 끼워 넣는다. (n 은 작으므로 정렬보다 싸다)
+    private int[] top(long[] values, int n) {
+        int size = Math.min(n, productCount);
+        int[] top = new int[size];
+        if (size == 0) {
+            return top;
+        }
+
+        int filled = 0;
+        for (int productIndex = 0; productIndex < productCount; productIndex++) {
+            if (filled == size && !isAhead(values, productIndex, top[size - 1])) {
+                continue;
+            }
+            int position = filled < size ? filled++ : size - 1;
+            while (position > 0 && isAhead(values, productIndex, top[position - 1])) {
+                top[position] = top[position - 1];
+                position--;
+            }
+            top[position] = productIndex;
+        }
+        return top;
+    }
+
+    private boolean isAhead(long[] values, int productIndex, int otherProductIndex) {
+        if (values[productIndex] != values[otherProductIndex]) {
+            return values[productIndex] > values[otherProductIndex];
+        }
+        return productNumbers[productIndex].compareTo(productNumbers[otherProductIndex]) < 0;
+    }
+
+    private static long sum(long[] values) {
+        long sum = 0;
+        for (long value : values) {
+            sum += value;
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,23 @@
+package sample.cafekiosk.spring.api.service.stats.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+public class DailyBasketSizeResponse {
+
+    private LocalDate salesDate;
+    private long orderCount;
+    private long itemCount;
+    private double averageBasketSize; // 주문 한 건당 평균 상품 수. 주문이 없으면 0
+
+    @Builder
+    public DailyBasketSizeResponse(LocalDate salesDate, long orderCount, long itemCount) {
+        this.salesDate = salesDate;
+        this.orderCount = orderCount;
+        this.itemCount = itemCount;
+        this.averageBasketSize = orderCount == 0 ? 0 : (double) itemCount / orderCount;
+    }
+}
@@ -0,0 +1,17 @@
+package sample.cafekiosk.spring.api.service.stats.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+public class HourlyOrderCountResponse {
+
+    private int hour;
+    private long orderCount;
+
+    @Builder
+    public HourlyOrderCountResponse(int hour, long orderCount) {
+        this.hour = hour;
+        this.orderCount = orderCount;
+    }
+}
@@ -0,0 +1,31 @@
+package sample.cafekiosk.spring.api.service.stats.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import sample.cafekiosk.spring.api.service.stats.SalesAggregator;
+
+@Getter
+public class ProductSalesResponse {
+
+    private String productNumber;
+    private String productName;
+    private long quantity;
+    private long amount;
+
+    @Builder
+    public ProductSalesResponse(String productNumber, String productName, long quantity, long amount) {
+        this.productNumber = productNumber;
+        this.productName = productName;
+        this.quantity = quantity;
+        this.amount = amount;
+    }
+
+    public static ProductSalesResponse of(SalesAggregator aggregator, int productIndex) {
+        return ProductSalesResponse.builder()
+                .productNumber(aggregator.getProductNumber(productIndex))
+                .productName(aggregator.getProductName(productIndex))
+                .quantity(aggregator.getProductQuantity(productIndex))
+                .amount(aggregator.getProductAmount(productIndex))
+                .build();
+    }
+}
@@ -0,0 +1,87 @@
+package sample.cafekiosk.spring.api.service.stats.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import sample.cafekiosk.spring.api.service.stats.SalesAggregator;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+public class SalesStatsResponse {
+
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private OrderStatus orderStatus;
+    private long orderCount;
+    private long itemCount;
+    private long totalAmount;
+    private List<ProductSalesResponse> topProductsByQuantity;
+    private List<ProductSalesResponse> topProductsByAmount;
+    private List<HourlyOrderCountResponse> hourlyOrderCounts;
+    private List<DailyBasketSizeResponse> dailyBasketSizes;
+
+    @Builder
+    public SalesStatsResponse(LocalDate startDate, LocalDate endDate, OrderStatus orderStatus, long orderCount, long itemCount,
+                              long totalAmount, List<ProductSalesResponse> topProductsByQuantity, List<ProductSalesResponse> topProductsByAmount,
+                              List<HourlyOrderCountResponse> hourlyOrderCounts, List<DailyBasketSizeResponse> dailyBasketSizes) {
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.orderStatus = orderStatus;
+        this.orderCount = orderCount;
+        this.itemCount = itemCount;
+        this.totalAmount = totalAmount;
+        this.topProductsByQuantity = topProductsByQuantity;
+        this.topProductsByAmount = topProductsByAmount;
+        this.hourlyOrderCounts = hourlyOrderCounts;
+        this.dailyBasketSizes = dailyBasketSizes;
+    }
+
+    public static SalesStatsResponse of(LocalDate startDate, LocalDate endDate, OrderStatus orderStatus, SalesAggregator aggregator, int topN) {
+        return SalesStatsResponse.builder()
+                .startDate(startDate)
+                .endDate(endDate)
+                .orderStatus(orderStatus)
+                .orderCount(aggregator.getOrderCount())
+                .itemCount(aggregator.getItemCount())
+                .totalAmount(aggregator.getTotalAmount())
+                .topProductsByQuantity(toProductSales(aggregator, aggregator.topByQuantity(topN)))
+                .topProductsByAmount(toProductSales(aggregator, aggregator.topByAmount(topN)))
+                .hourlyOrderCounts(toHourlyOrderCounts(aggregator))
+                .dailyBasketSizes(toDailyBasketSizes(aggregator))
+                .build();
+    }
+
+    private static List<ProductSalesResponse> toProductSales(SalesAggregator aggregator, int[] productIndexes) {
+        List<ProductSalesResponse> responses = new ArrayList<>(productIndexes.length);
+        for (int productIndex : productIndexes) {
+            responses.add(ProductSalesResponse.of(aggregator, productIndex));
+        }
+        return responses;
+    }
+
+    private static List<HourlyOrderCountResponse> toHourlyOrderCounts(SalesAggregator aggregator) {
+        List<HourlyOrderCountResponse> responses = new ArrayList<>(SalesAggregator.HOURS);
+        for (int hour = 0; hour < SalesAggregator.HOURS; hour++) {
+            responses.add(HourlyOrderCountResponse.builder()
+                    .hour(hour)
+                    .orderCount(aggregator.getHourlyOrderCount(hour))
+                    .build());
+        }
+        return responses;
+    }
+
+    private static List<DailyBasketSizeResponse> toDailyBasketSizes(SalesAggregator aggregator) {
+        List<DailyBasketSizeResponse> responses = new ArrayList<>(aggregator.getDayCount());
+        for (int dayIndex = 0; dayIndex < aggregator.getDayCount(); dayIndex++) {
+            responses.add(DailyBasketSizeResponse.builder()
+                    .salesDate(aggregator.getStartDate().plusDays(dayIndex))
+                    .orderCount(aggregator.getDailyOrderCount(dayIndex))
+                    .itemCount(aggregator.getDailyItemCount(dayIndex))
+                    .build());
+        }
+        return responses;
+    }
+}
@@ -0,0 +1,40 @@
+package sample.cafekiosk.spring.api.service.stock;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import sample.cafekiosk.spring.domain.stock.StockRepository;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/*
+UPDATE stock SET quantity = quantity - ? WHERE product_number = ? AND quantity >= ? 한 번으로 확인과 차감을 같이 한다.
+엔티티를 읽지 않으며, 중간 상품에서 실패하면 앞서 차감한 상품을 같은 트랜잭션 안에서 되돌린 뒤 예외를 던진다.
+(배치 주문처럼 호출한 쪽이 예외를 잡고 트랜잭션을 계속 진행해도 일부만 차감된 상태가 남지 않는다.)
+ */
+@RequiredArgsConstructor
+@Component
+public class AtomicSqlStockDeductionStrategy implements StockDeductionStrategy {
+
+    private final StockRepository stockRepository;
+
+    @Override
+    public StockDeductionMode getMode() {
+        return StockDeductionMode.ATOMIC_SQL;
+    }
+
+    @Override
+    public void deduct(Map<String, Long> productCountingMap) {
+        Map<String, Long> deducted = new LinkedHashMap<>();
+        // 교착 상태를 피하기 위해 상품번호 순서로 갱신한다.
+        for (Map.Entry<String, Long> entry : new TreeMap<>(productCountingMap).entrySet()) {
+            int updatedCount = stockRepository.deductQuantityIfEnough(entry.getKey(), entry.getValue().intValue());
+            if (updatedCount == 0) {
+                deducted.forEach((productNumber, quantity) -> stockRepository.restoreQuantity(productNumber, quantity.intValue()));
+                throw new IllegalArgumentException("재고가 부족한 상품이 있습니다.");
+            }
+            deducted.put(entry.getKey(), entry.getValue());
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package sample.cafekiosk.spring.api.service.stock;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import sample.cafekiosk.spring.domain.stock.Stock;
+import sample.cafekiosk.spring.domain.stock.StockRepository;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+@Component
+public class DirtyCheckingStockDeductionStrategy implements StockDeductionStrategy {
+
+    private final StockRepository stockRepository;
+
+    @Override
+    public StockDeductionMode getMode() {
+        return StockDeductionMode.DIRTY_CHECKING;
+    }
+
+    @Override
+    public void deduct(Map<String, Long> productCountingMap) {
+        if (productCountingMap.isEmpty()) {
+            return;
+        }
+
+        // 재고 엔티티 조회
+        Map<String, Stock> stockMap = createStockMapBy(productCountingMap);
+
+        // 모두 확인한 뒤에 차감해서 일부만 차감된 상태가 남지 않도록 한다.
+        for (Map.Entry<String, Long> entry : productCountingMap.entrySet()) {
+            Stock stock = stockMap.get(entry.getKey());
+            if (stock == null || stock.isQuantityLessThan(entry.getValue().intValue())) {
+                throw new IllegalArgumentException("재고가 부족한 상품이 있습니다.");
+            }
+        }
+        productCountingMap.forEach((productNumber, quantity) ->
+                stockMap.get(productNumber).deductQuantity(quantity.intValue()));
+    }
+
+    private Map<String, Stock> createStockMapBy(Map<String, Long> productCountingMap) {
+        return stockRepository.findAllByProductNumberIn(new ArrayList<>(productCountingMap.keySet())).stream()
+                .collect(Collectors.toMap(Stock::getProductNumber, stock -> stock));
+    }
+}
@@ -0,0 +1,197 @@
+package sample.cafekiosk.spring.api.service.stock;
+
+import com.google.common.util.concurrent.Striped;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import sample.cafekiosk.spring.domain.stock.Stock;
+import sample.cafekiosk.spring.domain.stock.StockRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.stream.Collectors;
+
+/*
+재고 수량을 메모리의 상품별 카운터로 관리한다.
+한 주문에 포함된 상품들의 stripe lock 을 한꺼번에(항상 같은 순서로) 잡고 확인 -> 차감을 수행하기 때문에
+주문 단위로 원자적이며, 변경된 수량은 스케줄러가 주기적으로 stock 테이블에 반영한다.
+상품마다 예약 가능 수량(available)과 커밋된 수량(committed)을 따로 두고, 주문 트랜잭션이 커밋된 뒤에만
+committed 를 줄인다. flush 는 committed 만 쓰므로 아직 진행 중이거나 롤백된 주문의 차감은 stock 테이블에 반영되지 않는다.
+이 모드에서는 메모리 카운터가 원본이므로, stock 테이블을 직접 수정했다면 evictAll() 로 다시 읽어와야 한다.
+ */
+@Slf4j
+@Component
+public class InMemoryStockDeductionStrategy implements StockDeductionStrategy {
+
+    private static final int LOCK_STRIPES = 64;
+
+    private final StockRepository stockRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Striped<Lock> locks = Striped.lock(LOCK_STRIPES);
+    private final ConcurrentMap<String, StockCounter> counters = new ConcurrentHashMap<>();
+    private final Set<String> dirtyProductNumbers = ConcurrentHashMap.newKeySet();
+
+    public InMemoryStockDeductionStrategy(StockRepository stockRepository, PlatformTransactionManager transactionManager) {
+        this.stockRepository = stockRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public StockDeductionMode getMode() {
+        return StockDeductionMode.IN_MEMORY;
+    }
+
+    @Override
+    public void deduct(Map<String, Long> productCountingMap) {
+        if (productCountingMap.isEmpty()) {
+            return;
+        }
+
+        loadQuantitiesIfAbsent(productCountingMap);
+        reserve(productCountingMap);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            commit(productCountingMap);
+            return;
+        }
+
+        // 커밋되면 flush 대상으로 확정하고, 롤백되면 예약했던 수량을 되돌린다.
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    commit(productCountingMap);
+                } else {
+                    release(productCountingMap);
+                }
+            }
+        });
+    }
+
+    // 예약 가능 수량. 아직 커밋되지 않은 주문의 예약도 빠져 있다.
+    public int getQuantity(String productNumber) {
+        return getCounter(productNumber).available.get();
+    }
+
+    // 커밋된 주문만 반영된 수량. flush 는 이 값을 stock 테이블에 쓴다.
+    public int getCommittedQuantity(String productNumber) {
+        return getCounter(productNumber).committed.get();
+    }
+
+    @Scheduled(fixedDelayString = "${cafekiosk.stock.in-memory.flush-interval-ms:1000}")
+    public void flush() {
+        if (dirtyProductNumbers.isEmpty()) {
+            return;
+        }
+
+        // 값을 읽기 전에 dirty 표시를 먼저 지워야 그 사이에 생긴 차감이 다음 flush 에서 누락되지 않는다.
+        List<String> productNumbers = new ArrayList<>(dirtyProductNumbers);
+        productNumbers.forEach(dirtyProductNumbers::remove);
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> productNumbers.forEach(productNumber -> {
+                StockCounter counter = counters.get(productNumber);
+                if (counter != null) {
+                    stockRepository.updateQuantity(productNumber, counter.committed.get());
+                }
+            }));
+        } catch (RuntimeException e) {
+            dirtyProductNumbers.addAll(productNumbers);
+            log.warn("재고 반영에 실패했습니다. 다음 주기에 다시 시도합니다. productNumbers={}", productNumbers, e);
+        }
+    }
+
+    // 아직 반영되지 않은 변경을 먼저 쓰고, 다음 차감 때 stock 테이블에서 다시 읽어오도록 비운다.
+    public void evictAll() {
+        flush();
+        counters.clear();
+    }
+
+    private StockCounter getCounter(String productNumber) {
+        StockCounter counter = counters.get(productNumber);
+        if (counter == null) {
+            throw new IllegalArgumentException("메모리에 적재되지 않은 재고입니다. productNumber=" + productNumber);
+        }
+        return counter;
+    }
+
+    private void loadQuantitiesIfAbsent(Map<String, Long> productCountingMap) {
+        List<String> missingProductNumbers = productCountingMap.keySet().stream()
+                .filter(productNumber -> !counters.containsKey(productNumber))
+                .collect(Collectors.toList());
+        if (missingProductNumbers.isEmpty()) {
+            return;
+        }
+
+        // 동시에 적재된 경우 먼저 들어간 카운터를 그대로 사용한다.
+        for (Stock stock : stockRepository.findAllByProductNumberIn(missingProductNumbers)) {
+            counters.putIfAbsent(stock.getProductNumber(), new StockCounter(stock.getQuantity()));
+        }
+    }
+
+    private void reserve(Map<String, Long> productCountingMap) {
+        Iterable<Lock> stripes = locks.bulkGet(productCountingMap.keySet());
+        stripes.forEach(Lock::lock);
+        try {
+            for (Map.Entry<String, Long> entry : productCountingMap.entrySet()) {
+                StockCounter counter = counters.get(entry.getKey());
+                if (counter == null || counter.available.get() < entry.getValue()) {
+                    throw new IllegalArgumentException("재고가 부족한 상품이 있습니다.");
+                }
+            }
+            productCountingMap.forEach((productNumber, quantity) ->
+                    counters.get(productNumber).available.addAndGet(-quantity.intValue()));
+        } finally {
+            stripes.forEach(Lock::unlock);
+        }
+    }
+
+    private void commit(Map<String, Long> productCountingMap) {
+        productCountingMap.forEach((productNumber, quantity) -> {
+            StockCounter counter = counters.get(productNumber);
+            if (counter != null) {
+                counter.committed.addAndGet(-quantity.intValue());
+                dirtyProductNumbers.add(productNumber);
+            }
+        });
+    }
+
+    private void release(Map<String, Long> productCountingMap) {
+        Iterable<Lock> stripes = locks.bulkGet(productCountingMap.keySet());
+        stripes.forEach(Lock::lock);
+        try {
+            productCountingMap.forEach((productNumber, quantity) -> {
+                StockCounter counter = counters.get(productNumber);
+                if (counter != null) {
+                    counter.available.addAndGet(quantity.intValue());
+                }
+            });
+        } finally {
+            stripes.forEach(Lock::unlock);
+        }
+    }
+
+    private static class StockCounter {
+
+        private final AtomicInteger available;
+        private final AtomicInteger committed;
+
+        StockCounter(int quantity) {
+            this.available = new AtomicInteger(quantity);
+            this.committed = new AtomicInteger(quantity);
+        }
+    }
+}
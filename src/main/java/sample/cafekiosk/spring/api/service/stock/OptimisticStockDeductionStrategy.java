@@ -0,0 +1,90 @@
+package sample.cafekiosk.spring.api.service.stock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import sample.cafekiosk.spring.domain.stock.StockQuantity;
+import sample.cafekiosk.spring.domain.stock.StockRepository;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+@Version 값을 비교 토큰으로 사용한다. 현재 수량/버전을 읽고 "버전이 그대로일 때만" 차감하며,
+다른 주문이 먼저 바꿨다면 다시 읽어서 최대 maxAttempts 번까지 재시도한다.
+읽기와 차감은 모두 주문 트랜잭션(커넥션) 안에서 한다. 버전이 달라 0건 갱신된 UPDATE 는 잠금을 남기지 않으므로 그대로 다시 읽으면 된다.
+(read committed 기준. 다시 읽을 때마다 최신 커밋 값이 보여야 하므로 repeatable read / snapshot 에서는 재시도가 계속 실패한다.)
+중간 상품에서 실패하면 앞서 차감한 상품을 같은 트랜잭션 안에서 되돌린 뒤 예외를 던지고,
+재시도를 다 쓴 경우도 재고 부족과 같이 IllegalArgumentException 으로 알린다. (배치 주문에서는 그 주문만 실패한다.)
+ */
+@Component
+public class OptimisticStockDeductionStrategy implements StockDeductionStrategy {
+
+    private final StockRepository stockRepository;
+    private final int maxAttempts;
+    private final LongAdder retryCount = new LongAdder();
+
+    public OptimisticStockDeductionStrategy(StockRepository stockRepository,
+                                            @Value("${cafekiosk.stock.optimistic.max-attempts:5}") int maxAttempts) {
+        this.stockRepository = stockRepository;
+        this.maxAttempts = maxAttempts;
+    }
+
+    @Override
+    public StockDeductionMode getMode() {
+        return StockDeductionMode.OPTIMISTIC;
+    }
+
+    @Override
+    public void deduct(Map<String, Long> productCountingMap) {
+        Map<String, Long> deducted = new LinkedHashMap<>();
+        try {
+            // 교착 상태를 피하기 위해 상품번호 순서로 갱신한다.
+            new TreeMap<>(productCountingMap).forEach((productNumber, quantity) -> {
+                deductWithRetry(productNumber, quantity.intValue());
+                deducted.put(productNumber, quantity);
+            });
+        } catch (IllegalArgumentException e) {
+            deducted.forEach((productNumber, quantity) -> stockRepository.restoreQuantity(productNumber, quantity.intValue()));
+            throw e;
+        }
+    }
+
+    public long getRetryCount() {
+        return retryCount.sum();
+    }
+
+    private void deductWithRetry(String productNumber, int quantity) {
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            if (tryDeduct(productNumber, quantity)) {
+                return;
+            }
+
+            retryCount.increment();
+            backOff(attempt);
+        }
+
+        throw new IllegalArgumentException("재고 차감 중 충돌이 반복되어 주문을 처리하지 못했습니다.");
+    }
+
+    private boolean tryDeduct(String productNumber, int quantity) {
+        StockQuantity current = stockRepository.findQuantityByProductNumber(productNumber)
+                .orElseThrow(() -> new IllegalArgumentException("재고가 부족한 상품이 있습니다."));
+        if (current.quantity() < quantity) {
+            throw new IllegalArgumentException("재고가 부족한 상품이 있습니다.");
+        }
+
+        return stockRepository.deductQuantityIfVersionMatches(productNumber, quantity, current.version()) == 1;
+    }
+
+    private static void backOff(int attempt) {
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(1, 5L * attempt + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("재고 차감 재시도 중 인터럽트가 발생했습니다.", e);
+        }
+    }
+}
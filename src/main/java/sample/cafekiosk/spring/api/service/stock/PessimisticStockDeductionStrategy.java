@@ -0,0 +1,42 @@
+package sample.cafekiosk.spring.api.service.stock;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import sample.cafekiosk.spring.domain.stock.Stock;
+import sample.cafekiosk.spring.domain.stock.StockRepository;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+// 주문 트랜잭션이 끝날 때까지 재고 row 에 쓰기 잠금을 건다.
+@RequiredArgsConstructor
+@Component
+public class PessimisticStockDeductionStrategy implements StockDeductionStrategy {
+
+    private final StockRepository stockRepository;
+
+    @Override
+    public StockDeductionMode getMode() {
+        return StockDeductionMode.PESSIMISTIC;
+    }
+
+    @Override
+    public void deduct(Map<String, Long> productCountingMap) {
+        if (productCountingMap.isEmpty()) {
+            return;
+        }
+
+        Map<String, Stock> stockMap = stockRepository.findAllForUpdateByProductNumberIn(new ArrayList<>(productCountingMap.keySet())).stream()
+                .collect(Collectors.toMap(Stock::getProductNumber, stock -> stock));
+
+        for (Map.Entry<String, Long> entry : productCountingMap.entrySet()) {
+            Stock stock = stockMap.get(entry.getKey());
+            if (stock == null || stock.isQuantityLessThan(entry.getValue().intValue())) {
+                throw new IllegalArgumentException("재고가 부족한 상품이 있습니다.");
+            }
+        }
+        productCountingMap.forEach((productNumber, quantity) ->
+                stockMap.get(productNumber).deductQuantity(quantity.intValue()));
+    }
+}
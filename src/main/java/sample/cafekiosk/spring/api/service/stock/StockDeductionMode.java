@@ -0,0 +1,17 @@
+package sample.cafekiosk.spring.api.service.stock;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum StockDeductionMode {
+
+    DIRTY_CHECKING("엔티티 조회 후 변경 감지"),
+    IN_MEMORY("메모리 재고 카운터 + 백그라운드 반영"),
+    OPTIMISTIC("버전 비교 갱신 + 제한된 재시도"),
+    PESSIMISTIC("SELECT ... FOR UPDATE"),
+    ATOMIC_SQL("조건부 UPDATE 한 번으로 차감");
+
+    private final String text;
+}
@@ -0,0 +1,35 @@
+package sample.cafekiosk.spring.api.service.stock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+public class StockDeductionStrategies {
+
+    private final Map<StockDeductionMode, StockDeductionStrategy> strategies = new EnumMap<>(StockDeductionMode.class);
+    private final StockDeductionMode mode;
+
+    public StockDeductionStrategies(List<StockDeductionStrategy> strategies,
+                                    @Value("${cafekiosk.stock.deduction-mode:DIRTY_CHECKING}") StockDeductionMode mode) {
+        strategies.forEach(strategy -> this.strategies.put(strategy.getMode(), strategy));
+        this.mode = mode;
+        get(mode);
+    }
+
+    // application.yml 에 설정된 재고 차감 방식
+    public StockDeductionStrategy current() {
+        return get(mode);
+    }
+
+    public StockDeductionStrategy get(StockDeductionMode mode) {
+        StockDeductionStrategy strategy = strategies.get(mode);
+        if (strategy == null) {
+            throw new IllegalArgumentException("지원하지 않는 재고 차감 방식입니다. mode=" + mode);
+        }
+        return strategy;
+    }
+}
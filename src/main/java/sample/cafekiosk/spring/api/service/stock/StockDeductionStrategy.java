@@ -0,0 +1,11 @@
+package sample.cafekiosk.spring.api.service.stock;
+
+import java.util.Map;
+
+public interface StockDeductionStrategy {
+
+    StockDeductionMode getMode();
+
+    // 상품번호별 차감 수량을 받아 한 주문의 모든 재고를 차감한다. 하나라도 부족하면 예외가 발생한다.
+    void deduct(Map<String, Long> productCountingMap);
+}
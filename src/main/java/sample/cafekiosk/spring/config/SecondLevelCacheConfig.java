@@ -0,0 +1,64 @@
+package sample.cafekiosk.spring.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/*
+Hibernate 2차 캐시를 같은 JVM 안의 Caffeine(JCache)에 둔다.
+region 은 application.yml 의 cafekiosk.cache.regions 에 적힌 것만 만들고, 빠진 region 이 있으면 기동에 실패한다.
+(hibernate.javax.cache.missing_cache_strategy: fail)
+region 별 hit / miss / put / eviction 은 cache.* 메트릭(cacheManager=hibernate)으로 내보낸다.
+ */
+@Configuration
+@EnableConfigurationProperties(SecondLevelCacheProperties.class)
+public class SecondLevelCacheConfig {
+
+    private static final String CACHE_MANAGER_TAG = "hibernate";
+
+    // 테스트처럼 한 JVM 에 ApplicationContext 가 여럿 떠도 region 을 공유하지 않도록 context 마다 따로 만든다.
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(SecondLevelCacheProperties properties) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("cafekiosk-hibernate-" + UUID.randomUUID()), getClass().getClassLoader());
+
+        properties.regions().forEach((name, region) -> cacheManager.createCache(name, toConfiguration(region)));
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return hibernateProperties -> hibernateProperties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    @Bean
+    public MeterBinder secondLevelCacheMetrics(CacheManager hibernateCacheManager) {
+        return registry -> hibernateCacheManager.getCacheNames().forEach(name ->
+                JCacheMetrics.monitor(registry, hibernateCacheManager.getCache(name), "cacheManager", CACHE_MANAGER_TAG));
+    }
+
+    private static CaffeineConfiguration<Object, Object> toConfiguration(SecondLevelCacheProperties.Region region) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(region.maxSize()));
+        if (region.ttlSeconds() > 0) {
+            configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.SECONDS.toNanos(region.ttlSeconds())));
+        }
+        // Hibernate 가 넣는 값은 이미 분해된(disassembled) 상태라 직렬화 복사가 필요 없다.
+        configuration.setStoreByValue(false);
+        configuration.setStatisticsEnabled(true);
+        return configuration;
+    }
+}
@@ -0,0 +1,20 @@
+package sample.cafekiosk.spring.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.Map;
+
+/*
+Hibernate 2차 캐시 region 별 설정 (cafekiosk.cache.regions.<region 이름>)
+ttl-seconds 가 0 이면 만료시키지 않는다.
+ */
+@ConfigurationProperties(prefix = "cafekiosk.cache")
+public record SecondLevelCacheProperties(Map<String, Region> regions) {
+
+    public SecondLevelCacheProperties {
+        regions = regions == null ? Map.of() : Map.copyOf(regions);
+    }
+
+    public record Region(long maxSize, long ttlSeconds) {
+    }
+}
@@ -0,0 +1,19 @@
+package sample.cafekiosk.spring.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import sample.cafekiosk.spring.domain.id.SnowflakeIdentifierGenerator;
+
+/*
+cafekiosk.id.node-id 를 Hibernate 설정으로 넘겨서 SnowflakeIdentifierGenerator 가 읽을 수 있게 한다.
+ */
+@Configuration
+public class SnowflakeIdConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer snowflakeIdCustomizer(@Value("${cafekiosk.id.node-id:0}") long nodeId) {
+        return hibernateProperties -> hibernateProperties.put(SnowflakeIdentifierGenerator.NODE_ID_SETTING, nodeId);
+    }
+}
@@ -0,0 +1,27 @@
+package sample.cafekiosk.spring.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/*
+virtual 프로필은 spring.threads.virtual.enabled 를 켜지만, Java 21 미만에서는 이 설정이 아무 일도 하지 않는다.
+그대로 뜨면 platform thread 로 처리한 부하 테스트 결과가 virtual thread 결과로 기록되므로 시작할 때 실패시킨다.
+(./gradlew bootRun -PjavaVersion=21 --args='--spring.profiles.active=local,virtual')
+ */
+@Profile("virtual")
+@Configuration
+public class VirtualThreadConfig {
+
+    static final int MIN_JAVA_VERSION = 21;
+
+    public VirtualThreadConfig() {
+        checkJavaVersion(Runtime.version().feature());
+    }
+
+    static void checkJavaVersion(int javaVersion) {
+        if (javaVersion < MIN_JAVA_VERSION) {
+            throw new IllegalStateException("virtual 프로필은 Java " + MIN_JAVA_VERSION + " 이상에서만 사용할 수 있습니다. "
+                    + "-PjavaVersion=" + MIN_JAVA_VERSION + " 로 실행하세요. javaVersion=" + javaVersion);
+        }
+    }
+}
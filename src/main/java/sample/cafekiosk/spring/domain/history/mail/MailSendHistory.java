@@ -1,22 +1,32 @@
 package sample.cafekiosk.spring.domain.history.mail;
 
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import sample.cafekiosk.spring.domain.BaseTimeEntity;
+import sample.cafekiosk.spring.domain.id.SnowflakeId;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/*
+메일 outbox 역할도 같이 한다. 요청 시점에는 PENDING 으로 저장되고, dispatcher 가 가져가면 SENDING,
+전송에 성공하면 SENT, 최대 시도 횟수를 넘기면 DEAD 가 된다.
+ */
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
 public class MailSendHistory extends BaseTimeEntity {
 
+    private static final int MAX_ERROR_LENGTH = 255;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     private String fromEmail;
@@ -24,11 +34,45 @@ public class MailSendHistory extends BaseTimeEntity {
     private String subject;
     private String content;
 
+    @Enumerated(EnumType.STRING)
+    private MailSendStatus status;
+
+    private int attemptCount;
+
+    private LocalDateTime nextAttemptAt;
+
+    private String lastError;
+
+    private LocalDateTime sentAt;
+
     @Builder
-    public MailSendHistory(String content, String subject, String toEmail, String fromEmail) {
+    public MailSendHistory(String content, String subject, String toEmail, String fromEmail, LocalDateTime requestedDateTime) {
         this.content = content;
         this.subject = subject;
         this.toEmail = toEmail;
         this.fromEmail = fromEmail;
+        this.status = MailSendStatus.PENDING;
+        this.nextAttemptAt = requestedDateTime;
+    }
+
+    public void markSent(LocalDateTime sentAt) {
+        this.status = MailSendStatus.SENT;
+        this.attemptCount++;
+        this.sentAt = sentAt;
+        this.nextAttemptAt = null;
+        this.lastError = null;
+    }
+
+    public void markFailed(String error, LocalDateTime failedAt, int maxAttempts, Duration backoff) {
+        this.attemptCount++;
+        this.lastError = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        if (attemptCount >= maxAttempts) {
+            this.status = MailSendStatus.DEAD;
+            this.nextAttemptAt = null;
+            return;
+        }
+
+        this.status = MailSendStatus.PENDING;
+        this.nextAttemptAt = failedAt.plus(backoff);
     }
 }
@@ -1,8 +1,28 @@
 package sample.cafekiosk.spring.domain.history.mail;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Repository
 public interface MailSendHistoryRepository extends JpaRepository<MailSendHistory, Long> {
+
+    // 전송할 차례가 된 대기 건과, 가져간 노드가 lease 안에 끝내지 못한 전송 중 건을 함께 조회한다.
+    @Query("select m.id from MailSendHistory m " +
+            "where m.status in (sample.cafekiosk.spring.domain.history.mail.MailSendStatus.PENDING, sample.cafekiosk.spring.domain.history.mail.MailSendStatus.SENDING) " +
+            "and m.nextAttemptAt <= :now order by m.nextAttemptAt")
+    List<Long> findDispatchTargetIds(LocalDateTime now, Pageable pageable);
+
+    // 조건부 UPDATE 로 가져가므로 여러 노드가 같은 건을 동시에 보내지 않는다. 1이면 이 노드가 가져간 것이다.
+    @Modifying
+    @Query("update MailSendHistory m set m.status = sample.cafekiosk.spring.domain.history.mail.MailSendStatus.SENDING, m.nextAttemptAt = :leaseUntil " +
+            "where m.id = :id " +
+            "and m.status in (sample.cafekiosk.spring.domain.history.mail.MailSendStatus.PENDING, sample.cafekiosk.spring.domain.history.mail.MailSendStatus.SENDING) " +
+            "and m.nextAttemptAt <= :now")
+    int claim(Long id, LocalDateTime now, LocalDateTime leaseUntil);
 }
@@ -0,0 +1,16 @@
+package sample.cafekiosk.spring.domain.history.mail;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum MailSendStatus {
+
+    PENDING("전송 대기"),
+    SENDING("전송 중"),
+    SENT("전송 완료"),
+    DEAD("전송 포기");
+
+    private final String text;
+}
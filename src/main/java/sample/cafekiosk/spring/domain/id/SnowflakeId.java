@@ -0,0 +1,17 @@
+package sample.cafekiosk.spring.domain.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+// IDENTITY 대신 메모리에서 발급하는 Snowflake ID 를 사용한다.
+@IdGeneratorType(SnowflakeIdentifierGenerator.class)
+@Retention(RUNTIME)
+@Target({FIELD, METHOD})
+public @interface SnowflakeId {
+}
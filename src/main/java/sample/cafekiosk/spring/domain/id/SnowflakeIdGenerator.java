@@ -0,0 +1,101 @@
+package sample.cafekiosk.spring.domain.id;
+
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/*
+Snowflake 방식의 64bit 시간순 ID
+| 0 | timestamp(41bit, EPOCH 기준 ms) | nodeId(10bit) | sequence(12bit) |
+DB 를 거치지 않고 메모리에서 발급하므로 insert 를 JDBC batch 로 묶을 수 있고,
+nodeId 가 다르면 같은 ms 에 발급해도 겹치지 않는다.
+ID 의 timestamp 는 시계보다 앞서지 않는다. 한 ms 의 sequence 를 다 쓰면 시계가 다음 ms 로 넘어갈 때까지 기다리고,
+시계가 뒤로 가면 MAX_CLOCK_BACKWARD_MILLIS 안에서만 따라잡기를 기다리며 그보다 크게 밀리면 발급을 거부한다.
+ */
+public class SnowflakeIdGenerator {
+
+    public static final long EPOCH = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+
+    private static final int NODE_ID_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    public static final long MAX_NODE_ID = (1L << NODE_ID_BITS) - 1;
+    private static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+    public static final long MAX_CLOCK_BACKWARD_MILLIS = 10;
+
+    private static final ConcurrentMap<Long, SnowflakeIdGenerator> GENERATORS = new ConcurrentHashMap<>();
+
+    private final long nodeId;
+    private final LongSupplier currentTimeMillis;
+    // (EPOCH 기준 timestamp << SEQUENCE_BITS) | sequence : 마지막으로 발급한 값
+    private final AtomicLong lastState = new AtomicLong();
+
+    public SnowflakeIdGenerator(long nodeId, LongSupplier currentTimeMillis) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("nodeId 는 0 이상 " + MAX_NODE_ID + " 이하여야 합니다. nodeId=" + nodeId);
+        }
+        this.nodeId = nodeId;
+        this.currentTimeMillis = currentTimeMillis;
+    }
+
+    // 같은 노드의 모든 엔티티가 하나의 발급기를 공유한다.
+    public static SnowflakeIdGenerator of(long nodeId) {
+        return GENERATORS.computeIfAbsent(nodeId, id -> new SnowflakeIdGenerator(id, System::currentTimeMillis));
+    }
+
+    public long nextId() {
+        while (true) {
+            long last = lastState.get();
+            long lastTimestamp = last >>> SEQUENCE_BITS;
+            long now = currentTimestampNotBefore(lastTimestamp);
+
+            long next;
+            if (now > lastTimestamp) {
+                next = now << SEQUENCE_BITS;
+            } else if ((last & MAX_SEQUENCE) < MAX_SEQUENCE) {
+                next = last + 1;
+            } else {
+                // 한 ms 의 sequence 를 다 쓰면 시계가 다음 ms 로 넘어갈 때까지 기다린다.
+                currentTimestampNotBefore(lastTimestamp + 1);
+                continue;
+            }
+
+            if (lastState.compareAndSet(last, next)) {
+                long timestamp = next >>> SEQUENCE_BITS;
+                long sequence = next & MAX_SEQUENCE;
+                return (timestamp << (NODE_ID_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+            }
+        }
+    }
+
+    // 시계가 timestamp 에 도달할 때까지 최대 MAX_CLOCK_BACKWARD_MILLIS 동안 기다린다.
+    private long currentTimestampNotBefore(long timestamp) {
+        long now = currentTimeMillis.getAsLong() - EPOCH;
+        if (now >= timestamp) {
+            return now;
+        }
+        if (timestamp - now > MAX_CLOCK_BACKWARD_MILLIS) {
+            throw new IllegalStateException("시계가 뒤로 이동해서 ID 를 발급할 수 없습니다. behindMillis=" + (timestamp - now));
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(MAX_CLOCK_BACKWARD_MILLIS);
+        while (now < timestamp) {
+            if (System.nanoTime() - deadline > 0) {
+                throw new IllegalStateException("시계가 뒤로 이동해서 ID 를 발급할 수 없습니다. behindMillis=" + (timestamp - now));
+            }
+            Thread.onSpinWait();
+            now = currentTimeMillis.getAsLong() - EPOCH;
+        }
+        return now;
+    }
+
+    public static long extractNodeId(long id) {
+        return (id >>> SEQUENCE_BITS) & MAX_NODE_ID;
+    }
+
+    public static long extractEpochMillis(long id) {
+        return (id >>> (NODE_ID_BITS + SEQUENCE_BITS)) + EPOCH;
+    }
+}
@@ -0,0 +1,32 @@
+package sample.cafekiosk.spring.domain.id;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+
+import java.lang.reflect.Member;
+
+/*
+nodeId 는 cafekiosk.id.node-id 로 노드마다 다르게 설정한다. (SnowflakeIdConfig 가 Hibernate 설정으로 넘겨준다.)
+ */
+public class SnowflakeIdentifierGenerator implements IdentifierGenerator {
+
+    public static final String NODE_ID_SETTING = "cafekiosk.id.node-id";
+
+    private final SnowflakeIdGenerator idGenerator;
+
+    public SnowflakeIdentifierGenerator(SnowflakeId config, Member idMember, CustomIdGeneratorCreationContext creationContext) {
+        Object nodeId = creationContext.getServiceRegistry()
+                .getService(ConfigurationService.class)
+                .getSettings()
+                .get(NODE_ID_SETTING);
+
+        this.idGenerator = SnowflakeIdGenerator.of(nodeId == null ? 0L : Long.parseLong(nodeId.toString()));
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return idGenerator.nextId();
+    }
+}
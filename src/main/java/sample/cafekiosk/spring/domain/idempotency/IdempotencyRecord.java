@@ -0,0 +1,59 @@
+package sample.cafekiosk.spring.domain.idempotency;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Transient;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+import sample.cafekiosk.spring.domain.BaseTimeEntity;
+
+/*
+Idempotency-Key 로 처리한 주문 생성 요청의 결과.
+주문보다 먼저 INSERT 해서 같은 키로 동시에 들어온 다른 노드의 요청이 PK 에서 막히도록 하고,
+주문이 만들어지면 같은 트랜잭션에서 orderId 를 채운다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+public class IdempotencyRecord extends BaseTimeEntity implements Persistable<String> {
+
+    @Id
+    private String idempotencyKey;
+
+    private String requestHash;
+
+    private Long orderId;
+
+    // 키를 직접 지정하므로 save() 가 merge(SELECT) 대신 persist 하도록 새 엔티티임을 알려준다.
+    @Transient
+    private boolean isNew = true;
+
+    public IdempotencyRecord(String idempotencyKey, String requestHash) {
+        this.idempotencyKey = idempotencyKey;
+        this.requestHash = requestHash;
+    }
+
+    public void complete(Long orderId) {
+        this.orderId = orderId;
+    }
+
+    @Override
+    public String getId() {
+        return idempotencyKey;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
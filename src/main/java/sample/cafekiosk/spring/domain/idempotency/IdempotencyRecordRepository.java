@@ -0,0 +1,16 @@
+package sample.cafekiosk.spring.domain.idempotency;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+    @Modifying
+    @Query("delete from IdempotencyRecord r where r.createdTime < :before")
+    int deleteCreatedBefore(LocalDateTime before);
+}
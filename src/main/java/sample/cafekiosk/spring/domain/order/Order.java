@@ -6,22 +6,32 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import sample.cafekiosk.spring.domain.BaseTimeEntity;
+import sample.cafekiosk.spring.domain.id.SnowflakeId;
 import sample.cafekiosk.spring.domain.orderProduct.OrderProduct;
 import sample.cafekiosk.spring.domain.product.Product;
+import sample.cafekiosk.spring.domain.product.ProductSnapshot;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        // 목록 조회의 keyset 페이지네이션 (registered_date_time, id) 순서와 같게 둔다.
+        @Index(name = "idx_orders_registered_date_time_id", columnList = "registered_date_time, id"),
+        @Index(name = "idx_orders_order_status_registered_date_time_id", columnList = "order_status, registered_date_time, id")
+})
 @Entity
 public class Order extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     @Enumerated(EnumType.STRING)
@@ -36,12 +46,15 @@ public class Order extends BaseTimeEntity {
 
     @Builder
     private Order(List<Product> products, OrderStatus orderStatus, LocalDateTime registeredDateTime) {
+        this(toSnapshots(products), productReferenceOf(products), orderStatus, registeredDateTime);
+    }
+
+    private Order(List<ProductSnapshot> products, Function<ProductSnapshot, Product> productReference,
+                  OrderStatus orderStatus, LocalDateTime registeredDateTime) {
         this.orderStatus = orderStatus; // order의 초기값이나 등록 시간을 부여해야 하는 test 작성!
         this.totalPrice = calculateTotalPrice(products);
         this.registeredDateTime = registeredDateTime;
-        this.orderProducts = products.stream()
-                .map(product -> new OrderProduct(this, product))
-                .collect(Collectors.toList());
+        this.orderProducts = createOrderProducts(products, productReference);
     }
 
     public static Order create(List<Product> products, LocalDateTime registeredDateTime){
@@ -52,8 +65,49 @@ public class Order extends BaseTimeEntity {
                 .build();
     }
 
-    private static int calculateTotalPrice(List<Product> products) {
-        return products.stream().mapToInt(Product::getPrice).sum();
+    /*
+    상품 엔티티를 읽지 않고 스냅샷으로 주문을 만든다.
+    productReference 는 주문 상품의 FK 로만 쓰이므로 getReferenceById 같은 프록시를 넘기면 된다.
+     */
+    public static Order create(List<ProductSnapshot> products, Function<ProductSnapshot, Product> productReference,
+                               LocalDateTime registeredDateTime) {
+        return new Order(products, productReference, OrderStatus.INIT, registeredDateTime);
+    }
+
+    // 허용되지 않는 전이(ex. 처리완료 -> 주문취소)는 예외가 발생한다. 전이 규칙은 OrderStatus 에 있다.
+    public void changeStatus(OrderStatus orderStatus) {
+        OrderStatus.validateTransition(this.orderStatus, orderStatus);
+        this.orderStatus = orderStatus;
+    }
+
+    // 같은 상품번호는 한 줄로 합치고, 처음 나온 순서를 유지한다.
+    private List<OrderProduct> createOrderProducts(List<ProductSnapshot> products, Function<ProductSnapshot, Product> productReference) {
+        Map<String, ProductSnapshot> productMap = new LinkedHashMap<>();
+        Map<String, Integer> quantityMap = new HashMap<>();
+        for (ProductSnapshot product : products) {
+            productMap.putIfAbsent(product.productNumber(), product);
+            quantityMap.merge(product.productNumber(), 1, Integer::sum);
+        }
+
+        return productMap.values().stream()
+                .map(product -> new OrderProduct(this, productReference.apply(product), product, quantityMap.get(product.productNumber())))
+                .collect(Collectors.toList());
+    }
+
+    private static int calculateTotalPrice(List<ProductSnapshot> products) {
+        return products.stream().mapToInt(ProductSnapshot::price).sum();
+    }
+
+    private static List<ProductSnapshot> toSnapshots(List<Product> products) {
+        return products.stream()
+                .map(ProductSnapshot::of)
+                .collect(Collectors.toList());
+    }
+
+    private static Function<ProductSnapshot, Product> productReferenceOf(List<Product> products) {
+        Map<String, Product> productMap = new HashMap<>();
+        products.forEach(product -> productMap.putIfAbsent(product.getProductNumber(), product));
+        return snapshot -> productMap.get(snapshot.productNumber());
     }
 
 //    public static Order create(List<Product> products, LocalDateTime registeredDateTime) {
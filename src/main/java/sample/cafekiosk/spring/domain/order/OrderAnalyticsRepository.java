@@ -0,0 +1,57 @@
+package sample.cafekiosk.spring.domain.order;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.time.LocalDateTime;
+
+/*
+매출 분석용으로 orders / order_product 행을 JDBC 로 한 줄씩 흘려보낸다.
+엔티티나 결과 목록을 만들지 않고 fetch size 단위로 읽으면서 바로 handler 에 넘기므로,
+행 수와 관계없이 메모리 사용량이 일정하다. (커서로 읽으려면 트랜잭션 안에서 호출해야 한다.)
+ */
+@Repository
+public class OrderAnalyticsRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public OrderAnalyticsRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /*
+    주문 상품 한 줄마다 주문 id / 등록 시각과 함께 넘긴다. 상품이 없는 주문은 상품 값이 null 인 한 줄로 넘긴다.
+    주문 수도 이 한 문장에서 세어야 주문 / 주문 상품을 따로 읽을 때처럼 그 사이에 커밋된 주문 때문에 서로 어긋나지 않는다.
+    같은 주문의 줄이 이어서 나오도록 주문 id 로 정렬한다.
+     */
+    public void forEachOrderLine(LocalDateTime startDateTime, LocalDateTime endDateTime, OrderStatus orderStatus, int fetchSize,
+                                 OrderLineRowHandler handler) {
+        query("select o.id, o.registered_date_time, op.product_number, op.product_name, op.quantity, op.unit_price " +
+                        "from orders o left join order_product op on op.order_id = o.id " +
+                        "where o.registered_date_time >= ? and o.registered_date_time < ? and o.order_status = ? " +
+                        "order by o.id",
+                startDateTime, endDateTime, orderStatus, fetchSize,
+                rs -> handler.handle(rs.getLong(1), rs.getObject(2, LocalDateTime.class), rs.getString(3), rs.getString(4),
+                        rs.getInt(5), rs.getInt(6)));
+    }
+
+    private void query(String sql, LocalDateTime startDateTime, LocalDateTime endDateTime, OrderStatus orderStatus, int fetchSize,
+                       RowCallbackHandler rowCallbackHandler) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql);
+            statement.setFetchSize(fetchSize);
+            statement.setObject(1, startDateTime);
+            statement.setObject(2, endDateTime);
+            statement.setString(3, orderStatus.name());
+            return statement;
+        }, rowCallbackHandler);
+    }
+
+    @FunctionalInterface
+    public interface OrderLineRowHandler {
+        // 상품이 없는 주문이면 productNumber, productName 은 null, quantity, unitPrice 는 0 이다.
+        void handle(long orderId, LocalDateTime registeredDateTime, String productNumber, String productName, int quantity, int unitPrice);
+    }
+}
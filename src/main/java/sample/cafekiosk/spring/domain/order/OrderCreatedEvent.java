@@ -0,0 +1,11 @@
+package sample.cafekiosk.spring.domain.order;
+
+import java.time.LocalDateTime;
+
+public record OrderCreatedEvent(Long orderId, OrderStatus orderStatus, int totalPrice, LocalDateTime registeredDateTime)
+        implements OrderEvent {
+
+    public static OrderCreatedEvent of(Order order) {
+        return new OrderCreatedEvent(order.getId(), order.getOrderStatus(), order.getTotalPrice(), order.getRegisteredDateTime());
+    }
+}
@@ -0,0 +1,11 @@
+package sample.cafekiosk.spring.domain.order;
+
+import java.time.LocalDateTime;
+
+// 주문 이벤트 공통 타입. 커밋된 뒤 OrderEventBus 를 통해 소비자에게 전달된다.
+public sealed interface OrderEvent permits OrderCreatedEvent, OrderStatusChangedEvent {
+
+    Long orderId();
+
+    LocalDateTime registeredDateTime();
+}
@@ -1,15 +1,37 @@
 package sample.cafekiosk.spring.domain.order;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface OrderRepository extends JpaRepository<Order, Long> {
+public interface OrderRepository extends JpaRepository<Order, Long>, OrderRepositoryCustom {
 
     @Query("select o from Order o where o.registeredDateTime >= :startDateTime and o.registeredDateTime < :endDateTime and o.orderStatus = :orderStatus")
     List<Order> findOrderBy(LocalDateTime startDateTime, LocalDateTime endDateTime, OrderStatus orderStatus);
+
+    @Query("select new sample.cafekiosk.spring.domain.order.OrderSalesSummary(count(o), coalesce(sum(o.totalPrice), 0L)) from Order o " +
+            "where o.registeredDateTime >= :startDateTime and o.registeredDateTime < :endDateTime and o.orderStatus = :orderStatus")
+    OrderSalesSummary aggregateOrderBy(LocalDateTime startDateTime, LocalDateTime endDateTime, OrderStatus orderStatus);
+
+    // 주문 상품을 fetch join 으로 같이 읽어서, 응답을 만들 때 지연 로딩 쿼리가 추가로 나가지 않는다.
+    // 주문 상품에 상품 정보가 복사되어 있으므로 product 는 join 하지 않는다.
+    @Query("select o from Order o left join fetch o.orderProducts where o.id = :orderId")
+    Optional<Order> findWithProductsById(Long orderId);
+
+    @Query("select o from Order o left join fetch o.orderProducts " +
+            "where o.registeredDateTime >= :startDateTime and o.registeredDateTime < :endDateTime " +
+            "order by o.registeredDateTime, o.id")
+    List<Order> findAllWithProductsBy(LocalDateTime startDateTime, LocalDateTime endDateTime);
+
+    // 엔티티를 읽지 않고 한 번의 UPDATE 로 바꾼다. 그 사이 상태가 바뀐 주문은 조건에 걸려서 바뀌지 않는다.
+    @Modifying
+    @Query("update Order o set o.orderStatus = :targetStatus where o.id in :orderIds and o.orderStatus = :expectedStatus")
+    int updateStatus(Collection<Long> orderIds, OrderStatus expectedStatus, OrderStatus targetStatus);
 }
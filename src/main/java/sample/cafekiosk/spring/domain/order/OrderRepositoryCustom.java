@@ -0,0 +1,18 @@
+package sample.cafekiosk.spring.domain.order;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface OrderRepositoryCustom {
+
+    /*
+    (registeredDateTime, id) 순서로 afterRegisteredDateTime / afterId 다음 주문부터 limit 건을 읽는다. (keyset 페이지네이션)
+    orderStatus, startDateTime, endDateTime, after* 는 null 이면 조건에서 빠진다.
+     */
+    List<OrderSummary> findSummariesAfter(OrderStatus orderStatus, LocalDateTime startDateTime, LocalDateTime endDateTime,
+                                          LocalDateTime afterRegisteredDateTime, Long afterId, int limit);
+
+    // 상태 일괄 변경 대상 주문 행을 잠그고(select ... for update) 요약만 읽는다. 엔티티는 만들지 않는다.
+    List<OrderSummary> findSummariesForUpdate(Collection<Long> orderIds);
+}
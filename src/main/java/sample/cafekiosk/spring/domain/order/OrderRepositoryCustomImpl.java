@@ -0,0 +1,88 @@
+package sample.cafekiosk.spring.domain.order;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+public class OrderRepositoryCustomImpl implements OrderRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<OrderSummary> findSummariesAfter(OrderStatus orderStatus, LocalDateTime startDateTime, LocalDateTime endDateTime,
+                                                 LocalDateTime afterRegisteredDateTime, Long afterId, int limit) {
+        List<String> conditions = new ArrayList<>();
+        if (orderStatus != null) {
+            conditions.add("o.orderStatus = :orderStatus");
+        }
+        if (startDateTime != null) {
+            conditions.add("o.registeredDateTime >= :startDateTime");
+        }
+        if (endDateTime != null) {
+            conditions.add("o.registeredDateTime < :endDateTime");
+        }
+        if (afterRegisteredDateTime != null) {
+            // OFFSET 대신 마지막으로 본 (registeredDateTime, id) 바로 다음부터 인덱스를 타고 읽는다.
+            conditions.add("(o.registeredDateTime > :afterRegisteredDateTime or (o.registeredDateTime = :afterRegisteredDateTime and o.id > :afterId))");
+        }
+
+        String jpql = "select new sample.cafekiosk.spring.domain.order.OrderSummary(o.id, o.orderStatus, o.totalPrice, o.registeredDateTime) from Order o"
+                + (conditions.isEmpty() ? "" : " where " + String.join(" and ", conditions))
+                + " order by o.registeredDateTime, o.id";
+
+        TypedQuery<OrderSummary> query = entityManager.createQuery(jpql, OrderSummary.class)
+                .setMaxResults(limit);
+        if (orderStatus != null) {
+            query.setParameter("orderStatus", orderStatus);
+        }
+        if (startDateTime != null) {
+            query.setParameter("startDateTime", startDateTime);
+        }
+        if (endDateTime != null) {
+            query.setParameter("endDateTime", endDateTime);
+        }
+        if (afterRegisteredDateTime != null) {
+            query.setParameter("afterRegisteredDateTime", afterRegisteredDateTime);
+            query.setParameter("afterId", afterId);
+        }
+
+        return query.getResultList();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<OrderSummary> findSummariesForUpdate(Collection<Long> orderIds) {
+        // JPQL 의 잠금은 엔티티 조회에만 걸리므로, 스칼라 컬럼만 읽으면서 잠그기 위해 native query 를 쓴다.
+        List<Object[]> rows = entityManager.createNativeQuery("select o.id, o.order_status, o.total_price, o.registered_date_time " +
+                        "from orders o where o.id in (:orderIds) for update")
+                .setParameter("orderIds", orderIds)
+                .getResultList();
+
+        return rows.stream()
+                .map(OrderRepositoryCustomImpl::toSummary)
+                .toList();
+    }
+
+    private static OrderSummary toSummary(Object[] row) {
+        return new OrderSummary(
+                ((Number) row[0]).longValue(),
+                OrderStatus.valueOf((String) row[1]),
+                ((Number) row[2]).intValue(),
+                toLocalDateTime(row[3])
+        );
+    }
+
+    private static LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return (LocalDateTime) value;
+    }
+}
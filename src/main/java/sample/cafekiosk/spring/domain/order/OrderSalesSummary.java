@@ -0,0 +1,5 @@
+package sample.cafekiosk.spring.domain.order;
+
+// 주문 수와 매출 합계를 DB 에서 집계한 결과
+public record OrderSalesSummary(Long orderCount, Long totalAmount) {
+}
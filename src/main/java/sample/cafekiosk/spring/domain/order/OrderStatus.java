@@ -3,6 +3,11 @@ package sample.cafekiosk.spring.domain.order;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
 @Getter
 @RequiredArgsConstructor
 public enum OrderStatus {
@@ -15,4 +20,30 @@ public enum OrderStatus {
     COMPLETED("처리완료");
 
     private final String text;
+
+    /*
+    주문 상태 전이 규칙. 여기에 없는 전이는 모두 허용되지 않는다.
+    결제 실패는 대사(reconciliation) 결과 결제가 확인되면 결제완료로 바뀔 수 있고,
+    주문취소 / 처리완료는 더 이상 바뀌지 않는다.
+     */
+    private static final Map<OrderStatus, Set<OrderStatus>> TRANSITIONS = new EnumMap<>(OrderStatus.class);
+
+    static {
+        TRANSITIONS.put(INIT, EnumSet.of(PAYMENT_COMPLETED, PAYMENT_FAILED, CANCELED));
+        TRANSITIONS.put(PAYMENT_FAILED, EnumSet.of(PAYMENT_COMPLETED, CANCELED));
+        TRANSITIONS.put(PAYMENT_COMPLETED, EnumSet.of(RECEIVED, CANCELED));
+        TRANSITIONS.put(RECEIVED, EnumSet.of(COMPLETED));
+        TRANSITIONS.put(CANCELED, EnumSet.noneOf(OrderStatus.class));
+        TRANSITIONS.put(COMPLETED, EnumSet.noneOf(OrderStatus.class));
+    }
+
+    public boolean canChangeTo(OrderStatus orderStatus) {
+        return TRANSITIONS.get(this).contains(orderStatus);
+    }
+
+    public static void validateTransition(OrderStatus from, OrderStatus to) {
+        if (from == null || to == null || !from.canChangeTo(to)) {
+            throw new IllegalArgumentException("주문 상태를 변경할 수 없습니다. " + from + " -> " + to);
+        }
+    }
 }
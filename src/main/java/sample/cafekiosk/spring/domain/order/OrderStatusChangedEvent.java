@@ -0,0 +1,7 @@
+package sample.cafekiosk.spring.domain.order;
+
+import java.time.LocalDateTime;
+
+public record OrderStatusChangedEvent(Long orderId, OrderStatus previousStatus, OrderStatus orderStatus,
+                                      int totalPrice, LocalDateTime registeredDateTime) implements OrderEvent {
+}
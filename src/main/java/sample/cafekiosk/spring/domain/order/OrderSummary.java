@@ -0,0 +1,7 @@
+package sample.cafekiosk.spring.domain.order;
+
+import java.time.LocalDateTime;
+
+// 주문 목록 조회용 projection. 주문 상품은 읽지 않는다.
+public record OrderSummary(Long id, OrderStatus orderStatus, Integer totalPrice, LocalDateTime registeredDateTime) {
+}
@@ -5,16 +5,23 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import sample.cafekiosk.spring.domain.BaseTimeEntity;
+import sample.cafekiosk.spring.domain.id.SnowflakeId;
 import sample.cafekiosk.spring.domain.order.Order;
 import sample.cafekiosk.spring.domain.product.Product;
+import sample.cafekiosk.spring.domain.product.ProductSnapshot;
 
+/*
+주문 한 건의 상품 한 줄. 같은 상품은 수량으로 합쳐서 한 줄로 저장한다.
+상품번호/이름/단가는 주문 시점의 값을 복사해 두므로, 이후 상품 정보가 바뀌어도 주문 내역은 그대로이고
+주문 내역을 보여줄 때 product 를 다시 읽지 않는다.
+ */
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
 public class OrderProduct extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -23,8 +30,24 @@ public class OrderProduct extends BaseTimeEntity {
     @ManyToOne(fetch = FetchType.LAZY)
     private Product product;
 
-    public OrderProduct(Order order, Product product) {
+    private String productNumber;
+
+    private String productName;
+
+    private int unitPrice;
+
+    private int quantity;
+
+    public OrderProduct(Order order, Product product, ProductSnapshot snapshot, int quantity) {
         this.order = order;
         this.product = product;
+        this.productNumber = snapshot.productNumber();
+        this.productName = snapshot.name();
+        this.unitPrice = snapshot.price();
+        this.quantity = quantity;
+    }
+
+    public int getAmount() {
+        return unitPrice * quantity;
     }
 }
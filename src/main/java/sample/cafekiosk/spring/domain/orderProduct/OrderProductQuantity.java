@@ -0,0 +1,5 @@
+package sample.cafekiosk.spring.domain.orderProduct;
+
+// 주문별 상품 수량 projection. 매출 집계를 옮길 때 주문 상품 엔티티를 만들지 않기 위해 쓴다.
+public record OrderProductQuantity(Long orderId, String productNumber, Integer quantity) {
+}
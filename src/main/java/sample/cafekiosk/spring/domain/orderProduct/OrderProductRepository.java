@@ -1,8 +1,17 @@
 package sample.cafekiosk.spring.domain.orderProduct;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface OrderProductRepository extends JpaRepository<OrderProduct, Long> {
+
+    // op.order.id 는 FK 컬럼으로 바로 풀리므로 orders 와 join 하지 않는다.
+    @Query("select new sample.cafekiosk.spring.domain.orderProduct.OrderProductQuantity(op.order.id, op.productNumber, op.quantity) " +
+            "from OrderProduct op where op.order.id in :orderIds")
+    List<OrderProductQuantity> findQuantitiesByOrderIdIn(Collection<Long> orderIds);
 }
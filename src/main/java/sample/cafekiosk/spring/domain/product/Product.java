@@ -5,15 +5,20 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import sample.cafekiosk.spring.domain.BaseTimeEntity;
+import sample.cafekiosk.spring.domain.id.SnowflakeId;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = "product") // 거의 바뀌지 않고, 바뀌면 커밋 후 캐시에서 뺀다.
 @Entity
 public class Product extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     private String productNumber;
@@ -36,4 +41,8 @@ public class Product extends BaseTimeEntity {
         this.name = name;
         this.price = price;
     }
+
+    public void changeSellingStatus(ProductSellingStatus sellingStatus) {
+        this.sellingStatus = sellingStatus;
+    }
 }
@@ -0,0 +1,5 @@
+package sample.cafekiosk.spring.domain.product;
+
+// 상품의 판매 상태가 바뀌었을 때 발행한다. 바뀐 뒤의 값을 담는다.
+public record ProductChangedEvent(ProductSnapshot product) implements ProductEvent {
+}
@@ -0,0 +1,5 @@
+package sample.cafekiosk.spring.domain.product;
+
+// 상품이 등록되었을 때 발행한다. 등록된 상품의 값을 그대로 담는다.
+public record ProductCreatedEvent(ProductSnapshot product) implements ProductEvent {
+}
@@ -0,0 +1,11 @@
+package sample.cafekiosk.spring.domain.product;
+
+// 상품 이벤트 공통 타입. 캐시처럼 종류와 상관없이 반응하는 쪽은 이 타입으로 받는다.
+public sealed interface ProductEvent permits ProductCreatedEvent, ProductChangedEvent {
+
+    ProductSnapshot product();
+
+    default String productNumber() {
+        return product().productNumber();
+    }
+}
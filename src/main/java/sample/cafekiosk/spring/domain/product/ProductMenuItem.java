@@ -0,0 +1,6 @@
+package sample.cafekiosk.spring.domain.product;
+
+// product_menu_view 한 줄. 키오스크 메뉴 화면에 필요한 값만 담는다.
+public record ProductMenuItem(Long id, String productNumber, ProductType type, ProductSellingStatus sellingStatus,
+                              String name, int price) {
+}
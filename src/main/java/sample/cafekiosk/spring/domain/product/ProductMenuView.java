@@ -0,0 +1,42 @@
+package sample.cafekiosk.spring.domain.product;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/*
+메뉴 조회 전용 테이블(product_menu_view)의 매핑. 다른 테이블처럼 Hibernate 가 스키마를 만들게 하려고 엔티티로 둔다.
+읽기/쓰기는 엔티티를 거치지 않고 ProductMenuViewRepository 가 JDBC 로 한다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(indexes = @Index(name = "idx_product_menu_view_selling_status_id", columnList = "selling_status, id"))
+public class ProductMenuView {
+
+    @Id
+    private String productNumber;
+
+    // product.id 를 그대로 복사한 값. 메뉴는 이 순서로 보여준다.
+    @Column(name = "id", nullable = false)
+    private Long productId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ProductType type;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ProductSellingStatus sellingStatus;
+
+    private String name;
+
+    private int price;
+}
@@ -0,0 +1,66 @@
+package sample.cafekiosk.spring.domain.product;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/*
+메뉴 조회 전용 테이블(product_menu_view)을 JDBC 로 직접 읽고 쓴다.
+엔티티를 거치지 않으므로 조회할 때 영속성 컨텍스트나 변경 감지용 스냅샷이 만들어지지 않는다.
+테이블은 ProductMenuView 매핑으로 Hibernate 가 다른 테이블과 함께 만든다.
+ */
+@Repository
+public class ProductMenuViewRepository {
+
+    private static final RowMapper<ProductMenuItem> ROW_MAPPER = (rs, rowNum) -> new ProductMenuItem(
+            rs.getLong("id"),
+            rs.getString("product_number"),
+            ProductType.valueOf(rs.getString("type")),
+            ProductSellingStatus.valueOf(rs.getString("selling_status")),
+            rs.getString("name"),
+            rs.getInt("price"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public ProductMenuViewRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    public void upsert(ProductSnapshot product) {
+        jdbcTemplate.update("merge into product_menu_view (product_number, id, type, selling_status, name, price) " +
+                        "key (product_number) values (?, ?, ?, ?, ?, ?)",
+                product.productNumber(),
+                product.id(),
+                product.type().name(),
+                product.sellingStatus().name(),
+                product.name(),
+                product.price());
+    }
+
+    public List<ProductMenuItem> findAllBySellingStatusIn(List<ProductSellingStatus> sellingStatuses) {
+        return namedParameterJdbcTemplate.query("select id, product_number, type, selling_status, name, price " +
+                        "from product_menu_view where selling_status in (:sellingStatuses) order by id",
+                new MapSqlParameterSource("sellingStatuses", sellingStatuses.stream()
+                        .map(Enum::name)
+                        .collect(Collectors.toList())),
+                ROW_MAPPER);
+    }
+
+    // product 테이블에서 통째로 다시 만든다.
+    public void rebuild() {
+        jdbcTemplate.update("delete from product_menu_view");
+        jdbcTemplate.update("insert into product_menu_view (product_number, id, type, selling_status, name, price) " +
+                "select product_number, id, type, selling_status, name, price from product");
+    }
+
+    public void deleteAll() {
+        jdbcTemplate.update("delete from product_menu_view");
+    }
+}
@@ -0,0 +1,132 @@
+package sample.cafekiosk.spring.domain.product;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+상품번호를 DB 시퀀스에서 구간 단위로 예약해 두고, 메모리의 원자적 카운터로 하나씩 나눠준다.
+구간 크기는 시퀀스의 increment 를 그대로 사용하므로 노드마다 설정이 달라도 구간이 겹치지 않는다. (DB 가 유일한 기준)
+시퀀스가 아직 없을 때만 현재 상품번호의 최댓값 다음부터 시작하도록 만들고, 이후의 예약은 "next value for" 한 번이다.
+노드가 재시작되면 쓰지 못한 구간만큼 번호가 건너뛰어질 수 있다.
+자릿수(digits)는 최소 자릿수이며, 값이 커지면 그대로 더 긴 번호가 된다.
+ */
+@Component
+public class ProductNumberAllocator {
+
+    private static final String SEQUENCE_NAME = "product_number_seq";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int initialBlockSize;
+    private final String format;
+
+    private final ReentrantLock refillLock = new ReentrantLock();
+    private volatile Block block = Block.empty();
+    // 시퀀스의 increment. 0 이면 아직 시퀀스를 확인하지 않은 상태이다.
+    private long blockSize;
+
+    public ProductNumberAllocator(JdbcTemplate jdbcTemplate,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${cafekiosk.product.number.block-size:100}") int initialBlockSize,
+                                  @Value("${cafekiosk.product.number.digits:3}") int digits) {
+        if (initialBlockSize < 1) {
+            throw new IllegalArgumentException("상품번호 예약 단위는 1 이상이어야 합니다.");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        // 시퀀스를 처음 만들 때의 DDL 이 상품 트랜잭션을 커밋시키지 않도록 별도 트랜잭션에서 실행한다.
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.initialBlockSize = initialBlockSize;
+        this.format = "%0" + digits + "d";
+    }
+
+    public String allocate() {
+        while (true) {
+            Block current = block;
+            long next = current.next();
+            if (next > 0) {
+                return String.format(format, next);
+            }
+            refill(current);
+        }
+    }
+
+    // 시퀀스를 지우고 다음 할당 때 현재 상품번호의 최댓값부터 다시 시작한다. (테스트용)
+    public void reset() {
+        refillLock.lock();
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.execute("drop sequence if exists " + SEQUENCE_NAME));
+            block = Block.empty();
+            blockSize = 0;
+        } finally {
+            refillLock.unlock();
+        }
+    }
+
+    private void refill(Block exhausted) {
+        refillLock.lock();
+        try {
+            // 기다리는 동안 다른 스레드가 이미 새 구간을 받아왔다면 그대로 사용한다.
+            if (block != exhausted) {
+                return;
+            }
+            if (blockSize == 0) {
+                blockSize = transactionTemplate.execute(status -> prepareSequence());
+            }
+            long start = jdbcTemplate.queryForObject("select next value for " + SEQUENCE_NAME, Long.class);
+            block = new Block(start, start + blockSize);
+        } finally {
+            refillLock.unlock();
+        }
+    }
+
+    // 시퀀스가 없을 때만 만들고, 이미 있다면 그 시퀀스의 increment 를 구간 크기로 사용한다.
+    private long prepareSequence() {
+        Long increment = findIncrement();
+        if (increment != null) {
+            return increment;
+        }
+
+        Long initialValue = jdbcTemplate.queryForObject(
+                "select coalesce(max(cast(product_number as bigint)), 0) + 1 from product", Long.class);
+        jdbcTemplate.execute("create sequence if not exists " + SEQUENCE_NAME
+                + " start with " + initialValue + " increment by " + initialBlockSize);
+        return findIncrement();
+    }
+
+    private Long findIncrement() {
+        List<Long> increments = jdbcTemplate.query(
+                "select increment from information_schema.sequences where upper(sequence_name) = upper(?)",
+                (rs, rowNum) -> rs.getLong(1), SEQUENCE_NAME);
+        return increments.isEmpty() ? null : increments.get(0);
+    }
+
+    private static class Block {
+
+        private final AtomicLong next;
+        private final long end;
+
+        private Block(long start, long end) {
+            this.next = new AtomicLong(start);
+            this.end = end;
+        }
+
+        private static Block empty() {
+            return new Block(0, 0);
+        }
+
+        // 구간을 다 쓰면 0을 돌려준다.
+        private long next() {
+            long value = next.getAndIncrement();
+            return value < end ? value : 0;
+        }
+    }
+}
@@ -1,18 +1,24 @@
 package sample.cafekiosk.spring.domain.product;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ProductRepository extends JpaRepository<Product, Long> {
 
+    // 아래 조회들은 쿼리 캐시에 둔다. product 테이블이 바뀌면 Hibernate 가 결과를 무효화한다.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Product> findAllBySellingStatusIn(List<ProductSellingStatus> sellingStatuses);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Product> findAllByProductNumberIn(List<String> productNumbers);
 
-    @Query(value = "select p.product_number from product p order by id desc limit 1", nativeQuery = true)
-    String findLatestProductNumber();
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    Optional<Product> findByProductNumber(String productNumber);
 }
@@ -0,0 +1,15 @@
+package sample.cafekiosk.spring.domain.product;
+
+// 영속성 컨텍스트와 무관한 상품 정보의 불변 복사본
+public record ProductSnapshot(Long id, String productNumber, ProductType type, ProductSellingStatus sellingStatus,
+                              String name, int price) {
+
+    public static ProductSnapshot of(Product product) {
+        return new ProductSnapshot(product.getId(),
+                product.getProductNumber(),
+                product.getType(),
+                product.getSellingStatus(),
+                product.getName(),
+                product.getPrice());
+    }
+}
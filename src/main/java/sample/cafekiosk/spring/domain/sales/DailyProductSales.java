@@ -0,0 +1,19 @@
+package sample.cafekiosk.spring.domain.sales;
+
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 일자 + 주문상태 + 상품별 판매 수량
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+public class DailyProductSales {
+
+    @EmbeddedId
+    private DailyProductSalesId id;
+
+    private long quantity;
+}
@@ -0,0 +1,37 @@
+package sample.cafekiosk.spring.domain.sales;
+
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Embeddable
+public class DailyProductSalesId implements Serializable {
+
+    private LocalDate salesDate;
+
+    @Enumerated(EnumType.STRING)
+    private OrderStatus orderStatus;
+
+    private String productNumber;
+
+    private DailyProductSalesId(LocalDate salesDate, OrderStatus orderStatus, String productNumber) {
+        this.salesDate = salesDate;
+        this.orderStatus = orderStatus;
+        this.productNumber = productNumber;
+    }
+
+    public static DailyProductSalesId of(LocalDate salesDate, OrderStatus orderStatus, String productNumber) {
+        return new DailyProductSalesId(salesDate, orderStatus, productNumber);
+    }
+}
@@ -0,0 +1,46 @@
+package sample.cafekiosk.spring.domain.sales;
+
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// native 쓰기 쿼리에는 바꾸는 테이블을 표시한다. (DailySalesRepository 참고)
+@Repository
+public interface DailyProductSalesRepository extends JpaRepository<DailyProductSales, DailyProductSalesId> {
+
+    @Query("select d from DailyProductSales d where d.id.salesDate = :salesDate and d.id.orderStatus = :orderStatus")
+    List<DailyProductSales> findAllBy(LocalDate salesDate, OrderStatus orderStatus);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "daily_product_sales"))
+    @Query(value = "merge into daily_product_sales d " +
+            "using (select cast(:salesDate as date) as sales_date, cast(:orderStatus as varchar(255)) as order_status, " +
+            "cast(:productNumber as varchar(255)) as product_number) s " +
+            "on d.sales_date = s.sales_date and d.order_status = s.order_status and d.product_number = s.product_number " +
+            "when matched then update set quantity = d.quantity + :quantity " +
+            "when not matched then insert (sales_date, order_status, product_number, quantity) " +
+            "values (s.sales_date, s.order_status, s.product_number, :quantity)", nativeQuery = true)
+    int upsert(LocalDate salesDate, String orderStatus, String productNumber, long quantity);
+
+    @Modifying
+    @Query("delete from DailyProductSales d where d.id.salesDate >= :startDate and d.id.salesDate < :endDate")
+    int deleteAllBySalesDateRange(LocalDate startDate, LocalDate endDate);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "daily_product_sales"))
+    @Query(value = "insert into daily_product_sales (sales_date, order_status, product_number, quantity) " +
+            "select cast(o.registered_date_time as date), o.order_status, op.product_number, sum(op.quantity) " +
+            "from order_product op join orders o on o.id = op.order_id " +
+            "where o.registered_date_time >= :startDateTime and o.registered_date_time < :endDateTime " +
+            "group by cast(o.registered_date_time as date), o.order_status, op.product_number", nativeQuery = true)
+    int insertAllFromOrders(LocalDateTime startDateTime, LocalDateTime endDateTime);
+}
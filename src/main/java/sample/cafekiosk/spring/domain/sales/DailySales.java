@@ -0,0 +1,21 @@
+package sample.cafekiosk.spring.domain.sales;
+
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 일자 + 주문상태별 주문 수와 매출 합계. 주문이 생성되거나 상태가 바뀔 때마다 증감된다.
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+public class DailySales {
+
+    @EmbeddedId
+    private DailySalesId id;
+
+    private long orderCount;
+
+    private long totalAmount;
+}
@@ -0,0 +1,34 @@
+package sample.cafekiosk.spring.domain.sales;
+
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Embeddable
+public class DailySalesId implements Serializable {
+
+    private LocalDate salesDate;
+
+    @Enumerated(EnumType.STRING)
+    private OrderStatus orderStatus;
+
+    private DailySalesId(LocalDate salesDate, OrderStatus orderStatus) {
+        this.salesDate = salesDate;
+        this.orderStatus = orderStatus;
+    }
+
+    public static DailySalesId of(LocalDate salesDate, OrderStatus orderStatus) {
+        return new DailySalesId(salesDate, orderStatus);
+    }
+}
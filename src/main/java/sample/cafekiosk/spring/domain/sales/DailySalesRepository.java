@@ -0,0 +1,50 @@
+package sample.cafekiosk.spring.domain.sales;
+
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/*
+native 쓰기 쿼리는 Hibernate 가 어떤 테이블을 바꾸는지 알 수 없어서, 표시하지 않으면 2차 캐시의 모든 영역과 쿼리 캐시를 비운다.
+주문마다 실행되므로 HINT_NATIVE_SPACES 로 이 테이블만 바뀐다고 알려서 product / stock 캐시가 남아 있게 한다.
+ */
+@Repository
+public interface DailySalesRepository extends JpaRepository<DailySales, DailySalesId> {
+
+    // 행이 없으면 만들고 있으면 더한다. 첫 주문도 별도 트랜잭션 없이 호출한 트랜잭션 안에서 한 문장으로 처리한다.
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "daily_sales"))
+    @Query(value = "merge into daily_sales d " +
+            "using (select cast(:salesDate as date) as sales_date, cast(:orderStatus as varchar(255)) as order_status) s " +
+            "on d.sales_date = s.sales_date and d.order_status = s.order_status " +
+            "when matched then update set order_count = d.order_count + :orderCount, total_amount = d.total_amount + :totalAmount " +
+            "when not matched then insert (sales_date, order_status, order_count, total_amount) " +
+            "values (s.sales_date, s.order_status, :orderCount, :totalAmount)", nativeQuery = true)
+    int upsert(LocalDate salesDate, String orderStatus, long orderCount, long totalAmount);
+
+    @Query("select d from DailySales d where d.id.salesDate >= :startDate and d.id.salesDate < :endDate and d.id.orderStatus = :orderStatus")
+    List<DailySales> findAllBySalesDateRange(LocalDate startDate, LocalDate endDate, OrderStatus orderStatus);
+
+    @Modifying
+    @Query("delete from DailySales d where d.id.salesDate >= :startDate and d.id.salesDate < :endDate")
+    int deleteAllBySalesDateRange(LocalDate startDate, LocalDate endDate);
+
+    // [startDateTime, endDateTime) 주문으로 일자 + 상태별 집계를 다시 만든다.
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "daily_sales"))
+    @Query(value = "insert into daily_sales (sales_date, order_status, order_count, total_amount) " +
+            "select cast(o.registered_date_time as date), o.order_status, count(*), sum(o.total_price) " +
+            "from orders o " +
+            "where o.registered_date_time >= :startDateTime and o.registered_date_time < :endDateTime " +
+            "group by cast(o.registered_date_time as date), o.order_status", nativeQuery = true)
+    int insertAllFromOrders(LocalDateTime startDateTime, LocalDateTime endDateTime);
+}
@@ -1,28 +1,41 @@
 package sample.cafekiosk.spring.domain.stock;
 
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Version;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 import sample.cafekiosk.spring.domain.BaseTimeEntity;
+import sample.cafekiosk.spring.domain.id.SnowflakeId;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "stock") // 재고 수량 UPDATE 가 잦아서 soft lock 으로 오래된 값을 막는다.
 @Entity
 public class Stock extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     private String productNumber;
 
     private int quantity;
 
+    // 기존 행과 builder 로 만든 재고도 0 부터 시작해야 "version = ?" 비교와 "version + 1" 이 동작한다.
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long version;
+
     @Builder
     public Stock(String productNumber, int quantity) {
         this.productNumber = productNumber;
@@ -0,0 +1,5 @@
+package sample.cafekiosk.spring.domain.stock;
+
+// 영속성 컨텍스트를 거치지 않고 현재 수량과 버전을 읽어오기 위한 projection
+public record StockQuantity(String productNumber, int quantity, long version) {
+}
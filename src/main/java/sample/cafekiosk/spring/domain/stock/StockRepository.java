@@ -1,12 +1,45 @@
 package sample.cafekiosk.spring.domain.stock;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface StockRepository extends JpaRepository<Stock, Long> {
 
     List<Stock> findAllByProductNumberIn(List<String> productNumbers);
+
+    // 교착 상태를 피하기 위해 항상 상품번호 순서로 잠근다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "3000"))
+    @Query("select s from Stock s where s.productNumber in :productNumbers order by s.productNumber")
+    List<Stock> findAllForUpdateByProductNumberIn(List<String> productNumbers);
+
+    @Query("select new sample.cafekiosk.spring.domain.stock.StockQuantity(s.productNumber, s.quantity, s.version) from Stock s where s.productNumber = :productNumber")
+    Optional<StockQuantity> findQuantityByProductNumber(String productNumber);
+
+    @Modifying(clearAutomatically = true)
+    @Query("update Stock s set s.quantity = :quantity, s.version = s.version + 1 where s.productNumber = :productNumber")
+    int updateQuantity(String productNumber, int quantity);
+
+    @Modifying
+    @Query("update Stock s set s.quantity = s.quantity - :quantity, s.version = s.version + 1 where s.productNumber = :productNumber and s.version = :version")
+    int deductQuantityIfVersionMatches(String productNumber, int quantity, long version);
+
+    // 한 주문의 상품 중 일부만 차감하고 실패했을 때, 같은 트랜잭션 안에서 앞서 차감한 수량을 되돌린다.
+    @Modifying
+    @Query("update Stock s set s.quantity = s.quantity + :quantity, s.version = s.version + 1 where s.productNumber = :productNumber")
+    int restoreQuantity(String productNumber, int quantity);
+
+    @Modifying
+    @Query("update Stock s set s.quantity = s.quantity - :quantity, s.version = s.version + 1 where s.productNumber = :productNumber and s.quantity >= :quantity")
+    int deductQuantityIfEnough(String productNumber, int quantity);
 }
@@ -1,54 +1,84 @@
 package sample.cafekiosk.unit;
 
-import lombok.Getter;
-import org.hibernate.query.sqm.mutation.internal.cte.CteInsertStrategy;
 import sample.cafekiosk.unit.beverage.Beverage;
 import sample.cafekiosk.unit.order.Order;
 
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
-@Getter
+/*
+장바구니는 음료 -> 수량으로 들고 있고, 총액은 담고 뺄 때마다 같이 갱신한다.
+그래서 몇 잔을 담든 추가/삭제/수량 변경과 총액 계산이 모두 상수 시간이다.
+ */
 public class CafeKiosk {
 
     public static final LocalTime SHOP_OPEN_TIME = LocalTime.of(10,0);
     public static final LocalTime SHOP_CLOSE_TIME = LocalTime.of(22,0);
 
-    private final List<Beverage> beverages = new ArrayList<>();
+    private final Map<Beverage, Integer> quantities = new LinkedHashMap<>();
+    private int totalPrice;
 
     public void add(Beverage beverage){
-        beverages.add(beverage);
+        add(beverage, 1);
     }
 
     public void add(Beverage beverage, int count){
         if(count <= 0){
-            throw new IllegalArgumentException("count must be greater than 0");
+            throw new IllegalArgumentException("음료는 1잔 이상 주문하실 수 있습니다.");
         }
 
-        for(int i=0; i<count; i++){
-            beverages.add(beverage);
-        }
+        changeQuantity(beverage, quantities.getOrDefault(beverage, 0) + count);
     }
 
+    // 한 잔을 뺀다. 담겨 있지 않은 음료라면 아무 일도 하지 않는다.
     public void remove(Beverage beverage){
-        this.beverages.remove(beverage);
+        Integer quantity = quantities.get(beverage);
+        if (quantity != null) {
+            changeQuantity(beverage, quantity - 1);
+        }
+    }
+
+    // 수량을 바로 지정한다. 0 이면 장바구니에서 뺀다.
+    public void changeQuantity(Beverage beverage, int quantity){
+        if(quantity < 0){
+            throw new IllegalArgumentException("음료 수량은 0 이상이어야 합니다.");
+        }
+
+        int previousQuantity = quantity == 0
+                ? nullToZero(quantities.remove(beverage))
+                : nullToZero(quantities.put(beverage, quantity));
+        totalPrice = Math.addExact(totalPrice, Math.multiplyExact(beverage.getPrice(), quantity - previousQuantity));
     }
 
     public void clear(){
-        beverages.clear();
+        quantities.clear();
+        totalPrice = 0;
     }
 
     public int calculateTotalPrice() {
-        int totalPrice = 0;
-        for (Beverage beverage : beverages) {
-            totalPrice += beverage.getPrice();
-        }
-
         return totalPrice;
     }
 
+    public int getQuantity(Beverage beverage) {
+        return quantities.getOrDefault(beverage, 0);
+    }
+
+    public Map<Beverage, Integer> getQuantities() {
+        return Collections.unmodifiableMap(quantities);
+    }
+
+    // 담긴 순서대로 한 잔씩 펼친 목록 (조회용 복사본)
+    public List<Beverage> getBeverages() {
+        List<Beverage> beverages = new ArrayList<>();
+        quantities.forEach((beverage, quantity) -> beverages.addAll(Collections.nCopies(quantity, beverage)));
+        return Collections.unmodifiableList(beverages);
+    }
+
     public Order createOrder(){
         LocalDateTime currentDateTime = LocalDateTime.now();
         LocalTime currentTime = currentDateTime.toLocalTime();
@@ -56,6 +86,10 @@ public class CafeKiosk {
             throw new IllegalArgumentException("주문 시간이 아닙니다. 관리자에게 문의하세요.");
         }
 
-        return new Order(currentDateTime, beverages);
+        return new Order(currentDateTime, quantities, totalPrice);
+    }
+
+    private static int nullToZero(Integer quantity) {
+        return quantity == null ? 0 : quantity;
     }
 }
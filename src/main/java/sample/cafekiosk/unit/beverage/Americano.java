@@ -1,5 +1,9 @@
 package sample.cafekiosk.unit.beverage;
 
+import lombok.EqualsAndHashCode;
+
+// 상태가 없으므로 같은 음료끼리는 모두 같다. (장바구니에서 따로 만든 인스턴스도 한 줄로 합쳐진다.)
+@EqualsAndHashCode
 public class Americano implements Beverage{
 
     @Override
@@ -12,4 +16,8 @@ public class Americano implements Beverage{
         return "아메리카노";
     }
 
+    @Override
+    public String getProductNumber() {
+        return "001";
+    }
 }
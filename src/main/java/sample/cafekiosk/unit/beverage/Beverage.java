@@ -1,8 +1,12 @@
 package sample.cafekiosk.unit.beverage;
 
+// CafeKiosk 장바구니의 key 로 쓰이므로 구현체는 같은 음료끼리 equals / hashCode 가 같아야 한다.
 public interface Beverage {
 
     int getPrice();
 
     String getName();
+
+    // 주문 API 의 상품번호 (data.sql 의 메뉴와 같다)
+    String getProductNumber();
 }
@@ -1,5 +1,9 @@
 package sample.cafekiosk.unit.beverage;
 
+import lombok.EqualsAndHashCode;
+
+// 상태가 없으므로 같은 음료끼리는 모두 같다. (장바구니에서 따로 만든 인스턴스도 한 줄로 합쳐진다.)
+@EqualsAndHashCode
 public class Latte implements Beverage{
 
     @Override
@@ -11,4 +15,9 @@ public class Latte implements Beverage{
     public String getName() {
         return "라떼";
     }
+
+    @Override
+    public String getProductNumber() {
+        return "002";
+    }
 }
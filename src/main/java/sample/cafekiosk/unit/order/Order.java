@@ -1,16 +1,32 @@
 package sample.cafekiosk.unit.order;
 
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import sample.cafekiosk.unit.beverage.Beverage;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
+// 주문 시점의 장바구니를 복사해서 들고 있는다. 이후에 장바구니가 바뀌어도 주문은 그대로다.
 @Getter
-@RequiredArgsConstructor
 public class Order {
 
     private final LocalDateTime orderDateTime;
-    private final List<Beverage> beverages;
+    private final Map<Beverage, Integer> quantities;
+    private final int totalPrice;
+
+    public Order(LocalDateTime orderDateTime, Map<Beverage, Integer> quantities, int totalPrice) {
+        this.orderDateTime = orderDateTime;
+        this.quantities = Collections.unmodifiableMap(new LinkedHashMap<>(quantities));
+        this.totalPrice = totalPrice;
+    }
+
+    public List<Beverage> getBeverages() {
+        List<Beverage> beverages = new ArrayList<>();
+        quantities.forEach((beverage, quantity) -> beverages.addAll(Collections.nCopies(quantity, beverage)));
+        return Collections.unmodifiableList(beverages);
+    }
 }
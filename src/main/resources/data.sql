@@ -1,4 +1,4 @@
-insert into product(product_number, type, selling_status, name, price)
-values ('001', 'HANDMADE', 'SELLING', '아메리카노', 4000),
-       ('002', 'HANDMADE', 'SELLING', '카페라떼', 4500),
-       ('003', 'BAKERY', 'SELLING', '크루아상', 3500);
\ No newline at end of file
+insert into product(id, product_number, type, selling_status, name, price)
+values (1, '001', 'HANDMADE', 'SELLING', '아메리카노', 4000),
+       (2, '002', 'HANDMADE', 'SELLING', '카페라떼', 4500),
+       (3, '003', 'BAKERY', 'SELLING', '크루아상', 3500);
\ No newline at end of file
@@ -0,0 +1,188 @@
+package sample.cafekiosk.spring.api.service.kiosk;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import sample.cafekiosk.spring.api.service.order.OrderService;
+import sample.cafekiosk.spring.api.service.order.request.OrderCreateRequest;
+import sample.cafekiosk.spring.api.service.order.response.OrderResponse;
+import sample.cafekiosk.unit.beverage.Americano;
+import sample.cafekiosk.unit.beverage.Latte;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class KioskSessionManagerTest {
+
+    @Mock
+    private OrderService orderService;
+
+    private KioskSessionManager kioskSessionManager;
+
+    @BeforeEach
+    void setUp() {
+        kioskSessionManager = new KioskSessionManager(orderService, new SimpleMeterRegistry(), 3, 30);
+    }
+
+    @DisplayName("세션마다 장바구니를 따로 관리한다.")
+    @Test
+    void addPerSession() {
+        //when
+        kioskSessionManager.add("kiosk-1", new Americano(), 2);
+        kioskSessionManager.add("kiosk-2", new Latte(), 1);
+
+        //then
+        assertThat(kioskSessionManager.calculateTotalPrice("kiosk-1")).isEqualTo(8000);
+        assertThat(kioskSessionManager.calculateTotalPrice("kiosk-2")).isEqualTo(4500);
+        assertThat(kioskSessionManager.getSessionCount()).isEqualTo(2);
+    }
+
+    @DisplayName("같은 세션에 동시에 음료를 담아도 빠지는 음료가 없다.")
+    @Test
+    void addConcurrently() throws InterruptedException {
+        //given
+        Americano americano = new Americano();
+        int threadCount = 16;
+        int addCountPerThread = 1000;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch doneLatch = new CountDownLatch(threadCount);
+
+        //when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    for (int j = 0; j < addCountPerThread; j++) {
+                        kioskSessionManager.add("kiosk-1", americano, 1);
+                    }
+                } finally {
+                    doneLatch.countDown();
+                }
+            });
+        }
+        doneLatch.await();
+        executorService.shutdown();
+
+        //then
+        assertThat(kioskSessionManager.getBeverages("kiosk-1")).hasSize(threadCount * addCountPerThread);
+    }
+
+    @DisplayName("세션 수가 최대치를 넘으면 오래 쓰지 않은 장바구니부터 버린다.")
+    @Test
+    void evictWhenExceedMaxSessions() {
+        //when
+        for (int i = 0; i < 10; i++) {
+            kioskSessionManager.add("kiosk-" + i, new Americano(), 1);
+        }
+        kioskSessionManager.cleanUp();
+
+        //then
+        assertThat(kioskSessionManager.getSessionCount()).isLessThanOrEqualTo(3);
+        assertThat(kioskSessionManager.getBeverages("kiosk-9")).hasSize(1);
+    }
+
+    @DisplayName("결제하면 장바구니를 상품번호 목록으로 바꿔 주문을 만들고 세션을 닫는다.")
+    @Test
+    void checkout() {
+        //given
+        kioskSessionManager.add("kiosk-1", new Americano(), 2);
+        kioskSessionManager.add("kiosk-1", new Latte(), 1);
+        OrderResponse orderResponse = OrderResponse.builder().id(1L).build();
+        when(orderService.createOrder(any(OrderCreateRequest.class), any(LocalDateTime.class))).thenReturn(orderResponse);
+        ArgumentCaptor<OrderCreateRequest> captor = ArgumentCaptor.forClass(OrderCreateRequest.class);
+
+        //when
+        OrderResponse result = kioskSessionManager.checkout("kiosk-1", LocalDateTime.now());
+
+        //then
+        verify(orderService, times(1)).createOrder(captor.capture(), any(LocalDateTime.class));
+        assertThat(captor.getValue().getProductNumbers()).containsExactly("001", "001", "002");
+        assertThat(result).isSameAs(orderResponse);
+        assertThat(kioskSessionManager.getBeverages("kiosk-1")).isEmpty();
+        assertThat(kioskSessionManager.getSessionCount()).isZero();
+    }
+
+    @DisplayName("결제하는 동안 담은 음료는 닫힌 장바구니가 아니라 새 장바구니에 담긴다.")
+    @Test
+    void addWhileCheckout() throws Exception {
+        //given
+        kioskSessionManager.add("kiosk-1", new Americano(), 2);
+        CountDownLatch checkoutStarted = new CountDownLatch(1);
+        when(orderService.createOrder(any(OrderCreateRequest.class), any(LocalDateTime.class))).thenAnswer(invocation -> {
+            checkoutStarted.countDown();
+            Thread.sleep(100); // 담기 요청이 같은 세션의 lock 을 기다리게 한다.
+            return OrderResponse.builder().id(1L).build();
+        });
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+        //when
+        Future<?> checkout = executorService.submit(() -> kioskSessionManager.checkout("kiosk-1", LocalDateTime.now()));
+        checkoutStarted.await();
+        kioskSessionManager.add("kiosk-1", new Latte(), 1);
+        checkout.get(5, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        //then
+        verify(orderService, times(1)).createOrder(any(OrderCreateRequest.class), any(LocalDateTime.class));
+        assertThat(kioskSessionManager.getBeverages("kiosk-1")).hasSize(1)
+                .extracting("name")
+                .containsExactly("라떼");
+    }
+
+    @DisplayName("세션을 닫으면 장바구니가 비워지고, 다음에 담으면 새 장바구니로 시작한다.")
+    @Test
+    void close() {
+        //given
+        kioskSessionManager.add("kiosk-1", new Americano(), 2);
+
+        //when
+        kioskSessionManager.close("kiosk-1");
+        kioskSessionManager.add("kiosk-1", new Latte(), 1);
+
+        //then
+        assertThat(kioskSessionManager.getCart("kiosk-1"))
+                .extracting("totalPrice")
+                .isEqualTo(4500);
+        assertThat(kioskSessionManager.getCart("kiosk-1").getItems())
+                .extracting("productNumber", "quantity")
+                .containsExactly(tuple("002", 1));
+    }
+
+    @DisplayName("주문이 실패하면 장바구니는 그대로 남는다.")
+    @Test
+    void checkoutFailed() {
+        //given
+        kioskSessionManager.add("kiosk-1", new Americano(), 2);
+        when(orderService.createOrder(any(OrderCreateRequest.class), any(LocalDateTime.class)))
+                .thenThrow(new IllegalArgumentException("재고가 부족한 상품이 있습니다."));
+
+        //when, then
+        assertThatThrownBy(() -> kioskSessionManager.checkout("kiosk-1", LocalDateTime.now()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("재고가 부족한 상품이 있습니다.");
+        assertThat(kioskSessionManager.getBeverages("kiosk-1")).hasSize(2);
+    }
+
+    @DisplayName("빈 장바구니는 결제할 수 없다.")
+    @Test
+    void checkoutWithEmptyCart() {
+        assertThatThrownBy(() -> kioskSessionManager.checkout("kiosk-1", LocalDateTime.now()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("장바구니가 비어 있습니다.");
+    }
+}
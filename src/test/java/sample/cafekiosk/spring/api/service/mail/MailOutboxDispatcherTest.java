@@ -0,0 +1,165 @@
+package sample.cafekiosk.spring.api.service.mail;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import sample.cafekiosk.spring.IntegrationTestSupport;
+import sample.cafekiosk.spring.client.mail.FakeMailSendClient;
+import sample.cafekiosk.spring.domain.history.mail.MailSendHistory;
+import sample.cafekiosk.spring.domain.history.mail.MailSendHistoryRepository;
+import sample.cafekiosk.spring.domain.history.mail.MailSendStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class MailOutboxDispatcherTest extends IntegrationTestSupport {
+
+    @Autowired
+    private MailSendHistoryRepository mailSendHistoryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private FakeMailSendClient fakeMailSendClient;
+    private MailOutboxDispatcher mailOutboxDispatcher;
+
+    @BeforeEach
+    void setUp() {
+        fakeMailSendClient = new FakeMailSendClient();
+        mailOutboxDispatcher = new MailOutboxDispatcher(fakeMailSendClient, mailSendHistoryRepository, transactionManager, new SimpleMeterRegistry(),
+                10, 3, 1000, 60000, false, false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        mailSendHistoryRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("전송 대기 중인 메일을 보내고 전송 완료로 기록한다.")
+    @Test
+    void dispatch() {
+        //given
+        LocalDateTime now = LocalDateTime.of(2023, 3, 5, 10, 0);
+        mailSendHistoryRepository.saveAll(List.of(
+                createPendingMail("a@test.com", now),
+                createPendingMail("b@test.com", now),
+                createPendingMail("c@test.com", now.plusMinutes(1))
+        ));
+
+        //when
+        int dispatchedCount = mailOutboxDispatcher.dispatch(now);
+
+        //then
+        assertThat(dispatchedCount).isEqualTo(2);
+        assertThat(fakeMailSendClient.getSentMails()).hasSize(2)
+                .extracting("toEmail")
+                .containsExactlyInAnyOrder("a@test.com", "b@test.com");
+        assertThat(mailSendHistoryRepository.findAll()).hasSize(3)
+                .extracting("toEmail", "status", "attemptCount")
+                .containsExactlyInAnyOrder(
+                        tuple("a@test.com", MailSendStatus.SENT, 1),
+                        tuple("b@test.com", MailSendStatus.SENT, 1),
+                        tuple("c@test.com", MailSendStatus.PENDING, 0)
+                );
+    }
+
+    @DisplayName("전송에 실패하면 백오프 시간이 지난 뒤에 다시 시도한다.")
+    @Test
+    void dispatchRetryAfterBackoff() {
+        //given
+        LocalDateTime now = LocalDateTime.of(2023, 3, 5, 10, 0);
+        mailSendHistoryRepository.save(createPendingMail("a@test.com", now));
+        fakeMailSendClient.failNext(1);
+
+        //when
+        mailOutboxDispatcher.dispatch(now);
+        int retriedBeforeBackoff = mailOutboxDispatcher.dispatch(now.plusNanos(999_000_000));
+        int retriedAfterBackoff = mailOutboxDispatcher.dispatch(now.plusSeconds(1));
+
+        //then
+        assertThat(retriedBeforeBackoff).isZero();
+        assertThat(retriedAfterBackoff).isEqualTo(1);
+        assertThat(mailSendHistoryRepository.findAll()).hasSize(1)
+                .extracting("status", "attemptCount")
+                .containsExactly(tuple(MailSendStatus.SENT, 2));
+    }
+
+    @DisplayName("전송 후 후속 처리가 실패해도 전송 완료로 남기고 다시 보내지 않는다.")
+    @Test
+    void dispatchWhenAfterSendFails() {
+        //given
+        LocalDateTime now = LocalDateTime.of(2023, 3, 5, 10, 0);
+        mailSendHistoryRepository.save(createPendingMail("a@test.com", now));
+        fakeMailSendClient.failAfterSend();
+
+        //when
+        mailOutboxDispatcher.dispatch(now);
+        int retriedCount = mailOutboxDispatcher.dispatch(now.plusHours(1));
+
+        //then
+        assertThat(retriedCount).isZero();
+        assertThat(fakeMailSendClient.getSentMails()).hasSize(1);
+        assertThat(mailSendHistoryRepository.findAll()).hasSize(1)
+                .extracting("status", "attemptCount")
+                .containsExactly(tuple(MailSendStatus.SENT, 1));
+    }
+
+    @DisplayName("최대 시도 횟수만큼 실패하면 더 이상 보내지 않고 DEAD 로 남긴다.")
+    @Test
+    void dispatchUntilDead() {
+        //given
+        LocalDateTime now = LocalDateTime.of(2023, 3, 5, 10, 0);
+        mailSendHistoryRepository.save(createPendingMail("a@test.com", now));
+        fakeMailSendClient.failNext(10);
+
+        //when
+        mailOutboxDispatcher.dispatch(now);
+        mailOutboxDispatcher.dispatch(now.plusSeconds(1));
+        mailOutboxDispatcher.dispatch(now.plusSeconds(3));
+        int dispatchedCount = mailOutboxDispatcher.dispatch(now.plusHours(1));
+
+        //then
+        assertThat(dispatchedCount).isZero();
+        assertThat(fakeMailSendClient.getSentMails()).isEmpty();
+        assertThat(mailSendHistoryRepository.findAll()).hasSize(1)
+                .extracting("status", "attemptCount", "lastError")
+                .containsExactly(tuple(MailSendStatus.DEAD, 3, "IllegalStateException: 메일 서버에 연결할 수 없습니다."));
+    }
+
+    @DisplayName("다른 노드가 가져간 뒤 lease 안에 끝내지 못한 메일은 다시 가져가서 보낸다.")
+    @Test
+    void dispatchAfterLeaseExpired() {
+        //given
+        LocalDateTime now = LocalDateTime.of(2023, 3, 5, 10, 0);
+        MailSendHistory mail = mailSendHistoryRepository.save(createPendingMail("a@test.com", now));
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                mailSendHistoryRepository.claim(mail.getId(), now, now.plusMinutes(1)));
+
+        //when
+        int dispatchedInLease = mailOutboxDispatcher.dispatch(now.plusSeconds(30));
+        int dispatchedAfterLease = mailOutboxDispatcher.dispatch(now.plusMinutes(1));
+
+        //then
+        assertThat(dispatchedInLease).isZero();
+        assertThat(dispatchedAfterLease).isEqualTo(1);
+        assertThat(fakeMailSendClient.getSentMails()).hasSize(1);
+    }
+
+    private static MailSendHistory createPendingMail(String toEmail, LocalDateTime requestedDateTime) {
+        return MailSendHistory.builder()
+                .fromEmail("no-reply@cafekiosk.com")
+                .toEmail(toEmail)
+                .subject("제목")
+                .content("내용")
+                .requestedDateTime(requestedDateTime)
+                .build();
+    }
+}
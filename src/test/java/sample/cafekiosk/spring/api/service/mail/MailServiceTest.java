@@ -1,50 +1,43 @@
 package sample.cafekiosk.spring.api.service.mail;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.boot.test.context.SpringBootTest;
-import sample.cafekiosk.spring.client.mail.MailSendClient;
 import sample.cafekiosk.spring.domain.history.mail.MailSendHistory;
 import sample.cafekiosk.spring.domain.history.mail.MailSendHistoryRepository;
+import sample.cafekiosk.spring.domain.history.mail.MailSendStatus;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
-import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class MailServiceTest {
 
-    @Mock
-    private MailSendClient mailSendClient;
-
     @Mock
     private MailSendHistoryRepository mailSendHistoryRepository;
 
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private MailService mailService;
 
-    @DisplayName("메일 전송 테스트")
+    @DisplayName("메일 전송 요청은 메일 서버를 기다리지 않고 전송 대기 상태로 저장된다.")
     @Test
     void sendMail() {
         //given
-        //        when(mailSendClient.sendEmail(any(String.class), any(String.class), any(String.class), any(String.class)))
-        //                .thenReturn(true);
-        BDDMockito.given(mailSendClient.sendEmail(any(String.class), any(String.class), any(String.class), any(String.class)))
-                .willReturn(true);
-        //        doReturn(true)
-        //                .when(mailSendClient)
-        //                .sendEmail(anyString(), anyString(), anyString(), anyString());
+        ArgumentCaptor<MailSendHistory> captor = ArgumentCaptor.forClass(MailSendHistory.class);
 
         //when
-        boolean result = mailService.sendMail("", "", "", "");
+        mailService.sendMail("", "", "", "");
 
         //then
-        Mockito.verify(mailSendHistoryRepository, times(1)).save(any(MailSendHistory.class));
-        assertThat(result).isTrue();
+        Mockito.verify(mailSendHistoryRepository, times(1)).save(captor.capture());
+        assertThat(captor.getValue().getStatus()).isEqualTo(MailSendStatus.PENDING);
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,212 @@
+package sample.cafekiosk.spring.api.service.order;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import sample.cafekiosk.spring.IntegrationTestSupport;
+import sample.cafekiosk.spring.api.service.order.request.OrderCreateRequest;
+import sample.cafekiosk.spring.api.service.order.response.OrderResponse;
+import sample.cafekiosk.spring.api.service.product.ProductIndex;
+import sample.cafekiosk.spring.domain.idempotency.IdempotencyRecordRepository;
+import sample.cafekiosk.spring.domain.order.OrderRepository;
+import sample.cafekiosk.spring.domain.orderProduct.OrderProductRepository;
+import sample.cafekiosk.spring.domain.product.Product;
+import sample.cafekiosk.spring.domain.product.ProductRepository;
+import sample.cafekiosk.spring.domain.sales.DailyProductSalesRepository;
+import sample.cafekiosk.spring.domain.sales.DailySalesRepository;
+import sample.cafekiosk.spring.domain.stock.Stock;
+import sample.cafekiosk.spring.domain.stock.StockRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static sample.cafekiosk.spring.domain.product.ProductSellingStatus.SELLING;
+import static sample.cafekiosk.spring.domain.product.ProductType.BOTTLE;
+
+class OrderIdempotencyServiceTest extends IntegrationTestSupport {
+
+    @Autowired
+    private OrderIdempotencyService orderIdempotencyService;
+
+    @Autowired
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderProductRepository orderProductRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductIndex productIndex;
+
+    @Autowired
+    private StockRepository stockRepository;
+
+    @Autowired
+    private DailySalesRepository dailySalesRepository;
+
+    @Autowired
+    private DailyProductSalesRepository dailyProductSalesRepository;
+
+    @AfterEach
+    void tearDown() {
+        orderIdempotencyService.evictCache();
+        idempotencyRecordRepository.deleteAllInBatch();
+        orderProductRepository.deleteAllInBatch();
+        orderRepository.deleteAllInBatch();
+        productRepository.deleteAllInBatch();
+        productIndex.clear();
+        stockRepository.deleteAllInBatch();
+        dailySalesRepository.deleteAllInBatch();
+        dailyProductSalesRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("같은 Idempotency-Key 로 다시 요청하면 주문을 다시 만들지 않고 처음 결과를 돌려준다.")
+    @Test
+    void createOrderTwice() {
+        //given
+        saveBottleWithStock("001", 10);
+        OrderCreateRequest request = createRequest("001", "001");
+
+        //when
+        OrderResponse first = orderIdempotencyService.createOrder("key-1", request, LocalDateTime.now());
+        OrderResponse retried = orderIdempotencyService.createOrder("key-1", request, LocalDateTime.now());
+
+        //then
+        assertThat(retried.getId()).isEqualTo(first.getId());
+        assertThat(orderRepository.findAll()).hasSize(1);
+        assertThat(stockRepository.findAll()).extracting("productNumber", "quantity")
+                .containsExactly(tuple("001", 8));
+    }
+
+    @DisplayName("캐시에서 밀려난 키도 저장된 기록으로 처음 주문을 찾아 돌려준다.")
+    @Test
+    void createOrderAfterCacheEvicted() {
+        //given
+        saveBottleWithStock("001", 10);
+        OrderCreateRequest request = createRequest("001");
+        OrderResponse first = orderIdempotencyService.createOrder("key-1", request, LocalDateTime.now());
+        orderIdempotencyService.evictCache();
+
+        //when
+        OrderResponse retried = orderIdempotencyService.createOrder("key-1", request, LocalDateTime.now());
+
+        //then
+        assertThat(retried.getId()).isEqualTo(first.getId());
+        assertThat(retried.getProducts()).extracting("productNumber", "quantity")
+                .containsExactly(tuple("001", 1));
+        assertThat(orderRepository.findAll()).hasSize(1);
+    }
+
+    @DisplayName("같은 키로 동시에 요청해도 주문은 한 번만 만들어지고 모두 같은 결과를 받는다.")
+    @Test
+    void createOrderConcurrently() throws Exception {
+        //given
+        saveBottleWithStock("001", 100);
+        OrderCreateRequest request = createRequest("001");
+
+        int threadCount = 16;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<OrderResponse>> futures = new ArrayList<>();
+
+        //when
+        for (int i = 0; i < threadCount; i++) {
+            futures.add(executorService.submit(() -> {
+                startLatch.await();
+                return orderIdempotencyService.createOrder("key-1", request, LocalDateTime.now());
+            }));
+        }
+        startLatch.countDown();
+
+        List<Long> orderIds = new ArrayList<>();
+        for (Future<OrderResponse> future : futures) {
+            orderIds.add(future.get(10, TimeUnit.SECONDS).getId());
+        }
+        executorService.shutdown();
+
+        //then
+        assertThat(orderIds).containsOnly(orderIds.get(0));
+        assertThat(orderRepository.findAll()).hasSize(1);
+        assertThat(stockRepository.findAll()).extracting("quantity")
+                .containsExactly(99);
+    }
+
+    @DisplayName("같은 키로 다른 주문을 요청하면 예외가 발생한다.")
+    @Test
+    void createOrderWithDifferentRequest() {
+        //given
+        saveBottleWithStock("001", 10);
+        orderIdempotencyService.createOrder("key-1", createRequest("001"), LocalDateTime.now());
+
+        //when, then
+        assertThatThrownBy(() -> orderIdempotencyService.createOrder("key-1", createRequest("001", "001"), LocalDateTime.now()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("같은 Idempotency-Key 로 다른 주문을 요청했습니다.");
+    }
+
+    @DisplayName("주문할 상품이 없는 요청은 키를 기록하지 않고 주문과 같은 예외가 발생한다.")
+    @Test
+    void createOrderWithoutProductNumbers() {
+        //given
+        OrderCreateRequest request = OrderCreateRequest.builder().build();
+
+        //when, then
+        assertThatThrownBy(() -> orderIdempotencyService.createOrder("key-1", request, LocalDateTime.now()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("주문할 상품이 없습니다.");
+        assertThat(idempotencyRecordRepository.findAll()).isEmpty();
+    }
+
+    @DisplayName("실패한 요청은 기록되지 않아서 같은 키로 다시 시도할 수 있다.")
+    @Test
+    void createOrderRetryAfterFailure() {
+        //given
+        saveBottleWithStock("001", 0);
+        OrderCreateRequest request = createRequest("001");
+        assertThatThrownBy(() -> orderIdempotencyService.createOrder("key-1", request, LocalDateTime.now()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("재고가 부족한 상품이 있습니다.");
+        stockRepository.deleteAllInBatch();
+        stockRepository.save(Stock.create("001", 1));
+
+        //when
+        OrderResponse response = orderIdempotencyService.createOrder("key-1", request, LocalDateTime.now());
+
+        //then
+        assertThat(response.getId()).isNotNull();
+        assertThat(idempotencyRecordRepository.findAll()).extracting("idempotencyKey", "orderId")
+                .containsExactly(tuple("key-1", response.getId()));
+    }
+
+    private void saveBottleWithStock(String productNumber, int quantity) {
+        productRepository.save(Product.builder()
+                .productNumber(productNumber)
+                .type(BOTTLE)
+                .sellingStatus(SELLING)
+                .name("생수")
+                .price(1000)
+                .build());
+        stockRepository.save(Stock.create(productNumber, quantity));
+    }
+
+    private static OrderCreateRequest createRequest(String... productNumbers) {
+        return OrderCreateRequest.builder()
+                .productNumbers(List.of(productNumbers))
+                .build();
+    }
+}
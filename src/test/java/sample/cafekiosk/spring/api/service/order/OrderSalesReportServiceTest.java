@@ -0,0 +1,238 @@
+package sample.cafekiosk.spring.api.service.order;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import sample.cafekiosk.spring.IntegrationTestSupport;
+import sample.cafekiosk.spring.api.service.order.request.OrderStatusChangeRequest;
+import sample.cafekiosk.spring.api.service.order.response.OrderSalesReportResponse;
+import sample.cafekiosk.spring.api.service.sales.DailySalesService;
+import sample.cafekiosk.spring.domain.order.Order;
+import sample.cafekiosk.spring.domain.order.OrderRepository;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+import sample.cafekiosk.spring.domain.orderProduct.OrderProductRepository;
+import sample.cafekiosk.spring.domain.product.Product;
+import sample.cafekiosk.spring.domain.product.ProductRepository;
+import sample.cafekiosk.spring.domain.sales.DailyProductSalesRepository;
+import sample.cafekiosk.spring.domain.sales.DailySalesRepository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static sample.cafekiosk.spring.domain.product.ProductSellingStatus.SELLING;
+import static sample.cafekiosk.spring.domain.product.ProductType.HANDMADE;
+
+class OrderSalesReportServiceTest extends IntegrationTestSupport {
+
+    @Autowired
+    private OrderSalesReportService orderSalesReportService;
+
+    @Autowired
+    private OrderStatusService orderStatusService;
+
+    @Autowired
+    private DailySalesService dailySalesService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderProductRepository orderProductRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private DailySalesRepository dailySalesRepository;
+
+    @Autowired
+    private DailyProductSalesRepository dailyProductSalesRepository;
+
+    @AfterEach
+    void tearDown() {
+        orderProductRepository.deleteAllInBatch();
+        orderRepository.deleteAllInBatch();
+        productRepository.deleteAllInBatch();
+        dailySalesRepository.deleteAllInBatch();
+        dailyProductSalesRepository.deleteAllInBatch();
+        orderSalesReportService.clear();
+    }
+
+    @DisplayName("기간 매출을 집계 단위로 묶어서 응답하고, 첫/마지막 구간은 기간에 맞춰 잘린다.")
+    @Test
+    void getSalesReport() {
+        //given
+        Product product = createProduct("001", 1000);
+        productRepository.save(product);
+        orderRepository.saveAll(List.of(
+                createOrder(product, OrderStatus.PAYMENT_COMPLETED, LocalDateTime.of(2023, 1, 30, 10, 0)),
+                createOrder(product, OrderStatus.PAYMENT_COMPLETED, LocalDateTime.of(2023, 1, 31, 21, 59)),
+                createOrder(product, OrderStatus.PAYMENT_COMPLETED, LocalDateTime.of(2023, 2, 1, 0, 0)),
+                createOrder(product, OrderStatus.INIT, LocalDateTime.of(2023, 2, 1, 11, 0)),
+                createOrder(product, OrderStatus.PAYMENT_COMPLETED, LocalDateTime.of(2023, 3, 2, 11, 0))
+        ));
+        dailySalesService.rebuild(LocalDate.of(2023, 1, 1), LocalDate.of(2023, 3, 31));
+
+        //when
+        OrderSalesReportResponse response = orderSalesReportService.getSalesReport(LocalDate.of(2023, 1, 31), LocalDate.of(2023, 2, 28),
+                OrderStatus.PAYMENT_COMPLETED, SalesReportPeriod.MONTH, LocalDateTime.of(2023, 3, 10, 12, 0));
+
+        //then
+        assertThat(response)
+                .extracting("orderCount", "totalAmount")
+                .contains(2L, 2000L);
+        assertThat(response.getItems())
+                .extracting("startDate", "endDate", "orderCount", "totalAmount")
+                .containsExactly(
+                        tuple(LocalDate.of(2023, 1, 31), LocalDate.of(2023, 1, 31), 1L, 1000L),
+                        tuple(LocalDate.of(2023, 2, 1), LocalDate.of(2023, 2, 28), 1L, 1000L)
+                );
+    }
+
+    @DisplayName("영업이 끝난 날은 캐시에서 읽고, 영업 중인 날만 다시 집계한다.")
+    @Test
+    void getSalesReportWithClosedDays() {
+        //given
+        Product product = createProduct("001", 1000);
+        productRepository.save(product);
+        orderRepository.saveAll(List.of(
+                createOrder(product, OrderStatus.PAYMENT_COMPLETED, LocalDateTime.of(2023, 3, 1, 10, 0)),
+                createOrder(product, OrderStatus.PAYMENT_COMPLETED, LocalDateTime.of(2023, 3, 7, 10, 0))
+        ));
+        dailySalesService.rebuild(LocalDate.of(2023, 3, 1), LocalDate.of(2023, 3, 7));
+        LocalDate startDate = LocalDate.of(2023, 3, 1);
+        LocalDate endDate = LocalDate.of(2023, 3, 7);
+        LocalDateTime now = LocalDateTime.of(2023, 3, 7, 12, 0);
+        orderSalesReportService.getSalesReport(startDate, endDate, OrderStatus.PAYMENT_COMPLETED, SalesReportPeriod.WEEK, now);
+        long queryCount = orderSalesReportService.getQueryCount();
+
+        //when
+        OrderSalesReportResponse response = orderSalesReportService.getSalesReport(startDate, endDate,
+                OrderStatus.PAYMENT_COMPLETED, SalesReportPeriod.WEEK, now);
+
+        //then
+        assertThat(orderSalesReportService.getQueryCount() - queryCount).isEqualTo(1);
+        assertThat(orderSalesReportService.getCachedDayCount()).isEqualTo(6);
+        assertThat(response.getItems())
+                .extracting("startDate", "endDate", "orderCount", "totalAmount")
+                .containsExactly(
+                        tuple(LocalDate.of(2023, 3, 1), LocalDate.of(2023, 3, 5), 1L, 1000L),
+                        tuple(LocalDate.of(2023, 3, 6), LocalDate.of(2023, 3, 7), 1L, 1000L)
+                );
+    }
+
+    @DisplayName("영업이 끝난 날은 orders 가 아니라 일자별 집계에서 쿼리 한 번으로 읽는다.")
+    @Test
+    void getSalesReportFromDailySales() {
+        //given
+        Product product = createProduct("001", 1000);
+        productRepository.save(product);
+        orderRepository.saveAll(List.of(
+                createOrder(product, OrderStatus.PAYMENT_COMPLETED, LocalDateTime.of(2023, 3, 1, 10, 0)),
+                createOrder(product, OrderStatus.PAYMENT_COMPLETED, LocalDateTime.of(2023, 3, 20, 10, 0))
+        ));
+        dailySalesService.rebuild(LocalDate.of(2023, 3, 1), LocalDate.of(2023, 3, 31));
+        dailySalesService.increase(LocalDate.of(2023, 3, 20), OrderStatus.PAYMENT_COMPLETED, 1, 500);
+        long queryCount = orderSalesReportService.getQueryCount();
+
+        //when
+        OrderSalesReportResponse response = orderSalesReportService.getSalesReport(LocalDate.of(2023, 3, 1), LocalDate.of(2023, 3, 31),
+                OrderStatus.PAYMENT_COMPLETED, SalesReportPeriod.MONTH, LocalDateTime.of(2023, 4, 1, 12, 0));
+
+        //then
+        assertThat(orderSalesReportService.getQueryCount() - queryCount).isEqualTo(1);
+        assertThat(orderSalesReportService.getCachedDayCount()).isEqualTo(31);
+        assertThat(response.getItems())
+                .extracting("orderCount", "totalAmount")
+                .containsExactly(tuple(3L, 2500L));
+    }
+
+    @DisplayName("오늘 이후의 날은 조회하지 않고 0 으로 채운다.")
+    @Test
+    void getSalesReportWithFutureDays() {
+        //given
+        Product product = createProduct("001", 1000);
+        productRepository.save(product);
+        orderRepository.save(createOrder(product, OrderStatus.PAYMENT_COMPLETED, LocalDateTime.of(2023, 3, 10, 10, 0)));
+        long queryCount = orderSalesReportService.getQueryCount();
+
+        //when
+        OrderSalesReportResponse response = orderSalesReportService.getSalesReport(LocalDate.of(2023, 3, 10), LocalDate.of(2024, 3, 9),
+                OrderStatus.PAYMENT_COMPLETED, SalesReportPeriod.MONTH, LocalDateTime.of(2023, 3, 10, 12, 0));
+
+        //then
+        assertThat(orderSalesReportService.getQueryCount() - queryCount).isEqualTo(1);
+        assertThat(orderSalesReportService.getCachedDayCount()).isZero();
+        assertThat(response)
+                .extracting("orderCount", "totalAmount")
+                .containsExactly(1L, 1000L);
+        assertThat(response.getItems()).hasSize(13);
+    }
+
+    @DisplayName("지난 날짜의 주문 상태가 바뀌면 그 날짜의 캐시를 버리고 다시 집계한다.")
+    @Test
+    void getSalesReportAfterStatusChanged() {
+        //given
+        Product product = createProduct("001", 1000);
+        productRepository.save(product);
+        List<Order> orders = orderRepository.saveAll(List.of(
+                createOrder(product, OrderStatus.INIT, LocalDateTime.of(2023, 3, 1, 10, 0)),
+                createOrder(product, OrderStatus.PAYMENT_COMPLETED, LocalDateTime.of(2023, 3, 2, 10, 0))
+        ));
+        dailySalesService.rebuild(LocalDate.of(2023, 3, 1), LocalDate.of(2023, 3, 2));
+        LocalDate startDate = LocalDate.of(2023, 3, 1);
+        LocalDate endDate = LocalDate.of(2023, 3, 2);
+        LocalDateTime now = LocalDateTime.of(2023, 3, 10, 12, 0);
+        orderSalesReportService.getSalesReport(startDate, endDate, OrderStatus.PAYMENT_COMPLETED, SalesReportPeriod.DAY, now);
+
+        //when
+        orderStatusService.changeOrderStatuses(OrderStatusChangeRequest.builder()
+                .orderIds(List.of(orders.get(0).getId()))
+                .expectedStatus(OrderStatus.INIT)
+                .targetStatus(OrderStatus.PAYMENT_COMPLETED)
+                .build());
+        OrderSalesReportResponse response = orderSalesReportService.getSalesReport(startDate, endDate,
+                OrderStatus.PAYMENT_COMPLETED, SalesReportPeriod.DAY, now);
+
+        //then
+        assertThat(response.getItems())
+                .extracting("startDate", "orderCount", "totalAmount")
+                .containsExactly(
+                        tuple(LocalDate.of(2023, 3, 1), 1L, 1000L),
+                        tuple(LocalDate.of(2023, 3, 2), 1L, 1000L)
+                );
+    }
+
+    @DisplayName("시작일이 종료일보다 늦으면 예외가 발생한다.")
+    @Test
+    void getSalesReportWithInvalidRange() {
+        //when, then
+        assertThatThrownBy(() -> orderSalesReportService.getSalesReport(LocalDate.of(2023, 3, 2), LocalDate.of(2023, 3, 1),
+                OrderStatus.PAYMENT_COMPLETED, SalesReportPeriod.DAY, LocalDateTime.now()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("시작일은 종료일보다 늦을 수 없습니다.");
+    }
+
+    private static Order createOrder(Product product, OrderStatus orderStatus, LocalDateTime registeredDateTime) {
+        return Order.builder()
+                .products(List.of(product))
+                .orderStatus(orderStatus)
+                .registeredDateTime(registeredDateTime)
+                .build();
+    }
+
+    private Product createProduct(String productNumber, int price) {
+        return Product.builder()
+                .type(HANDMADE)
+                .productNumber(productNumber)
+                .price(price)
+                .sellingStatus(SELLING)
+                .name("메뉴 이름")
+                .build();
+    }
+}
@@ -1,5 +1,9 @@
 package sample.cafekiosk.spring.api.service.order;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -9,18 +13,29 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 import sample.cafekiosk.spring.IntegrationTestSupport;
+import sample.cafekiosk.spring.api.service.order.request.OrderBatchCreateRequest;
 import sample.cafekiosk.spring.api.service.order.request.OrderCreateRequest;
+import sample.cafekiosk.spring.api.service.order.request.OrderSearchRequest;
+import sample.cafekiosk.spring.api.service.order.response.OrderBatchResponse;
+import sample.cafekiosk.spring.api.service.order.response.OrderPageResponse;
 import sample.cafekiosk.spring.api.service.order.response.OrderResponse;
+import sample.cafekiosk.spring.api.service.product.ProductIndex;
+import sample.cafekiosk.spring.domain.order.Order;
 import sample.cafekiosk.spring.domain.order.OrderRepository;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
 import sample.cafekiosk.spring.domain.orderProduct.OrderProductRepository;
 import sample.cafekiosk.spring.domain.product.Product;
 import sample.cafekiosk.spring.domain.product.ProductRepository;
 import sample.cafekiosk.spring.domain.product.ProductSellingStatus;
 import sample.cafekiosk.spring.domain.product.ProductType;
+import sample.cafekiosk.spring.domain.sales.DailyProductSalesRepository;
+import sample.cafekiosk.spring.domain.sales.DailySalesRepository;
 import sample.cafekiosk.spring.domain.stock.Stock;
 import sample.cafekiosk.spring.domain.stock.StockRepository;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.*;
@@ -48,12 +63,30 @@ class OrderServiceTest extends IntegrationTestSupport {
     @Autowired
     private ProductRepository productRepository;
 
+    @Autowired
+    private ProductIndex productIndex;
+
+    @Autowired
+    private DailySalesRepository dailySalesRepository;
+
+    @Autowired
+    private DailyProductSalesRepository dailyProductSalesRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     @AfterEach
     void tearDown(){
         orderProductRepository.deleteAllInBatch();
         productRepository.deleteAllInBatch();
+        productIndex.clear();
         orderRepository.deleteAllInBatch();
         stockRepository.deleteAllInBatch();
+        dailySalesRepository.deleteAllInBatch();
+        dailyProductSalesRepository.deleteAllInBatch();
     }
 
     @DisplayName("주문번호 리스트를 받아 주문을 생성한다.")
@@ -112,13 +145,12 @@ class OrderServiceTest extends IntegrationTestSupport {
         assertThat(orderResponse)
                 .extracting("registeredDateTime", "totalPrice")
                 .contains(registeredDateTime, 10000);
-        assertThat(orderResponse.getProducts()).hasSize(4)
-                .extracting("productNumber", "price")
+        assertThat(orderResponse.getProducts()).hasSize(3)
+                .extracting("productNumber", "price", "quantity")
                 .containsExactlyInAnyOrder(
-                        tuple("001", 1000),
-                        tuple("001", 1000),
-                        tuple("002", 3000),
-                        tuple("003", 5000)
+                        tuple("001", 1000, 2),
+                        tuple("002", 3000, 1),
+                        tuple("003", 5000, 1)
                 );
 
         List<Stock> stocks = stockRepository.findAll();
@@ -155,7 +187,7 @@ class OrderServiceTest extends IntegrationTestSupport {
                         .hasMessage("재고가 부족한 상품이 있습니다.");
     }
 
-    @DisplayName("중복되는 상품번호 리스트로 주문을 생성할 수 있다.")
+    @DisplayName("중복되는 상품번호 리스트로 주문을 생성할 수 있다. 같은 상품은 수량으로 합쳐진다.")
     @Test
     void createOrderWithDuplicateProductNumbers(){
         //given
@@ -176,14 +208,311 @@ class OrderServiceTest extends IntegrationTestSupport {
         assertThat(orderResponse)
                 .extracting("registeredDateTime", "totalPrice")
                 .contains(registeredDateTime, 2000);
-        assertThat(orderResponse.getProducts()).hasSize(2)
+        assertThat(orderResponse.getProducts()).hasSize(1)
+                .extracting("productNumber", "price", "quantity")
+                .containsExactly(tuple("001", 1000, 2));
+        assertThat(orderProductRepository.findAll()).hasSize(1);
+    }
+
+    @DisplayName("존재하지 않는 상품번호로 주문을 생성하려는 경우 예외가 발생하고 거절 사유가 집계된다.")
+    @Test
+    void createOrderWithUnknownProductNumber(){
+        //given
+        productRepository.save(createProduct(HANDMADE, "001", 1000));
+        double unknownProductCount = meterRegistry.counter("cafekiosk.order.rejections", "reason", "unknown_product").count();
+
+        OrderCreateRequest request = OrderCreateRequest.builder()
+                .productNumbers(List.of("001", "999"))
+                .build();
+
+        //when, then
+        assertThatThrownBy(() -> orderService.createOrder(request, LocalDateTime.now()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("존재하지 않는 상품이 있습니다.");
+        assertThat(meterRegistry.counter("cafekiosk.order.rejections", "reason", "unknown_product").count())
+                .isEqualTo(unknownProductCount + 1);
+        assertThat(orderRepository.findAll()).isEmpty();
+    }
+
+    @DisplayName("주문을 생성하면 단계별 소요 시간이 기록된다.")
+    @Test
+    void createOrderRecordsStageTimers(){
+        //given
+        productRepository.save(createProduct(HANDMADE, "001", 1000));
+        long savedCount = meterRegistry.timer("cafekiosk.order.stage", "stage", "order_save").count();
+
+        OrderCreateRequest request = OrderCreateRequest.builder()
+                .productNumbers(List.of("001"))
+                .build();
+
+        //when
+        orderService.createOrder(request, LocalDateTime.now());
+
+        //then
+        assertThat(meterRegistry.find("cafekiosk.order.stage").timers())
+                .extracting(timer -> timer.getId().getTag("stage"))
+                .contains("product_lookup", "stock_deduction", "order_save", "sales_rollup", "response_mapping");
+        assertThat(meterRegistry.timer("cafekiosk.order.stage", "stage", "order_save").count()).isEqualTo(savedCount + 1);
+    }
+
+    @DisplayName("주문할 상품번호 없이 주문을 생성하면 예외가 발생한다.")
+    @Test
+    void createOrderWithoutProductNumbers(){
+        //given
+        OrderCreateRequest request = OrderCreateRequest.builder().build();
+
+        //when //then
+        assertThatThrownBy(() -> orderService.createOrder(request, LocalDateTime.now()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("주문할 상품이 없습니다.");
+    }
+
+    @DisplayName("여러 주문을 한 번에 생성하고, 주문별로 성공 여부를 알려준다.")
+    @Test
+    void createOrders(){
+        //given
+        Product product1 = createProduct(BOTTLE, "001", 1000);
+        Product product2 = createProduct(HANDMADE, "002", 3000);
+        productRepository.saveAll(List.of(product1, product2));
+
+        Stock stock = Stock.create("001", 2);
+        stockRepository.save(stock);
+
+        OrderBatchCreateRequest request = OrderBatchCreateRequest.builder()
+                .orders(List.of(
+                        OrderCreateRequest.builder().productNumbers(List.of("001", "001")).build(),
+                        OrderCreateRequest.builder().productNumbers(List.of("999")).build(),
+                        OrderCreateRequest.builder().productNumbers(List.of("001", "002")).build(),
+                        OrderCreateRequest.builder().productNumbers(List.of("002")).build()
+                ))
+                .build();
+        LocalDateTime registeredDateTime = LocalDateTime.now();
+        long savedCount = meterRegistry.timer("cafekiosk.order.stage", "stage", "order_save").count();
+        long deductionCount = meterRegistry.timer("cafekiosk.order.stage", "stage", "stock_deduction").count();
+
+        //when
+        OrderBatchResponse response = orderService.createOrders(request, registeredDateTime);
+
+        //then
+        assertThat(response)
+                .extracting("successCount", "failureCount")
+                .contains(2, 2);
+        assertThat(response.getResults()).hasSize(4)
+                .extracting("index", "success", "message")
+                .containsExactly(
+                        tuple(0, true, null),
+                        tuple(1, false, "존재하지 않는 상품이 있습니다."),
+                        tuple(2, false, "재고가 부족한 상품이 있습니다."),
+                        tuple(3, true, null)
+                );
+        assertThat(response.getResults().get(0).getOrderId()).isNotNull();
+        assertThat(response.getResults().get(3).getOrderId()).isNotNull();
+
+        assertThat(orderRepository.findAll()).hasSize(2);
+        assertThat(stockRepository.findAll()).hasSize(1)
+                .extracting("productNumber", "quantity")
+                .containsExactly(tuple("001", 0));
+        assertThat(meterRegistry.timer("cafekiosk.order.stage", "stage", "order_save").count()).isEqualTo(savedCount + 1);
+        assertThat(meterRegistry.timer("cafekiosk.order.stage", "stage", "stock_deduction").count()).isEqualTo(deductionCount + 3);
+    }
+
+    @DisplayName("여러 상품 중 하나라도 재고가 부족한 주문은 실패하고, 그 주문의 다른 상품 재고도 차감하지 않는다.")
+    @Test
+    void createOrdersWithPartiallyInsufficientStock(){
+        //given
+        Product product1 = createProduct(BOTTLE, "001", 1000);
+        Product product2 = createProduct(BAKERY, "002", 3000);
+        productRepository.saveAll(List.of(product1, product2));
+
+        Stock stock1 = Stock.create("001", 2);
+        Stock stock2 = Stock.create("002", 1);
+        stockRepository.saveAll(List.of(stock1, stock2));
+
+        OrderBatchCreateRequest request = OrderBatchCreateRequest.builder()
+                .orders(List.of(
+                        OrderCreateRequest.builder().productNumbers(List.of("001", "002", "002")).build(),
+                        OrderCreateRequest.builder().productNumbers(List.of("001", "001")).build()
+                ))
+                .build();
+
+        //when
+        OrderBatchResponse response = orderService.createOrders(request, LocalDateTime.now());
+
+        //then
+        assertThat(response.getResults())
+                .extracting("index", "success", "message")
+                .containsExactly(
+                        tuple(0, false, "재고가 부족한 상품이 있습니다."),
+                        tuple(1, true, null)
+                );
+        assertThat(stockRepository.findAll()).hasSize(2)
+                .extracting("productNumber", "quantity")
+                .containsExactlyInAnyOrder(
+                        tuple("001", 0),
+                        tuple("002", 1)
+                );
+    }
+
+    @DisplayName("여러 주문을 생성할 때 주문 목록은 필수이다.")
+    @Test
+    void createOrdersWithoutOrders(){
+        //given
+        OrderBatchCreateRequest request = OrderBatchCreateRequest.builder().build();
+
+        //when //then
+        assertThatThrownBy(() -> orderService.createOrders(request, LocalDateTime.now()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("주문 목록은 필수입니다.");
+    }
+
+    @DisplayName("한 번에 생성할 수 있는 주문 수를 넘으면 예외가 발생한다.")
+    @Test
+    void createOrdersOverMaxBatchSize(){
+        //given
+        OrderCreateRequest order = OrderCreateRequest.builder().productNumbers(List.of("001")).build();
+        OrderBatchCreateRequest request = OrderBatchCreateRequest.builder()
+                .orders(Collections.nCopies(501, order))
+                .build();
+
+        //when //then
+        assertThatThrownBy(() -> orderService.createOrders(request, LocalDateTime.now()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("한 번에 생성할 수 있는 주문은 최대 500건입니다.");
+    }
+
+    @DisplayName("주문을 조회할 때 주문 상품과 상품까지 쿼리 한 번으로 읽는다.")
+    @Test
+    void getOrder(){
+        //given
+        Product product1 = createProduct(HANDMADE, "001", 1000);
+        Product product2 = createProduct(HANDMADE, "002", 3000);
+        Product product3 = createProduct(HANDMADE, "003", 5000);
+        productRepository.saveAll(List.of(product1, product2, product3));
+
+        OrderResponse created = orderService.createOrder(OrderCreateRequest.builder()
+                .productNumbers(List.of("001", "002", "003"))
+                .build(), LocalDateTime.now());
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        //when
+        OrderResponse orderResponse = orderService.getOrder(created.getId());
+
+        //then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(orderResponse.getProducts()).hasSize(3)
                 .extracting("productNumber", "price")
                 .containsExactlyInAnyOrder(
                         tuple("001", 1000),
-                        tuple("001", 1000)
+                        tuple("002", 3000),
+                        tuple("003", 5000)
                 );
     }
 
+    @DisplayName("존재하지 않는 주문을 조회하면 예외가 발생한다.")
+    @Test
+    void getOrderWithUnknownId(){
+        //when, then
+        assertThatThrownBy(() -> orderService.getOrder(-1L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("존재하지 않는 주문입니다. orderId=-1");
+    }
+
+    @DisplayName("일자별 주문 목록을 조회할 때 주문 수와 관계없이 쿼리 한 번으로 읽는다.")
+    @Test
+    void getDailyOrders(){
+        //given
+        Product product1 = createProduct(HANDMADE, "001", 1000);
+        Product product2 = createProduct(HANDMADE, "002", 3000);
+        productRepository.saveAll(List.of(product1, product2));
+
+        LocalDateTime registeredDateTime = LocalDateTime.of(2023, 3, 5, 10, 0);
+        for (int i = 0; i < 5; i++) {
+            orderService.createOrder(OrderCreateRequest.builder()
+                    .productNumbers(List.of("001", "002"))
+                    .build(), registeredDateTime.plusMinutes(i));
+        }
+        orderService.createOrder(OrderCreateRequest.builder()
+                .productNumbers(List.of("001"))
+                .build(), registeredDateTime.plusDays(1));
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        //when
+        List<OrderResponse> orderResponses = orderService.getDailyOrders(LocalDate.of(2023, 3, 5));
+
+        //then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(orderResponses).hasSize(5)
+                .allSatisfy(orderResponse -> assertThat(orderResponse.getProducts()).hasSize(2));
+        assertThat(orderResponses).extracting("registeredDateTime")
+                .containsExactly(
+                        registeredDateTime,
+                        registeredDateTime.plusMinutes(1),
+                        registeredDateTime.plusMinutes(2),
+                        registeredDateTime.plusMinutes(3),
+                        registeredDateTime.plusMinutes(4)
+                );
+    }
+
+    @DisplayName("주문 목록을 cursor 로 이어서 조회하면 같은 등록 시각의 주문도 빠짐없이 한 번씩 조회된다.")
+    @Test
+    void getOrders(){
+        //given
+        Product product = createProduct(HANDMADE, "001", 1000);
+        productRepository.save(product);
+
+        LocalDateTime registeredDateTime = LocalDateTime.of(2023, 3, 5, 10, 0);
+        List<Order> orders = orderRepository.saveAll(List.of(
+                createOrder(product, OrderStatus.PAYMENT_COMPLETED, registeredDateTime),
+                createOrder(product, OrderStatus.PAYMENT_COMPLETED, registeredDateTime),
+                createOrder(product, OrderStatus.INIT, registeredDateTime),
+                createOrder(product, OrderStatus.PAYMENT_COMPLETED, registeredDateTime.plusMinutes(1)),
+                createOrder(product, OrderStatus.PAYMENT_COMPLETED, registeredDateTime.plusMinutes(2)),
+                createOrder(product, OrderStatus.PAYMENT_COMPLETED, registeredDateTime.plusDays(1))
+        ));
+
+        //when
+        OrderPageResponse firstPage = orderService.getOrders(createSearchRequest(null));
+        OrderPageResponse secondPage = orderService.getOrders(createSearchRequest(firstPage.getNextCursor()));
+
+        //then
+        assertThat(firstPage.isHasNext()).isTrue();
+        assertThat(firstPage.getOrders()).extracting("id")
+                .containsExactly(orders.get(0).getId(), orders.get(1).getId());
+        assertThat(secondPage.isHasNext()).isFalse();
+        assertThat(secondPage.getNextCursor()).isNull();
+        assertThat(secondPage.getOrders()).extracting("id")
+                .containsExactly(orders.get(3).getId(), orders.get(4).getId());
+    }
+
+    @DisplayName("잘못된 cursor 로 주문 목록을 조회하면 예외가 발생한다.")
+    @Test
+    void getOrdersWithInvalidCursor(){
+        //when, then
+        assertThatThrownBy(() -> orderService.getOrders(createSearchRequest("invalid")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("잘못된 cursor 입니다.");
+    }
+
+    private static OrderSearchRequest createSearchRequest(String cursor) {
+        return OrderSearchRequest.builder()
+                .orderStatus(OrderStatus.PAYMENT_COMPLETED)
+                .startDateTime(LocalDateTime.of(2023, 3, 5, 0, 0))
+                .endDateTime(LocalDateTime.of(2023, 3, 6, 0, 0))
+                .cursor(cursor)
+                .size(2)
+                .build();
+    }
+
+    private static Order createOrder(Product product, OrderStatus orderStatus, LocalDateTime registeredDateTime) {
+        return Order.builder()
+                .products(List.of(product))
+                .orderStatus(orderStatus)
+                .registeredDateTime(registeredDateTime)
+                .build();
+    }
+
     private Product createProduct(ProductType type, String productNumber, int price){
         return Product.builder()
                 .type(type)
@@ -9,7 +9,9 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import sample.cafekiosk.spring.IntegrationTestSupport;
 import sample.cafekiosk.spring.api.controller.product.dto.request.ProductCreateRequest;
+import sample.cafekiosk.spring.api.service.order.response.OrderStatisticsResponse;
 import sample.cafekiosk.spring.api.service.product.response.ProductResponse;
+import sample.cafekiosk.spring.api.service.sales.DailySalesService;
 import sample.cafekiosk.spring.client.mail.MailSendClient;
 import sample.cafekiosk.spring.domain.history.mail.MailSendHistory;
 import sample.cafekiosk.spring.domain.history.mail.MailSendHistoryRepository;
@@ -21,13 +23,15 @@ import sample.cafekiosk.spring.domain.product.Product;
 import sample.cafekiosk.spring.domain.product.ProductRepository;
 import sample.cafekiosk.spring.domain.product.ProductSellingStatus;
 import sample.cafekiosk.spring.domain.product.ProductType;
+import sample.cafekiosk.spring.domain.sales.DailyProductSalesRepository;
+import sample.cafekiosk.spring.domain.sales.DailySalesRepository;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.AssertionsForClassTypes.tuple;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -51,6 +55,12 @@ class OrderStatisticsServiceTest extends IntegrationTestSupport {
     private OrderRepository orderRepository;
     @Autowired
     private MailSendHistoryRepository mailSendHistoryRepository;
+    @Autowired
+    private DailySalesService dailySalesService;
+    @Autowired
+    private DailySalesRepository dailySalesRepository;
+    @Autowired
+    private DailyProductSalesRepository dailyProductSalesRepository;
 
     @MockBean
     private MailSendClient mailSendClient;
@@ -61,6 +71,8 @@ class OrderStatisticsServiceTest extends IntegrationTestSupport {
         orderRepository.deleteAllInBatch();
         productRepository.deleteAllInBatch();
         mailSendHistoryRepository.deleteAllInBatch();
+        dailySalesRepository.deleteAllInBatch();
+        dailyProductSalesRepository.deleteAllInBatch();
     }
 
     @DisplayName("결제완료 주문들을 조회하여 매출 통계 메일을 전송한다.")
@@ -95,6 +107,48 @@ class OrderStatisticsServiceTest extends IntegrationTestSupport {
                 .contains("총 매출 합계는 12000원입니다.");
     }
 
+    @DisplayName("기간 동안의 결제완료 주문 수와 매출 합계를 DB 에서 집계한다.")
+    @Test
+    void getOrderStatistics(){
+        //given
+        Product product1 = createProduct(HANDMADE, "001", 1000);
+        Product product2 = createProduct(HANDMADE, "002", 2000);
+        productRepository.saveAll(List.of(product1, product2));
+
+        List<Product> products = List.of(product1, product2);
+        createPaymentCompletedOrder(products, LocalDateTime.of(2023, 2, 28, 23, 59, 59));
+        createPaymentCompletedOrder(products, LocalDateTime.of(2023, 3, 1, 0, 0));
+        createPaymentCompletedOrder(products, LocalDateTime.of(2023, 3, 31, 23, 59, 59));
+        createPaymentCompletedOrder(products, LocalDateTime.of(2023, 4, 1, 0, 0));
+
+        //when
+        OrderStatisticsResponse response = orderStatisticsService.getOrderStatistics(LocalDate.of(2023, 3, 1), LocalDate.of(2023, 3, 31), OrderStatus.PAYMENT_COMPLETED);
+
+        //then
+        assertThat(response.getOrderCount()).isEqualTo(2);
+        assertThat(response.getTotalAmount()).isEqualTo(6000);
+    }
+
+    @DisplayName("기간 동안 주문이 없으면 주문 수와 매출 합계는 0이다.")
+    @Test
+    void getOrderStatisticsWithoutOrders(){
+        //when
+        OrderStatisticsResponse response = orderStatisticsService.getOrderStatistics(LocalDate.of(2023, 3, 1), LocalDate.of(2023, 3, 31), OrderStatus.PAYMENT_COMPLETED);
+
+        //then
+        assertThat(response.getOrderCount()).isZero();
+        assertThat(response.getTotalAmount()).isZero();
+    }
+
+    @DisplayName("기간 통계의 시작일이 종료일보다 늦으면 예외가 발생한다.")
+    @Test
+    void getOrderStatisticsWithInvalidRange(){
+        //when //then
+        assertThatThrownBy(() -> orderStatisticsService.getOrderStatistics(LocalDate.of(2023, 3, 31), LocalDate.of(2023, 3, 1), OrderStatus.PAYMENT_COMPLETED))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("시작일은 종료일보다 늦을 수 없습니다.");
+    }
+
     private Order createPaymentCompletedOrder(List<Product> products, LocalDateTime now) {
         Order order = Order.builder()
                 .products(products)
@@ -102,6 +156,7 @@ class OrderStatisticsServiceTest extends IntegrationTestSupport {
                 .registeredDateTime(now)
                 .build();
         orderRepository.save(order);
+        dailySalesService.recordCreated(order); // 서비스를 거치지 않고 저장한 주문이므로 일자별 집계도 직접 반영한다.
         return order;
     }
 
@@ -0,0 +1,211 @@
+package sample.cafekiosk.spring.api.service.order;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import sample.cafekiosk.spring.IntegrationTestSupport;
+import sample.cafekiosk.spring.api.service.order.request.OrderCreateRequest;
+import sample.cafekiosk.spring.api.service.order.request.OrderStatusChangeRequest;
+import sample.cafekiosk.spring.api.service.order.response.OrderStatusChangeResponse;
+import sample.cafekiosk.spring.api.service.product.ProductIndex;
+import sample.cafekiosk.spring.api.service.sales.DailySalesService;
+import sample.cafekiosk.spring.domain.order.OrderRepository;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+import sample.cafekiosk.spring.domain.orderProduct.OrderProductRepository;
+import sample.cafekiosk.spring.domain.product.Product;
+import sample.cafekiosk.spring.domain.product.ProductRepository;
+import sample.cafekiosk.spring.domain.sales.DailyProductSalesRepository;
+import sample.cafekiosk.spring.domain.sales.DailySalesRepository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static sample.cafekiosk.spring.api.service.order.response.OrderStatusChangeOutcome.CHANGED;
+import static sample.cafekiosk.spring.api.service.order.response.OrderStatusChangeOutcome.NOT_FOUND;
+import static sample.cafekiosk.spring.api.service.order.response.OrderStatusChangeOutcome.STATUS_MISMATCH;
+import static sample.cafekiosk.spring.domain.product.ProductSellingStatus.SELLING;
+import static sample.cafekiosk.spring.domain.product.ProductType.HANDMADE;
+
+class OrderStatusServiceTest extends IntegrationTestSupport {
+
+    @Autowired
+    private OrderStatusService orderStatusService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private DailySalesService dailySalesService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderProductRepository orderProductRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductIndex productIndex;
+
+    @Autowired
+    private DailySalesRepository dailySalesRepository;
+
+    @Autowired
+    private DailyProductSalesRepository dailyProductSalesRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @AfterEach
+    void tearDown() {
+        orderProductRepository.deleteAllInBatch();
+        productRepository.deleteAllInBatch();
+        productIndex.clear();
+        orderRepository.deleteAllInBatch();
+        dailySalesRepository.deleteAllInBatch();
+        dailyProductSalesRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("기대한 상태인 주문만 한꺼번에 바뀌고, 주문마다 결과를 요청한 순서대로 응답한다.")
+    @Test
+    void changeOrderStatuses() {
+        //given
+        productRepository.saveAll(List.of(createProduct("001", 1000), createProduct("002", 3000)));
+        LocalDateTime registeredDateTime = LocalDateTime.of(2023, 3, 5, 10, 0);
+        Long orderId1 = createOrder(List.of("001", "002"), registeredDateTime);
+        Long orderId2 = createOrder(List.of("001"), registeredDateTime);
+        Long orderId3 = createOrder(List.of("002"), registeredDateTime);
+        orderStatusService.changeOrderStatuses(createRequest(List.of(orderId3), OrderStatus.INIT, OrderStatus.CANCELED));
+
+        //when
+        OrderStatusChangeResponse response = orderStatusService.changeOrderStatuses(
+                createRequest(List.of(orderId2, -1L, orderId3, orderId1, orderId2), OrderStatus.INIT, OrderStatus.PAYMENT_COMPLETED));
+
+        //then
+        assertThat(response.getChangedCount()).isEqualTo(2);
+        assertThat(response.getFailureCount()).isEqualTo(2);
+        assertThat(response.getResults())
+                .extracting("orderId", "outcome", "orderStatus")
+                .containsExactly(
+                        tuple(orderId2, CHANGED, OrderStatus.PAYMENT_COMPLETED),
+                        tuple(-1L, NOT_FOUND, null),
+                        tuple(orderId3, STATUS_MISMATCH, OrderStatus.CANCELED),
+                        tuple(orderId1, CHANGED, OrderStatus.PAYMENT_COMPLETED)
+                );
+        assertThat(orderRepository.findAll())
+                .extracting("id", "orderStatus")
+                .containsExactlyInAnyOrder(
+                        tuple(orderId1, OrderStatus.PAYMENT_COMPLETED),
+                        tuple(orderId2, OrderStatus.PAYMENT_COMPLETED),
+                        tuple(orderId3, OrderStatus.CANCELED)
+                );
+    }
+
+    @DisplayName("주문 상태를 일괄 변경할 때 주문 엔티티를 읽지 않는다.")
+    @Test
+    void changeOrderStatusesWithoutLoadingOrders() {
+        //given
+        productRepository.save(createProduct("001", 1000));
+        LocalDateTime registeredDateTime = LocalDateTime.of(2023, 3, 5, 10, 0);
+        List<Long> orderIds = List.of(
+                createOrder(List.of("001"), registeredDateTime),
+                createOrder(List.of("001"), registeredDateTime),
+                createOrder(List.of("001"), registeredDateTime)
+        );
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        //when
+        OrderStatusChangeResponse response = orderStatusService.changeOrderStatuses(
+                createRequest(orderIds, OrderStatus.INIT, OrderStatus.PAYMENT_COMPLETED));
+
+        //then
+        assertThat(response.getChangedCount()).isEqualTo(3);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @DisplayName("주문 상태가 바뀌면 일자별 매출 집계가 이전 상태에서 새 상태로 옮겨진다.")
+    @Test
+    void changeOrderStatusesMovesDailySales() {
+        //given
+        productRepository.saveAll(List.of(createProduct("001", 1000), createProduct("002", 3000)));
+        LocalDateTime registeredDateTime = LocalDateTime.of(2023, 3, 5, 10, 0);
+        Long orderId1 = createOrder(List.of("001", "001", "002"), registeredDateTime);
+        Long orderId2 = createOrder(List.of("002"), registeredDateTime);
+
+        //when
+        orderStatusService.changeOrderStatuses(createRequest(List.of(orderId1), OrderStatus.INIT, OrderStatus.PAYMENT_COMPLETED));
+
+        //then
+        LocalDate salesDate = LocalDate.of(2023, 3, 5);
+        assertThat(dailySalesService.getDailySales(salesDate, OrderStatus.INIT))
+                .extracting("orderCount", "totalAmount")
+                .contains(1L, 3000L);
+        assertThat(dailySalesService.getDailySales(salesDate, OrderStatus.PAYMENT_COMPLETED))
+                .extracting("orderCount", "totalAmount", "productQuantities")
+                .contains(1L, 5000L, Map.of("001", 2L, "002", 1L));
+    }
+
+    @DisplayName("허용되지 않는 상태 전이를 요청하면 예외가 발생하고 아무 주문도 바뀌지 않는다.")
+    @Test
+    void changeOrderStatusesWithInvalidTransition() {
+        //given
+        productRepository.save(createProduct("001", 1000));
+        Long orderId = createOrder(List.of("001"), LocalDateTime.of(2023, 3, 5, 10, 0));
+
+        //when, then
+        assertThatThrownBy(() -> orderStatusService.changeOrderStatuses(
+                createRequest(List.of(orderId), OrderStatus.INIT, OrderStatus.COMPLETED)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("주문 상태를 변경할 수 없습니다. INIT -> COMPLETED");
+        assertThat(orderRepository.findById(orderId))
+                .get()
+                .extracting("orderStatus")
+                .isEqualTo(OrderStatus.INIT);
+    }
+
+    @DisplayName("상태를 변경할 주문 번호가 없으면 예외가 발생한다.")
+    @Test
+    void changeOrderStatusesWithoutOrderIds() {
+        //when, then
+        assertThatThrownBy(() -> orderStatusService.changeOrderStatuses(
+                createRequest(List.of(), OrderStatus.INIT, OrderStatus.PAYMENT_COMPLETED)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("상태를 변경할 주문 번호는 필수입니다.");
+    }
+
+    private Long createOrder(List<String> productNumbers, LocalDateTime registeredDateTime) {
+        return orderService.createOrder(OrderCreateRequest.builder()
+                .productNumbers(productNumbers)
+                .build(), registeredDateTime).getId();
+    }
+
+    private static OrderStatusChangeRequest createRequest(List<Long> orderIds, OrderStatus expectedStatus, OrderStatus targetStatus) {
+        return OrderStatusChangeRequest.builder()
+                .orderIds(orderIds)
+                .expectedStatus(expectedStatus)
+                .targetStatus(targetStatus)
+                .build();
+    }
+
+    private Product createProduct(String productNumber, int price) {
+        return Product.builder()
+                .type(HANDMADE)
+                .productNumber(productNumber)
+                .price(price)
+                .sellingStatus(SELLING)
+                .name("메뉴 이름")
+                .build();
+    }
+}
@@ -0,0 +1,124 @@
+package sample.cafekiosk.spring.api.service.order.event;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.SmartLifecycle;
+import sample.cafekiosk.spring.IntegrationTestSupport;
+import sample.cafekiosk.spring.api.service.order.OrderService;
+import sample.cafekiosk.spring.api.service.order.request.OrderCreateRequest;
+import sample.cafekiosk.spring.api.service.product.ProductIndex;
+import sample.cafekiosk.spring.domain.order.OrderRepository;
+import sample.cafekiosk.spring.domain.orderProduct.OrderProductRepository;
+import sample.cafekiosk.spring.domain.product.Product;
+import sample.cafekiosk.spring.domain.product.ProductRepository;
+import sample.cafekiosk.spring.domain.sales.DailyProductSalesRepository;
+import sample.cafekiosk.spring.domain.sales.DailySalesRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static sample.cafekiosk.spring.domain.product.ProductSellingStatus.SELLING;
+import static sample.cafekiosk.spring.domain.product.ProductType.HANDMADE;
+
+class OrderEventBusTest extends IntegrationTestSupport {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderEventBus orderEventBus;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderProductRepository orderProductRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductIndex productIndex;
+
+    @Autowired
+    private DailySalesRepository dailySalesRepository;
+
+    @Autowired
+    private DailyProductSalesRepository dailyProductSalesRepository;
+
+    @AfterEach
+    void tearDown() {
+        orderProductRepository.deleteAllInBatch();
+        orderRepository.deleteAllInBatch();
+        productRepository.deleteAllInBatch();
+        productIndex.clear();
+        dailySalesRepository.deleteAllInBatch();
+        dailyProductSalesRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("주문이 커밋되면 주문 생성 이벤트가 소비자에게 전달된다.")
+    @Test
+    void consumeOrderCreated() {
+        //given
+        productRepository.saveAll(List.of(createProduct("001", 1000), createProduct("002", 3000)));
+        double createdBefore = meterRegistry.counter("cafekiosk.order.created").count();
+        double amountBefore = meterRegistry.counter("cafekiosk.order.created.amount").count();
+
+        //when
+        orderService.createOrder(createRequest("001", "002"), LocalDateTime.now());
+        orderService.createOrder(createRequest("001"), LocalDateTime.now());
+
+        //then
+        assertThat(orderEventBus.awaitConsumed(5000)).isTrue();
+        assertThat(meterRegistry.counter("cafekiosk.order.created").count()).isEqualTo(createdBefore + 2);
+        assertThat(meterRegistry.counter("cafekiosk.order.created.amount").count()).isEqualTo(amountBefore + 5000);
+    }
+
+    @DisplayName("롤백된 주문의 이벤트는 전달되지 않는다.")
+    @Test
+    void notConsumeRolledBackOrder() {
+        //given
+        productRepository.save(createProduct("001", 1000));
+        double createdBefore = meterRegistry.counter("cafekiosk.order.created").count();
+
+        //when
+        assertThatThrownBy(() -> orderService.createOrder(createRequest("001", "999"), LocalDateTime.now()))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        //then
+        assertThat(orderEventBus.awaitConsumed(5000)).isTrue();
+        assertThat(meterRegistry.counter("cafekiosk.order.created").count()).isEqualTo(createdBefore);
+    }
+
+    @DisplayName("웹 서버가 요청을 다 처리하고 멈춘 뒤에 이벤트 버스가 멈추도록, 웹 서버보다 낮은 phase 를 쓴다.")
+    @Test
+    void phaseBelowWebServer() {
+        // 웹 서버 graceful shutdown 은 DEFAULT_PHASE - 1024, 웹 서버 종료는 DEFAULT_PHASE - 2048 에서 일어난다.
+        assertThat(orderEventBus.getPhase()).isLessThan(SmartLifecycle.DEFAULT_PHASE - 2048);
+        assertThat(orderEventBus.isRunning()).isTrue();
+    }
+
+    private OrderCreateRequest createRequest(String... productNumbers) {
+        return OrderCreateRequest.builder()
+                .productNumbers(List.of(productNumbers))
+                .build();
+    }
+
+    private Product createProduct(String productNumber, int price) {
+        return Product.builder()
+                .productNumber(productNumber)
+                .type(HANDMADE)
+                .sellingStatus(SELLING)
+                .name("메뉴 이름")
+                .price(price)
+                .build();
+    }
+}
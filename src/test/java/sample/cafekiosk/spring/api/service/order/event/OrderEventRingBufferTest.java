@@ -0,0 +1,149 @@
+package sample.cafekiosk.spring.api.service.order.event;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OrderEventRingBufferTest {
+
+    @DisplayName("여러 스레드가 동시에 발행해도 각 소비자는 모든 이벤트를 한 번씩, 스레드별 발행 순서대로 받는다.")
+    @Test
+    void publishConcurrently() throws Exception {
+        //given
+        AtomicLong fastConsumer = OrderEventRingBuffer.newConsumerSequence();
+        AtomicLong slowConsumer = OrderEventRingBuffer.newConsumerSequence();
+        OrderEventRingBuffer<long[]> ringBuffer = new OrderEventRingBuffer<>(64, List.of(fastConsumer, slowConsumer));
+
+        int producerCount = 4;
+        int eventCountPerProducer = 10_000;
+        ExecutorService executorService = Executors.newFixedThreadPool(producerCount + 2);
+        CountDownLatch startLatch = new CountDownLatch(1);
+
+        //when
+        Future<List<long[]>> fastResult = executorService.submit(() -> consumeAll(ringBuffer, fastConsumer, 16, producerCount * eventCountPerProducer));
+        Future<List<long[]>> slowResult = executorService.submit(() -> consumeAll(ringBuffer, slowConsumer, 1, producerCount * eventCountPerProducer));
+        for (int producer = 0; producer < producerCount; producer++) {
+            long producerId = producer;
+            executorService.submit(() -> {
+                startLatch.await();
+                for (long i = 0; i < eventCountPerProducer; i++) {
+                    ringBuffer.publish(new long[]{producerId, i}, 0);
+                }
+                return null;
+            });
+        }
+        startLatch.countDown();
+
+        //then
+        assertInOrderPerProducer(fastResult.get(10, TimeUnit.SECONDS), producerCount, eventCountPerProducer);
+        assertInOrderPerProducer(slowResult.get(10, TimeUnit.SECONDS), producerCount, eventCountPerProducer);
+        executorService.shutdown();
+    }
+
+    @DisplayName("가장 느린 소비자가 읽지 않은 칸은 덮어쓰지 않고, 가득 차면 발행에 실패한다.")
+    @Test
+    void tryPublishWhenFull() {
+        //given
+        AtomicLong consumer = OrderEventRingBuffer.newConsumerSequence();
+        OrderEventRingBuffer<String> ringBuffer = new OrderEventRingBuffer<>(2, List.of(consumer));
+        ringBuffer.tryPublish("A");
+        ringBuffer.tryPublish("B");
+
+        //when
+        boolean publishedWhenFull = ringBuffer.tryPublish("C");
+        List<String> batch = new ArrayList<>();
+        ringBuffer.commit(consumer, ringBuffer.poll(consumer.get(), 1, batch));
+        boolean publishedAfterConsume = ringBuffer.tryPublish("C");
+
+        //then
+        assertThat(publishedWhenFull).isFalse();
+        assertThat(batch).containsExactly("A");
+        assertThat(publishedAfterConsume).isTrue();
+        assertThat(ringBuffer.getBacklog()).isEqualTo(2);
+    }
+
+    @DisplayName("한 번에 최대 batch 크기만큼만 읽는다.")
+    @Test
+    void pollUpToBatchSize() {
+        //given
+        AtomicLong consumer = OrderEventRingBuffer.newConsumerSequence();
+        OrderEventRingBuffer<Integer> ringBuffer = new OrderEventRingBuffer<>(8, List.of(consumer));
+        for (int i = 0; i < 5; i++) {
+            ringBuffer.tryPublish(i);
+        }
+        List<Integer> batch = new ArrayList<>();
+
+        //when
+        long polled = ringBuffer.poll(consumer.get(), 3, batch);
+
+        //then
+        assertThat(polled).isEqualTo(2);
+        assertThat(batch).containsExactly(0, 1, 2);
+    }
+
+    @DisplayName("모든 소비자가 처리한 칸은 비워서 이벤트를 붙잡아 두지 않는다.")
+    @Test
+    void commitClearsEntryAfterLastConsumer() {
+        //given
+        AtomicLong fastConsumer = OrderEventRingBuffer.newConsumerSequence();
+        AtomicLong slowConsumer = OrderEventRingBuffer.newConsumerSequence();
+        OrderEventRingBuffer<String> ringBuffer = new OrderEventRingBuffer<>(4, List.of(fastConsumer, slowConsumer));
+        ringBuffer.tryPublish("A");
+        ringBuffer.tryPublish("B");
+        List<String> batch = new ArrayList<>();
+
+        //when
+        ringBuffer.commit(fastConsumer, ringBuffer.poll(fastConsumer.get(), 2, batch));
+        Object afterFastConsumer = ringBuffer.entryAt(0);
+        ringBuffer.commit(slowConsumer, ringBuffer.poll(slowConsumer.get(), 1, batch));
+
+        //then
+        assertThat(afterFastConsumer).isEqualTo("A");
+        assertThat(ringBuffer.entryAt(0)).isNull();
+        assertThat(ringBuffer.entryAt(1)).isEqualTo("B");
+        assertThat(fastConsumer.get()).isEqualTo(1);
+        assertThat(slowConsumer.get()).isZero();
+    }
+
+    @DisplayName("ring buffer 크기는 2의 거듭제곱이어야 한다.")
+    @Test
+    void bufferSizeMustBePowerOfTwo() {
+        assertThatThrownBy(() -> new OrderEventRingBuffer<>(100, List.of()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("ring buffer 크기는 2의 거듭제곱이어야 합니다. bufferSize=100");
+    }
+
+    private static List<long[]> consumeAll(OrderEventRingBuffer<long[]> ringBuffer, AtomicLong sequence, int batchSize, int total) {
+        List<long[]> consumed = new ArrayList<>();
+        List<long[]> batch = new ArrayList<>();
+        while (consumed.size() < total) {
+            long polled = ringBuffer.poll(sequence.get(), batchSize, batch);
+            assertThat(batch.size()).isLessThanOrEqualTo(batchSize);
+            consumed.addAll(batch);
+            batch.clear();
+            ringBuffer.commit(sequence, polled);
+            Thread.onSpinWait();
+        }
+        return consumed;
+    }
+
+    private static void assertInOrderPerProducer(List<long[]> consumed, int producerCount, int eventCountPerProducer) {
+        assertThat(consumed).hasSize(producerCount * eventCountPerProducer);
+        long[] nextExpected = new long[producerCount];
+        for (long[] event : consumed) {
+            assertThat(event[1]).isEqualTo(nextExpected[(int) event[0]]);
+            nextExpected[(int) event[0]]++;
+        }
+    }
+}
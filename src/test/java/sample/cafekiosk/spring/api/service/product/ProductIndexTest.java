@@ -0,0 +1,163 @@
+package sample.cafekiosk.spring.api.service.product;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import sample.cafekiosk.spring.IntegrationTestSupport;
+import sample.cafekiosk.spring.api.service.ProductService;
+import sample.cafekiosk.spring.domain.product.Product;
+import sample.cafekiosk.spring.domain.product.ProductRepository;
+import sample.cafekiosk.spring.domain.product.ProductSellingStatus;
+import sample.cafekiosk.spring.domain.product.ProductSnapshot;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static sample.cafekiosk.spring.domain.product.ProductSellingStatus.SELLING;
+import static sample.cafekiosk.spring.domain.product.ProductSellingStatus.STOP_SELLING;
+import static sample.cafekiosk.spring.domain.product.ProductType.HANDMADE;
+
+class ProductIndexTest extends IntegrationTestSupport {
+
+    @Autowired
+    private ProductIndex productIndex;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAllInBatch();
+        productIndex.clear();
+    }
+
+    @DisplayName("요청한 순서대로 상품 스냅샷을 돌려주고, 한 번 읽은 뒤에는 DB 를 조회하지 않는다.")
+    @Test
+    void getProducts() {
+        //given
+        productRepository.saveAll(List.of(
+                createProduct("001", SELLING, 1000),
+                createProduct("002", SELLING, 3000)));
+        productIndex.getProducts(List.of("001"));
+        long loadCount = productIndex.getLoadCount();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        //when
+        List<ProductSnapshot> products = productIndex.getProducts(List.of("002", "001", "002"));
+
+        //then
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(productIndex.getLoadCount()).isEqualTo(loadCount);
+        assertThat(products).extracting("productNumber", "price")
+                .containsExactly(
+                        tuple("002", 3000),
+                        tuple("001", 1000),
+                        tuple("002", 3000)
+                );
+    }
+
+    @DisplayName("색인에 없는 상품번호는 그 번호만 DB 에서 확인해서 색인에 합친다.")
+    @Test
+    void getProductsAddedAfterLoad() {
+        //given
+        productRepository.save(createProduct("001", SELLING, 1000));
+        productIndex.getProducts(List.of("001"));
+        long loadCount = productIndex.getLoadCount();
+        productRepository.save(createProduct("002", SELLING, 3000));
+
+        //when
+        List<ProductSnapshot> products = productIndex.getProducts(List.of("001", "002"));
+
+        //then
+        assertThat(products).extracting("productNumber").containsExactly("001", "002");
+        assertThat(productIndex.getLoadCount()).isEqualTo(loadCount);
+    }
+
+    @DisplayName("존재하지 않는 상품번호가 있으면 예외가 발생한다.")
+    @Test
+    void getProductsWithUnknownProduct() {
+        //given
+        productRepository.save(createProduct("001", SELLING, 1000));
+
+        //when, then
+        assertThatThrownBy(() -> productIndex.getProducts(List.of("001", "999")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("존재하지 않는 상품이 있습니다.");
+    }
+
+    @DisplayName("DB 에도 없던 상품번호는 잠시 기억해서 다시 조회하지 않고 바로 거절한다.")
+    @Test
+    void getProductsWithUnknownProductAgain() {
+        //given
+        productRepository.save(createProduct("001", SELLING, 1000));
+        assertThatThrownBy(() -> productIndex.getProducts(List.of("001", "999")))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        //when, then
+        assertThatThrownBy(() -> productIndex.getProducts(List.of("001", "999")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("존재하지 않는 상품이 있습니다.");
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @DisplayName("상품이 바뀌면 없던 상품번호로 기억한 것도 버리고 다시 확인한다.")
+    @Test
+    void getProductsAfterUnknownProductCreated() {
+        //given
+        productRepository.save(createProduct("001", SELLING, 1000));
+        assertThatThrownBy(() -> productIndex.getProducts(List.of("002")))
+                .isInstanceOf(IllegalArgumentException.class);
+        productRepository.save(createProduct("002", SELLING, 3000));
+
+        //when
+        productIndex.invalidate();
+        List<ProductSnapshot> products = productIndex.getProducts(List.of("002"));
+
+        //then
+        assertThat(products).extracting("productNumber").containsExactly("002");
+    }
+
+    @DisplayName("상품이 바뀌면 다음 조회에서 색인을 다시 읽는다.")
+    @Test
+    void refreshOnProductChanged() {
+        //given
+        productRepository.save(createProduct("001", SELLING, 1000));
+        productIndex.getProducts(List.of("001"));
+        long loadCount = productIndex.getLoadCount();
+
+        //when
+        productService.changeSellingStatus("001", STOP_SELLING);
+        List<ProductSnapshot> products = productIndex.getProducts(List.of("001"));
+
+        //then
+        assertThat(productIndex.getLoadCount()).isEqualTo(loadCount + 1);
+        assertThat(products).extracting("sellingStatus").containsExactly(STOP_SELLING);
+    }
+
+    private Product createProduct(String productNumber, ProductSellingStatus sellingStatus, int price) {
+        return Product.builder()
+                .productNumber(productNumber)
+                .type(HANDMADE)
+                .sellingStatus(sellingStatus)
+                .name("메뉴 이름")
+                .price(price)
+                .build();
+    }
+}
@@ -0,0 +1,160 @@
+package sample.cafekiosk.spring.api.service.product;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import sample.cafekiosk.spring.IntegrationTestSupport;
+import sample.cafekiosk.spring.api.controller.product.dto.request.ProductCreateRequest;
+import sample.cafekiosk.spring.api.service.ProductService;
+import sample.cafekiosk.spring.domain.product.Product;
+import sample.cafekiosk.spring.domain.product.ProductMenuItem;
+import sample.cafekiosk.spring.domain.product.ProductMenuViewRepository;
+import sample.cafekiosk.spring.domain.product.ProductNumberAllocator;
+import sample.cafekiosk.spring.domain.product.ProductRepository;
+import sample.cafekiosk.spring.domain.product.ProductSellingStatus;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static sample.cafekiosk.spring.domain.product.ProductSellingStatus.HOLD;
+import static sample.cafekiosk.spring.domain.product.ProductSellingStatus.SELLING;
+import static sample.cafekiosk.spring.domain.product.ProductSellingStatus.STOP_SELLING;
+import static sample.cafekiosk.spring.domain.product.ProductType.BAKERY;
+import static sample.cafekiosk.spring.domain.product.ProductType.HANDMADE;
+
+class ProductMenuProjectionTest extends IntegrationTestSupport {
+
+    @Autowired
+    private ProductMenuProjection productMenuProjection;
+
+    @Autowired
+    private ProductMenuViewRepository productMenuViewRepository;
+
+    @Autowired
+    private SellingProductsCache sellingProductsCache;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductNumberAllocator productNumberAllocator;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAllInBatch();
+        productMenuViewRepository.deleteAll();
+        productNumberAllocator.reset();
+    }
+
+    @DisplayName("상품을 등록하고 판매 상태를 바꾸면 메뉴 조회 테이블에 바로 반영된다.")
+    @Test
+    void projectProductEvents() {
+        //given
+        productService.createProduct(createRequest("아메리카노", 4000));
+        productService.createProduct(createRequest("카페라떼", 4500));
+
+        //when
+        productService.changeSellingStatus("002", STOP_SELLING);
+
+        //then
+        assertThat(productMenuViewRepository.findAllBySellingStatusIn(List.of(SELLING, STOP_SELLING)))
+                .extracting("productNumber", "sellingStatus", "name", "price")
+                .containsExactlyInAnyOrder(
+                        tuple("001", SELLING, "아메리카노", 4000),
+                        tuple("002", STOP_SELLING, "카페라떼", 4500)
+                );
+    }
+
+    @DisplayName("상품 등록이 롤백되면 메뉴 조회 테이블에도 남지 않는다.")
+    @Test
+    void rollbackWithProduct() {
+        //given
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        //when
+        transactionTemplate.executeWithoutResult(status -> {
+            productService.createProduct(createRequest("아메리카노", 4000));
+            status.setRollbackOnly();
+        });
+
+        //then
+        assertThat(productMenuViewRepository.findAllBySellingStatusIn(List.of(SELLING))).isEmpty();
+    }
+
+    @DisplayName("메뉴 조회는 엔티티를 만들지 않고 판매 상태로 걸러 id 순서로 돌려준다.")
+    @Test
+    void findAllBySellingStatusIn() {
+        //given
+        productRepository.saveAll(List.of(
+                createProduct("001", SELLING, "아메리카노"),
+                createProduct("002", HOLD, "카페라떼"),
+                createProduct("003", STOP_SELLING, "크루아상")
+        ));
+        productMenuProjection.rebuild();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        //when
+        List<ProductMenuItem> items = productMenuViewRepository.findAllBySellingStatusIn(List.of(SELLING, HOLD));
+
+        //then
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(items).extracting("productNumber", "sellingStatus")
+                .containsExactly(
+                        tuple("001", SELLING),
+                        tuple("002", HOLD)
+                );
+    }
+
+    @DisplayName("메뉴 조회 테이블을 다시 만들면 그 전에 캐시해 둔 판매 상품 목록을 버린다.")
+    @Test
+    void rebuildInvalidatesSellingProductsCache() {
+        //given
+        sellingProductsCache.invalidate();
+        assertThat(sellingProductsCache.get().products()).isEmpty();
+        productRepository.save(createProduct("001", SELLING, "아메리카노"));
+
+        //when
+        productMenuProjection.rebuild();
+
+        //then
+        assertThat(sellingProductsCache.get().products())
+                .extracting("productNumber")
+                .containsExactly("001");
+    }
+
+    private ProductCreateRequest createRequest(String name, int price) {
+        return ProductCreateRequest.builder()
+                .type(HANDMADE)
+                .sellingStatus(SELLING)
+                .name(name)
+                .price(price)
+                .build();
+    }
+
+    private Product createProduct(String productNumber, ProductSellingStatus sellingStatus, String name) {
+        return Product.builder()
+                .productNumber(productNumber)
+                .type(BAKERY)
+                .sellingStatus(sellingStatus)
+                .name(name)
+                .price(3000)
+                .build();
+    }
+}
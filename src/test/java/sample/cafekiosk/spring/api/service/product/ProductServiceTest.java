@@ -10,13 +10,21 @@ import sample.cafekiosk.spring.api.controller.product.dto.request.ProductCreateR
 import sample.cafekiosk.spring.api.service.ProductService;
 import sample.cafekiosk.spring.api.service.product.response.ProductResponse;
 import sample.cafekiosk.spring.domain.product.Product;
+import sample.cafekiosk.spring.domain.product.ProductMenuViewRepository;
+import sample.cafekiosk.spring.domain.product.ProductNumberAllocator;
 import sample.cafekiosk.spring.domain.product.ProductRepository;
 import sample.cafekiosk.spring.domain.product.ProductSellingStatus;
 import sample.cafekiosk.spring.domain.product.ProductType;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.AssertionsForClassTypes.tuple;
 import static sample.cafekiosk.spring.domain.product.ProductSellingStatus.*;
@@ -32,9 +40,24 @@ public class ProductServiceTest {
     @Autowired
     private ProductRepository productRepository;
 
+    @Autowired
+    private SellingProductsCache sellingProductsCache;
+
+    @Autowired
+    private ProductNumberAllocator productNumberAllocator;
+
+    @Autowired
+    private ProductMenuProjection productMenuProjection;
+
+    @Autowired
+    private ProductMenuViewRepository productMenuViewRepository;
+
     @AfterEach
     void tearDown(){
         productRepository.deleteAllInBatch();
+        productMenuViewRepository.deleteAll();
+        productNumberAllocator.reset();
+        sellingProductsCache.invalidate();
     }
 
     @DisplayName("신규 상품을 등록한다. 상품번호는 가장 최근 상품의 상품번호에서 1 증가한 값이다.")
@@ -96,6 +119,92 @@ public class ProductServiceTest {
                 .contains("001", HANDMADE, SELLING, "카푸치노", 5000);
     }
 
+    @DisplayName("판매 상품 목록은 캐시되고, 상품이 등록되면 다시 조회한다.")
+    @Test
+    void getSellingProductsInvalidatedByCreateProduct(){
+        //given
+        productRepository.saveAll(List.of(
+                createProduct("001", HANDMADE, SELLING, "아메리카노", 4000),
+                createProduct("002", HANDMADE, STOP_SELLING, "팥빙수", 7000)
+        ));
+        productMenuProjection.rebuild();
+        SellingProducts before = productService.getSellingProductsSnapshot();
+        long loadCount = sellingProductsCache.getLoadCount();
+
+        ProductCreateRequest request = ProductCreateRequest.builder()
+                .type(HANDMADE)
+                .sellingStatus(HOLD)
+                .name("카푸치노")
+                .price(5000)
+                .build();
+
+        //when
+        SellingProducts cached = productService.getSellingProductsSnapshot();
+        productService.createProduct(request);
+        SellingProducts after = productService.getSellingProductsSnapshot();
+
+        //then
+        assertThat(cached).isSameAs(before);
+        assertThat(sellingProductsCache.getLoadCount()).isEqualTo(loadCount + 1);
+        assertThat(after.eTag()).isNotEqualTo(before.eTag());
+        assertThat(after.products()).hasSize(2)
+                .extracting("productNumber", "sellingStatus")
+                .containsExactlyInAnyOrder(
+                        tuple("001", SELLING),
+                        tuple("003", HOLD)
+                );
+    }
+
+    @DisplayName("상품의 판매 상태를 변경하면 판매 상품 목록에 반영된다.")
+    @Test
+    void changeSellingStatus(){
+        //given
+        productRepository.saveAll(List.of(
+                createProduct("001", HANDMADE, SELLING, "아메리카노", 4000),
+                createProduct("002", HANDMADE, SELLING, "카페라떼", 4500)
+        ));
+        productMenuProjection.rebuild();
+        assertThat(productService.getSellingProducts()).hasSize(2);
+
+        //when
+        productService.changeSellingStatus("002", STOP_SELLING);
+
+        //then
+        assertThat(productService.getSellingProducts()).hasSize(1)
+                .extracting("productNumber")
+                .containsExactly("001");
+    }
+
+    @DisplayName("캐시가 비어 있을 때 동시에 조회해도 DB 조회는 한 번만 일어난다.")
+    @Test
+    void getSellingProductsConcurrently() throws Exception {
+        //given
+        productRepository.saveAll(List.of(createProduct("001", HANDMADE, SELLING, "아메리카노", 4000)));
+        productMenuProjection.rebuild();
+        long loadCount = sellingProductsCache.getLoadCount();
+
+        int threadCount = 16;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<SellingProducts>> futures = new ArrayList<>();
+
+        //when
+        for (int i = 0; i < threadCount; i++) {
+            futures.add(executorService.submit(() -> {
+                startLatch.await();
+                return productService.getSellingProductsSnapshot();
+            }));
+        }
+        startLatch.countDown();
+
+        //then
+        for (Future<SellingProducts> future : futures) {
+            assertThat(future.get(5, TimeUnit.SECONDS).products()).hasSize(1);
+        }
+        executorService.shutdown();
+        assertThat(sellingProductsCache.getLoadCount()).isEqualTo(loadCount + 1);
+    }
+
     private static Product createProduct(String productNumber, ProductType productType, ProductSellingStatus sellingStatus,
                                          String name, int price) {
         return Product.builder()
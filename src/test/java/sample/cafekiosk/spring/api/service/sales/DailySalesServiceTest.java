@@ -0,0 +1,162 @@
+package sample.cafekiosk.spring.api.service.sales;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import sample.cafekiosk.spring.IntegrationTestSupport;
+import sample.cafekiosk.spring.api.service.sales.response.DailySalesResponse;
+import sample.cafekiosk.spring.domain.order.Order;
+import sample.cafekiosk.spring.domain.order.OrderRepository;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+import sample.cafekiosk.spring.domain.orderProduct.OrderProductRepository;
+import sample.cafekiosk.spring.domain.product.Product;
+import sample.cafekiosk.spring.domain.product.ProductRepository;
+import sample.cafekiosk.spring.domain.sales.DailyProductSalesRepository;
+import sample.cafekiosk.spring.domain.sales.DailySalesRepository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static sample.cafekiosk.spring.domain.product.ProductSellingStatus.SELLING;
+import static sample.cafekiosk.spring.domain.product.ProductType.HANDMADE;
+
+class DailySalesServiceTest extends IntegrationTestSupport {
+
+    @Autowired
+    private DailySalesService dailySalesService;
+
+    @Autowired
+    private DailySalesRepository dailySalesRepository;
+
+    @Autowired
+    private DailyProductSalesRepository dailyProductSalesRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderProductRepository orderProductRepository;
+
+    @AfterEach
+    void tearDown() {
+        orderProductRepository.deleteAllInBatch();
+        orderRepository.deleteAllInBatch();
+        productRepository.deleteAllInBatch();
+        dailySalesRepository.deleteAllInBatch();
+        dailyProductSalesRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("주문이 생성되면 주문 일자와 상태별로 주문 수, 매출, 상품별 수량이 누적된다.")
+    @Test
+    void recordCreated() {
+        //given
+        Product americano = createProduct("001", 4000);
+        Product latte = createProduct("002", 4500);
+        LocalDateTime registeredDateTime = LocalDateTime.of(2023, 3, 5, 10, 0);
+        Order order1 = createOrder(List.of(americano, americano), OrderStatus.PAYMENT_COMPLETED, registeredDateTime);
+        Order order2 = createOrder(List.of(latte), OrderStatus.PAYMENT_COMPLETED, registeredDateTime.plusHours(1));
+        Order order3 = createOrder(List.of(latte), OrderStatus.PAYMENT_COMPLETED, registeredDateTime.plusDays(1));
+
+        //when
+        dailySalesService.recordCreated(order1);
+        dailySalesService.recordCreated(List.of(order2, order3));
+
+        //then
+        DailySalesResponse response = dailySalesService.getDailySales(LocalDate.of(2023, 3, 5), OrderStatus.PAYMENT_COMPLETED);
+        assertThat(response)
+                .extracting("orderCount", "totalAmount")
+                .contains(2L, 12500L);
+        assertThat(response.getProductQuantities()).isEqualTo(Map.of("001", 2L, "002", 1L));
+    }
+
+    @DisplayName("주문 상태가 바뀌면 이전 상태의 집계에서 빠지고 새 상태의 집계에 더해진다.")
+    @Test
+    void recordStatusChanged() {
+        //given
+        Product americano = createProduct("001", 4000);
+        LocalDateTime registeredDateTime = LocalDateTime.of(2023, 3, 5, 10, 0);
+        Order initOrder = createOrder(List.of(americano), OrderStatus.INIT, registeredDateTime);
+        dailySalesService.recordCreated(initOrder);
+        Order completedOrder = createOrder(List.of(americano), OrderStatus.PAYMENT_COMPLETED, registeredDateTime);
+
+        //when
+        dailySalesService.recordStatusChanged(completedOrder, OrderStatus.INIT);
+
+        //then
+        LocalDate salesDate = LocalDate.of(2023, 3, 5);
+        assertThat(dailySalesService.getDailySales(salesDate, OrderStatus.INIT))
+                .extracting("orderCount", "totalAmount")
+                .contains(0L, 0L);
+        assertThat(dailySalesService.getDailySales(salesDate, OrderStatus.PAYMENT_COMPLETED))
+                .extracting("orderCount", "totalAmount")
+                .contains(1L, 4000L);
+    }
+
+    @DisplayName("집계가 없는 날짜를 조회하면 0 으로 응답한다.")
+    @Test
+    void getDailySalesWhenEmpty() {
+        //when
+        DailySalesResponse response = dailySalesService.getDailySales(LocalDate.of(2023, 3, 5), OrderStatus.PAYMENT_COMPLETED);
+
+        //then
+        assertThat(response)
+                .extracting("orderCount", "totalAmount")
+                .contains(0L, 0L);
+        assertThat(response.getProductQuantities()).isEmpty();
+    }
+
+    @DisplayName("기간의 집계를 지우고 저장된 주문으로 다시 만든다.")
+    @Test
+    void rebuild() {
+        //given
+        Product americano = createProduct("001", 4000);
+        Product latte = createProduct("002", 4500);
+        productRepository.saveAll(List.of(americano, latte));
+
+        LocalDateTime registeredDateTime = LocalDateTime.of(2023, 3, 5, 10, 0);
+        orderRepository.saveAll(List.of(
+                createOrder(List.of(americano, americano), OrderStatus.PAYMENT_COMPLETED, registeredDateTime),
+                createOrder(List.of(latte), OrderStatus.PAYMENT_COMPLETED, registeredDateTime.plusHours(13)),
+                createOrder(List.of(latte), OrderStatus.PAYMENT_COMPLETED, registeredDateTime.plusDays(1))
+        ));
+        dailySalesService.increase(LocalDate.of(2023, 3, 5), OrderStatus.PAYMENT_COMPLETED, 99, 99);
+
+        //when
+        dailySalesService.rebuild(LocalDate.of(2023, 3, 5), LocalDate.of(2023, 3, 5));
+
+        //then
+        DailySalesResponse response = dailySalesService.getDailySales(LocalDate.of(2023, 3, 5), OrderStatus.PAYMENT_COMPLETED);
+        assertThat(response)
+                .extracting("orderCount", "totalAmount")
+                .contains(2L, 12500L);
+        assertThat(response.getProductQuantities()).isEqualTo(Map.of("001", 2L, "002", 1L));
+        assertThat(dailySalesService.getDailySales(LocalDate.of(2023, 3, 6), OrderStatus.PAYMENT_COMPLETED))
+                .extracting("orderCount", "totalAmount")
+                .contains(0L, 0L);
+    }
+
+    private Order createOrder(List<Product> products, OrderStatus orderStatus, LocalDateTime registeredDateTime) {
+        return Order.builder()
+                .products(products)
+                .orderStatus(orderStatus)
+                .registeredDateTime(registeredDateTime)
+                .build();
+    }
+
+    private Product createProduct(String productNumber, int price) {
+        return Product.builder()
+                .type(HANDMADE)
+                .productNumber(productNumber)
+                .price(price)
+                .sellingStatus(SELLING)
+                .name("메뉴 이름")
+                .build();
+    }
+}
@@ -0,0 +1,127 @@
+package sample.cafekiosk.spring.api.service.stats;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SalesAggregatorTest {
+
+    private static final LocalDate START_DATE = LocalDate.of(2023, 3, 5);
+
+    @DisplayName("상품별 판매 수량과 매출을 누적하고, 많은 순서로 상위 N 개를 고른다.")
+    @Test
+    void top() {
+        //given
+        SalesAggregator aggregator = new SalesAggregator(START_DATE, START_DATE);
+        LocalDateTime registeredDateTime = START_DATE.atTime(10, 0);
+        aggregator.addOrderProduct(registeredDateTime, "001", "아메리카노", 3, 4000);
+        aggregator.addOrderProduct(registeredDateTime, "002", "카페라떼", 1, 4500);
+        aggregator.addOrderProduct(registeredDateTime, "003", "크루아상", 2, 3500);
+        aggregator.addOrderProduct(registeredDateTime, "002", "카페라떼", 2, 4500);
+
+        //when
+        int[] topByQuantity = aggregator.topByQuantity(2);
+        int[] topByAmount = aggregator.topByAmount(10);
+
+        //then
+        assertThat(productNumbersOf(aggregator, topByQuantity))
+                .containsExactly("001", "002");
+        assertThat(productNumbersOf(aggregator, topByAmount))
+                .containsExactly("002", "001", "003");
+        assertThat(aggregator.getProductAmount(topByAmount[0])).isEqualTo(13500L);
+        assertThat(aggregator.getTotalAmount()).isEqualTo(32500L);
+    }
+
+    @DisplayName("판매 수량이 같으면 상품번호 순서로 고른다.")
+    @Test
+    void topWithSameQuantity() {
+        //given
+        SalesAggregator aggregator = new SalesAggregator(START_DATE, START_DATE);
+        LocalDateTime registeredDateTime = START_DATE.atTime(10, 0);
+        aggregator.addOrderProduct(registeredDateTime, "003", "크루아상", 1, 3500);
+        aggregator.addOrderProduct(registeredDateTime, "001", "아메리카노", 1, 4000);
+        aggregator.addOrderProduct(registeredDateTime, "002", "카페라떼", 1, 4500);
+
+        //when
+        int[] topByQuantity = aggregator.topByQuantity(3);
+
+        //then
+        assertThat(productNumbersOf(aggregator, topByQuantity))
+                .containsExactly("001", "002", "003");
+    }
+
+    @DisplayName("주문 상품 줄은 주문 id 가 바뀔 때 주문 수를 세고, 상품이 없는 주문도 주문 수에 넣는다.")
+    @Test
+    void addOrderLine() {
+        //given
+        SalesAggregator aggregator = new SalesAggregator(START_DATE, START_DATE);
+        LocalDateTime registeredDateTime = START_DATE.atTime(10, 0);
+
+        //when
+        aggregator.addOrderLine(1L, registeredDateTime, "001", "아메리카노", 2, 4000);
+        aggregator.addOrderLine(1L, registeredDateTime, "002", "카페라떼", 1, 4500);
+        aggregator.addOrderLine(2L, registeredDateTime, "001", "아메리카노", 1, 4000);
+        aggregator.addOrderLine(3L, registeredDateTime, null, null, 0, 0);
+
+        //then
+        assertThat(aggregator.getOrderCount()).isEqualTo(3);
+        assertThat(aggregator.getItemCount()).isEqualTo(4);
+        assertThat(aggregator.getTotalAmount()).isEqualTo(16500);
+        assertThat(aggregator.getProductCount()).isEqualTo(2);
+    }
+
+    @DisplayName("주문은 시간대별, 일자별로 세고 주문 상품 수량은 일자별로 더한다.")
+    @Test
+    void hourlyAndDaily() {
+        //given
+        SalesAggregator aggregator = new SalesAggregator(START_DATE, START_DATE.plusDays(1));
+
+        //when
+        aggregator.addOrder(START_DATE.atTime(10, 0));
+        aggregator.addOrder(START_DATE.atTime(10, 59));
+        aggregator.addOrder(START_DATE.plusDays(1).atTime(21, 0));
+        aggregator.addOrderProduct(START_DATE.atTime(10, 0), "001", "아메리카노", 2, 4000);
+        aggregator.addOrderProduct(START_DATE.atTime(10, 59), "001", "아메리카노", 1, 4000);
+        aggregator.addOrderProduct(START_DATE.plusDays(1).atTime(21, 0), "002", "카페라떼", 4, 4500);
+
+        //then
+        assertThat(aggregator.getHourlyOrderCount(10)).isEqualTo(2);
+        assertThat(aggregator.getHourlyOrderCount(21)).isEqualTo(1);
+        assertThat(aggregator.getDailyOrderCount(0)).isEqualTo(2);
+        assertThat(aggregator.getDailyItemCount(0)).isEqualTo(3);
+        assertThat(aggregator.getDailyOrderCount(1)).isEqualTo(1);
+        assertThat(aggregator.getDailyItemCount(1)).isEqualTo(4);
+        assertThat(aggregator.getOrderCount()).isEqualTo(3);
+        assertThat(aggregator.getItemCount()).isEqualTo(7);
+    }
+
+    @DisplayName("상품 종류가 처음 크기보다 많아져도 모두 누적된다.")
+    @Test
+    void manyProducts() {
+        //given
+        SalesAggregator aggregator = new SalesAggregator(START_DATE, START_DATE);
+        LocalDateTime registeredDateTime = START_DATE.atTime(10, 0);
+
+        //when
+        for (int i = 1; i <= 200; i++) {
+            aggregator.addOrderProduct(registeredDateTime, String.format("%03d", i), "메뉴 " + i, i, 1000);
+        }
+
+        //then
+        assertThat(aggregator.getProductCount()).isEqualTo(200);
+        assertThat(productNumbersOf(aggregator, aggregator.topByQuantity(1)))
+                .containsExactly("200");
+    }
+
+    private static List<String> productNumbersOf(SalesAggregator aggregator, int[] productIndexes) {
+        return Arrays.stream(productIndexes)
+                .mapToObj(aggregator::getProductNumber)
+                .toList();
+    }
+}
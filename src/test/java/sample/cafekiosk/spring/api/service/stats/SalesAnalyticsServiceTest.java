@@ -0,0 +1,117 @@
+package sample.cafekiosk.spring.api.service.stats;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import sample.cafekiosk.spring.IntegrationTestSupport;
+import sample.cafekiosk.spring.api.service.stats.response.SalesStatsResponse;
+import sample.cafekiosk.spring.domain.order.Order;
+import sample.cafekiosk.spring.domain.order.OrderRepository;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+import sample.cafekiosk.spring.domain.orderProduct.OrderProductRepository;
+import sample.cafekiosk.spring.domain.product.Product;
+import sample.cafekiosk.spring.domain.product.ProductRepository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static sample.cafekiosk.spring.domain.product.ProductSellingStatus.SELLING;
+import static sample.cafekiosk.spring.domain.product.ProductType.HANDMADE;
+
+class SalesAnalyticsServiceTest extends IntegrationTestSupport {
+
+    @Autowired
+    private SalesAnalyticsService salesAnalyticsService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderProductRepository orderProductRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @AfterEach
+    void tearDown() {
+        orderProductRepository.deleteAllInBatch();
+        orderRepository.deleteAllInBatch();
+        productRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("기간 안의 주문으로 상품별 상위 N, 시간대별 주문 수, 일자별 평균 주문 상품 수를 계산한다.")
+    @Test
+    void getSalesStats() {
+        //given
+        Product americano = createProduct("001", "아메리카노", 4000);
+        Product latte = createProduct("002", "카페라떼", 4500);
+        productRepository.saveAll(List.of(americano, latte));
+
+        LocalDateTime registeredDateTime = LocalDateTime.of(2023, 3, 5, 10, 0);
+        orderRepository.saveAll(List.of(
+                createOrder(List.of(americano, americano, americano), OrderStatus.PAYMENT_COMPLETED, registeredDateTime),
+                createOrder(List.of(latte), OrderStatus.PAYMENT_COMPLETED, registeredDateTime.plusMinutes(30)),
+                createOrder(List.of(latte, latte), OrderStatus.PAYMENT_COMPLETED, registeredDateTime.plusDays(1).plusHours(5)),
+                createOrder(List.of(americano), OrderStatus.INIT, registeredDateTime),
+                createOrder(List.of(americano), OrderStatus.PAYMENT_COMPLETED, registeredDateTime.plusDays(2))
+        ));
+
+        //when
+        SalesStatsResponse response = salesAnalyticsService.getSalesStats(LocalDate.of(2023, 3, 5), LocalDate.of(2023, 3, 6),
+                OrderStatus.PAYMENT_COMPLETED, 1);
+
+        //then
+        assertThat(response)
+                .extracting("orderCount", "itemCount", "totalAmount")
+                .contains(3L, 6L, 25500L);
+        assertThat(response.getTopProductsByQuantity())
+                .extracting("productNumber", "productName", "quantity", "amount")
+                .containsExactly(tuple("001", "아메리카노", 3L, 12000L));
+        assertThat(response.getTopProductsByAmount())
+                .extracting("productNumber", "productName", "quantity", "amount")
+                .containsExactly(tuple("002", "카페라떼", 3L, 13500L));
+        assertThat(response.getHourlyOrderCounts()).hasSize(24)
+                .filteredOn(hourly -> hourly.getOrderCount() > 0)
+                .extracting("hour", "orderCount")
+                .containsExactly(tuple(10, 2L), tuple(15, 1L));
+        assertThat(response.getDailyBasketSizes())
+                .extracting("salesDate", "orderCount", "itemCount", "averageBasketSize")
+                .containsExactly(
+                        tuple(LocalDate.of(2023, 3, 5), 2L, 4L, 2.0),
+                        tuple(LocalDate.of(2023, 3, 6), 1L, 2L, 2.0)
+                );
+    }
+
+    @DisplayName("상위 상품 수가 범위를 벗어나면 예외가 발생한다.")
+    @Test
+    void getSalesStatsWithInvalidTopN() {
+        //when, then
+        assertThatThrownBy(() -> salesAnalyticsService.getSalesStats(LocalDate.of(2023, 3, 5), LocalDate.of(2023, 3, 6),
+                OrderStatus.PAYMENT_COMPLETED, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("상위 상품 수는 1 이상 100 이하여야 합니다.");
+    }
+
+    private static Order createOrder(List<Product> products, OrderStatus orderStatus, LocalDateTime registeredDateTime) {
+        return Order.builder()
+                .products(products)
+                .orderStatus(orderStatus)
+                .registeredDateTime(registeredDateTime)
+                .build();
+    }
+
+    private Product createProduct(String productNumber, String name, int price) {
+        return Product.builder()
+                .type(HANDMADE)
+                .productNumber(productNumber)
+                .price(price)
+                .sellingStatus(SELLING)
+                .name(name)
+                .build();
+    }
+}
@@ -0,0 +1,168 @@
+package sample.cafekiosk.spring.api.service.stock;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import sample.cafekiosk.spring.IntegrationTestSupport;
+import sample.cafekiosk.spring.domain.stock.Stock;
+import sample.cafekiosk.spring.domain.stock.StockRepository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+class InMemoryStockDeductionStrategyTest extends IntegrationTestSupport {
+
+    @Autowired
+    private InMemoryStockDeductionStrategy inMemoryStockDeductionStrategy;
+
+    @Autowired
+    private StockRepository stockRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        inMemoryStockDeductionStrategy.evictAll();
+        stockRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("여러 스레드가 동시에 여러 상품을 주문해도 재고보다 많이 판매되지 않고, 주문 단위로 모두 차감되거나 모두 차감되지 않는다.")
+    @Test
+    void deductConcurrently() throws InterruptedException {
+        //given
+        stockRepository.saveAll(List.of(Stock.create("001", 100), Stock.create("002", 50)));
+
+        int threadCount = 32;
+        int orderCountPerThread = 50;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch doneLatch = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger failCount = new AtomicInteger();
+
+        //when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    startLatch.await();
+                    for (int j = 0; j < orderCountPerThread; j++) {
+                        try {
+                            inMemoryStockDeductionStrategy.deduct(Map.of("001", 1L, "002", 1L));
+                            successCount.incrementAndGet();
+                        } catch (IllegalArgumentException e) {
+                            failCount.incrementAndGet();
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    doneLatch.countDown();
+                }
+            });
+        }
+        startLatch.countDown();
+        doneLatch.await();
+        executorService.shutdown();
+        inMemoryStockDeductionStrategy.flush();
+
+        //then
+        assertThat(successCount.get()).isEqualTo(50);
+        assertThat(failCount.get()).isEqualTo(threadCount * orderCountPerThread - 50);
+        assertThat(inMemoryStockDeductionStrategy.getQuantity("001")).isEqualTo(50);
+        assertThat(inMemoryStockDeductionStrategy.getQuantity("002")).isZero();
+
+        assertThat(stockRepository.findAll()).hasSize(2)
+                .extracting("productNumber", "quantity")
+                .containsExactlyInAnyOrder(
+                        tuple("001", 50),
+                        tuple("002", 0)
+                );
+    }
+
+    @DisplayName("재고가 부족한 상품이 하나라도 있으면 예외가 발생하고 다른 상품의 재고도 차감되지 않는다.")
+    @Test
+    void deductWithNoStock() {
+        //given
+        stockRepository.saveAll(List.of(Stock.create("001", 2), Stock.create("002", 1)));
+
+        //when, then
+        assertThatThrownBy(() -> inMemoryStockDeductionStrategy.deduct(Map.of("001", 1L, "002", 2L)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("재고가 부족한 상품이 있습니다.");
+        assertThat(inMemoryStockDeductionStrategy.getQuantity("001")).isEqualTo(2);
+        assertThat(inMemoryStockDeductionStrategy.getQuantity("002")).isEqualTo(1);
+    }
+
+    @DisplayName("주문 트랜잭션이 롤백되면 차감했던 재고를 되돌린다.")
+    @Test
+    void releaseWhenRollback() {
+        //given
+        stockRepository.saveAll(List.of(Stock.create("001", 2)));
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        //when
+        transactionTemplate.executeWithoutResult(status -> {
+            inMemoryStockDeductionStrategy.deduct(Map.of("001", 2L));
+            status.setRollbackOnly();
+        });
+
+        //then
+        assertThat(inMemoryStockDeductionStrategy.getQuantity("001")).isEqualTo(2);
+    }
+
+    @DisplayName("주문 트랜잭션이 끝나기 전에 flush 가 실행되어도, 롤백된 주문의 차감은 stock 테이블에 반영되지 않는다.")
+    @Test
+    void flushBeforeRollback() {
+        //given
+        stockRepository.saveAll(List.of(Stock.create("001", 2)));
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        //when
+        transactionTemplate.executeWithoutResult(status -> {
+            inMemoryStockDeductionStrategy.deduct(Map.of("001", 2L));
+            inMemoryStockDeductionStrategy.flush();
+            status.setRollbackOnly();
+        });
+        inMemoryStockDeductionStrategy.flush();
+
+        //then
+        assertThat(inMemoryStockDeductionStrategy.getQuantity("001")).isEqualTo(2);
+        assertThat(inMemoryStockDeductionStrategy.getCommittedQuantity("001")).isEqualTo(2);
+        assertThat(stockRepository.findAll()).hasSize(1)
+                .extracting("productNumber", "quantity")
+                .containsExactly(tuple("001", 2));
+    }
+
+    @DisplayName("커밋된 주문의 차감만 flush 때 stock 테이블에 반영된다.")
+    @Test
+    void flushAfterCommit() {
+        //given
+        stockRepository.saveAll(List.of(Stock.create("001", 5)));
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        //when
+        transactionTemplate.executeWithoutResult(status -> {
+            inMemoryStockDeductionStrategy.deduct(Map.of("001", 2L));
+            assertThat(inMemoryStockDeductionStrategy.getQuantity("001")).isEqualTo(3);
+            assertThat(inMemoryStockDeductionStrategy.getCommittedQuantity("001")).isEqualTo(5);
+        });
+        inMemoryStockDeductionStrategy.flush();
+
+        //then
+        assertThat(stockRepository.findAll()).hasSize(1)
+                .extracting("productNumber", "quantity")
+                .containsExactly(tuple("001", 3));
+    }
+}
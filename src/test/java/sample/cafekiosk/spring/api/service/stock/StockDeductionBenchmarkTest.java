@@ -0,0 +1,139 @@
+package sample.cafekiosk.spring.api.service.stock;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import sample.cafekiosk.spring.IntegrationTestSupport;
+import sample.cafekiosk.spring.domain.stock.Stock;
+import sample.cafekiosk.spring.domain.stock.StockRepository;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+재고 차감 방식별 경합 벤치마크. 기본 test 태스크에서는 제외되고 ./gradlew stockDeductionBenchmark 로 실행한다.
+모든 스레드가 같은 두 상품을 동시에 주문하며, 재고보다 주문이 많아서 후반부에는 품절로 인한 실패도 섞인다.
+ */
+@Tag("benchmark")
+class StockDeductionBenchmarkTest extends IntegrationTestSupport {
+
+    private static final Logger log = LoggerFactory.getLogger(StockDeductionBenchmarkTest.class);
+
+    private static final int THREAD_COUNT = 16;
+    private static final int ORDER_COUNT_PER_THREAD = 200;
+    private static final int INITIAL_QUANTITY = 2_000;
+    private static final Map<String, Long> ORDER = Map.of("001", 1L, "002", 1L);
+
+    @Autowired
+    private StockDeductionStrategies stockDeductionStrategies;
+
+    @Autowired
+    private InMemoryStockDeductionStrategy inMemoryStockDeductionStrategy;
+
+    @Autowired
+    private OptimisticStockDeductionStrategy optimisticStockDeductionStrategy;
+
+    @Autowired
+    private StockRepository stockRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        inMemoryStockDeductionStrategy.evictAll();
+        stockRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("재고 차감 방식별로 경합 상황의 처리량, p99 지연시간, 재시도/실패 비율을 측정한다.")
+    @EnumSource(StockDeductionMode.class)
+    @ParameterizedTest
+    void benchmark(StockDeductionMode mode) throws InterruptedException {
+        //given
+        stockRepository.saveAll(List.of(Stock.create("001", INITIAL_QUANTITY), Stock.create("002", INITIAL_QUANTITY)));
+        inMemoryStockDeductionStrategy.evictAll();
+
+        StockDeductionStrategy strategy = stockDeductionStrategies.get(mode);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        long retryCountBefore = optimisticStockDeductionStrategy.getRetryCount();
+
+        long[][] latencies = new long[THREAD_COUNT][ORDER_COUNT_PER_THREAD];
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger soldOutCount = new AtomicInteger();
+        AtomicInteger abortCount = new AtomicInteger();
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch doneLatch = new CountDownLatch(THREAD_COUNT);
+
+        //when
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            long[] threadLatencies = latencies[i];
+            executorService.submit(() -> {
+                try {
+                    startLatch.await();
+                    for (int j = 0; j < ORDER_COUNT_PER_THREAD; j++) {
+                        long startedAt = System.nanoTime();
+                        try {
+                            transactionTemplate.executeWithoutResult(status -> strategy.deduct(ORDER));
+                            successCount.incrementAndGet();
+                        } catch (IllegalArgumentException e) {
+                            soldOutCount.incrementAndGet();
+                        } catch (RuntimeException e) {
+                            abortCount.incrementAndGet();
+                        }
+                        threadLatencies[j] = System.nanoTime() - startedAt;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    doneLatch.countDown();
+                }
+            });
+        }
+        long startedAt = System.nanoTime();
+        startLatch.countDown();
+        doneLatch.await();
+        long elapsedNanos = System.nanoTime() - startedAt;
+        executorService.shutdown();
+        inMemoryStockDeductionStrategy.flush();
+
+        //then
+        int totalCount = THREAD_COUNT * ORDER_COUNT_PER_THREAD;
+        long[] sortedLatencies = Arrays.stream(latencies).flatMapToLong(Arrays::stream).sorted().toArray();
+        long p99Nanos = sortedLatencies[(int) Math.ceil(totalCount * 0.99) - 1];
+        long retryCount = optimisticStockDeductionStrategy.getRetryCount() - retryCountBefore;
+
+        log.info(String.format("%-14s throughput=%8.1f orders/s, p99=%7.2f ms, success=%d, soldOut=%d, abortRate=%.2f%%, retryRate=%.2f%%",
+                mode,
+                totalCount / (elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1)),
+                p99Nanos / (double) TimeUnit.MILLISECONDS.toNanos(1),
+                successCount.get(),
+                soldOutCount.get(),
+                abortCount.get() * 100.0 / totalCount,
+                retryCount * 100.0 / totalCount));
+
+        // 모든 주문은 성공 / 품절(optimistic 재시도 소진 포함) / 충돌 중 하나로 끝나야 한다.
+        assertThat(successCount.get() + soldOutCount.get() + abortCount.get()).isEqualTo(totalCount);
+
+        // 어떤 방식이든 성공한 주문 수만큼만 차감되어야 한다. (초과 판매 없음)
+        assertThat(successCount.get()).isLessThanOrEqualTo(INITIAL_QUANTITY);
+        assertThat(stockRepository.findAll()).hasSize(2)
+                .extracting("quantity")
+                .containsOnly(INITIAL_QUANTITY - successCount.get());
+    }
+}
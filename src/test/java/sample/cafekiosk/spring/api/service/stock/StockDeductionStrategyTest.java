@@ -0,0 +1,145 @@
+package sample.cafekiosk.spring.api.service.stock;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import sample.cafekiosk.spring.IntegrationTestSupport;
+import sample.cafekiosk.spring.domain.stock.Stock;
+import sample.cafekiosk.spring.domain.stock.StockRepository;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+class StockDeductionStrategyTest extends IntegrationTestSupport {
+
+    @Autowired
+    private StockDeductionStrategies stockDeductionStrategies;
+
+    @Autowired
+    private InMemoryStockDeductionStrategy inMemoryStockDeductionStrategy;
+
+    @Autowired
+    private StockRepository stockRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        inMemoryStockDeductionStrategy.evictAll();
+        stockRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("재고 차감 방식과 관계없이 주문한 수량만큼 재고가 차감된다.")
+    @EnumSource(StockDeductionMode.class)
+    @ParameterizedTest
+    void deduct(StockDeductionMode mode) {
+        //given
+        stockRepository.saveAll(List.of(Stock.create("001", 2), Stock.create("002", 2)));
+        StockDeductionStrategy strategy = stockDeductionStrategies.get(mode);
+
+        //when
+        new TransactionTemplate(transactionManager)
+                .executeWithoutResult(status -> strategy.deduct(Map.of("001", 2L, "002", 1L)));
+        inMemoryStockDeductionStrategy.flush();
+
+        //then
+        assertThat(stockRepository.findAll()).hasSize(2)
+                .extracting("productNumber", "quantity")
+                .containsExactlyInAnyOrder(
+                        tuple("001", 0),
+                        tuple("002", 1)
+                );
+    }
+
+    @DisplayName("재고 차감 방식과 관계없이 재고가 부족한 상품이 있으면 예외가 발생하고 주문의 어떤 재고도 차감되지 않는다.")
+    @EnumSource(StockDeductionMode.class)
+    @ParameterizedTest
+    void deductWithNoStock(StockDeductionMode mode) {
+        //given
+        stockRepository.saveAll(List.of(Stock.create("001", 2), Stock.create("002", 1)));
+        StockDeductionStrategy strategy = stockDeductionStrategies.get(mode);
+
+        //when, then
+        assertThatThrownBy(() -> new TransactionTemplate(transactionManager)
+                .executeWithoutResult(status -> strategy.deduct(Map.of("001", 1L, "002", 2L))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("재고가 부족한 상품이 있습니다.");
+        inMemoryStockDeductionStrategy.flush();
+
+        assertThat(stockRepository.findAll()).hasSize(2)
+                .extracting("productNumber", "quantity")
+                .containsExactlyInAnyOrder(
+                        tuple("001", 2),
+                        tuple("002", 1)
+                );
+    }
+
+    @DisplayName("재고 차감 방식과 관계없이 주문 트랜잭션이 롤백되면 차감한 재고가 남지 않는다.")
+    @EnumSource(StockDeductionMode.class)
+    @ParameterizedTest
+    void deductThenRollback(StockDeductionMode mode) {
+        //given
+        stockRepository.saveAll(List.of(Stock.create("001", 2), Stock.create("002", 2)));
+        StockDeductionStrategy strategy = stockDeductionStrategies.get(mode);
+
+        //when
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            strategy.deduct(Map.of("001", 2L, "002", 1L));
+            status.setRollbackOnly();
+        });
+        inMemoryStockDeductionStrategy.flush();
+
+        //then
+        assertThat(stockRepository.findAll()).hasSize(2)
+                .extracting("productNumber", "quantity")
+                .containsExactlyInAnyOrder(
+                        tuple("001", 2),
+                        tuple("002", 2)
+                );
+    }
+
+    @DisplayName("builder 로 만든 재고도 버전이 0 부터 시작해서 optimistic 방식으로 차감할 수 있다.")
+    @Test
+    void deductOptimisticFromNewStock() {
+        //given
+        Stock stock = stockRepository.save(Stock.builder().productNumber("001").quantity(3).build());
+        StockDeductionStrategy strategy = stockDeductionStrategies.get(StockDeductionMode.OPTIMISTIC);
+
+        //when
+        new TransactionTemplate(transactionManager)
+                .executeWithoutResult(status -> strategy.deduct(Map.of("001", 1L)));
+
+        //then
+        assertThat(stock.getVersion()).isZero();
+        assertThat(stockRepository.findAll()).hasSize(1)
+                .extracting("quantity", "version")
+                .containsExactly(tuple(2, 1L));
+    }
+
+    @DisplayName("optimistic 방식에서 재시도를 다 쓰면 재고 부족과 같이 IllegalArgumentException 이 발생하고 재고는 그대로다.")
+    @Test
+    void deductOptimisticWithoutAttemptsLeft() {
+        //given
+        stockRepository.save(Stock.create("001", 3));
+        OptimisticStockDeductionStrategy strategy = new OptimisticStockDeductionStrategy(stockRepository, 0);
+
+        //when //then
+        assertThatThrownBy(() -> new TransactionTemplate(transactionManager)
+                .executeWithoutResult(status -> strategy.deduct(Map.of("001", 1L))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("재고 차감 중 충돌이 반복되어 주문을 처리하지 못했습니다.");
+        assertThat(stockRepository.findAll()).hasSize(1)
+                .extracting("quantity")
+                .containsExactly(3);
+    }
+}
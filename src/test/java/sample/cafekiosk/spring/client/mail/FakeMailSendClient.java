@@ -0,0 +1,47 @@
+package sample.cafekiosk.spring.client.mail;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 실제 메일 서버 대신 보낸 메일을 메모리에 쌓아두는 테스트용 클라이언트
+public class FakeMailSendClient extends MailSendClient {
+
+    private final List<SentMail> sentMails = new CopyOnWriteArrayList<>();
+    private final AtomicInteger remainingFailures = new AtomicInteger();
+    private volatile boolean failAfterSend;
+
+    @Override
+    public boolean sendEmail(String fromEmail, String toEmail, String subject, String content) {
+        if (remainingFailures.getAndUpdate(count -> Math.max(count - 1, 0)) > 0) {
+            throw new IllegalStateException("메일 서버에 연결할 수 없습니다.");
+        }
+
+        sentMails.add(new SentMail(fromEmail, toEmail, subject, content));
+        return true;
+    }
+
+    @Override
+    public void a() {
+        if (failAfterSend) {
+            throw new IllegalStateException("후속 처리에 실패했습니다.");
+        }
+    }
+
+    // 전송은 성공하고 그 뒤의 후속 처리(a)를 실패시킨다.
+    public void failAfterSend() {
+        failAfterSend = true;
+    }
+
+    // 다음 count 번의 전송을 실패시킨다.
+    public void failNext(int count) {
+        remainingFailures.set(count);
+    }
+
+    public List<SentMail> getSentMails() {
+        return List.copyOf(sentMails);
+    }
+
+    public record SentMail(String fromEmail, String toEmail, String subject, String content) {
+    }
+}
@@ -0,0 +1,215 @@
+package sample.cafekiosk.spring.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import sample.cafekiosk.spring.IntegrationTestSupport;
+import sample.cafekiosk.spring.api.controller.product.dto.request.ProductCreateRequest;
+import sample.cafekiosk.spring.api.service.ProductService;
+import sample.cafekiosk.spring.api.service.order.OrderService;
+import sample.cafekiosk.spring.api.service.order.request.OrderCreateRequest;
+import sample.cafekiosk.spring.api.service.product.ProductIndex;
+import sample.cafekiosk.spring.api.service.product.response.ProductResponse;
+import sample.cafekiosk.spring.api.service.stock.StockDeductionMode;
+import sample.cafekiosk.spring.api.service.stock.StockDeductionStrategies;
+import sample.cafekiosk.spring.domain.order.OrderRepository;
+import sample.cafekiosk.spring.domain.orderProduct.OrderProductRepository;
+import sample.cafekiosk.spring.domain.product.Product;
+import sample.cafekiosk.spring.domain.product.ProductNumberAllocator;
+import sample.cafekiosk.spring.domain.product.ProductRepository;
+import sample.cafekiosk.spring.domain.sales.DailyProductSalesRepository;
+import sample.cafekiosk.spring.domain.sales.DailySalesRepository;
+import sample.cafekiosk.spring.domain.stock.Stock;
+import sample.cafekiosk.spring.domain.stock.StockRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static sample.cafekiosk.spring.domain.product.ProductSellingStatus.SELLING;
+import static sample.cafekiosk.spring.domain.product.ProductSellingStatus.STOP_SELLING;
+import static sample.cafekiosk.spring.domain.product.ProductType.HANDMADE;
+
+class SecondLevelCacheTest extends IntegrationTestSupport {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductIndex productIndex;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderProductRepository orderProductRepository;
+
+    @Autowired
+    private DailySalesRepository dailySalesRepository;
+
+    @Autowired
+    private DailyProductSalesRepository dailyProductSalesRepository;
+
+    @Autowired
+    private ProductNumberAllocator productNumberAllocator;
+
+    @Autowired
+    private StockRepository stockRepository;
+
+    @Autowired
+    private StockDeductionStrategies stockDeductionStrategies;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderProductRepository.deleteAllInBatch();
+        orderRepository.deleteAllInBatch();
+        dailySalesRepository.deleteAllInBatch();
+        dailyProductSalesRepository.deleteAllInBatch();
+        productRepository.deleteAllInBatch();
+        productIndex.clear();
+        productNumberAllocator.reset();
+        stockRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("한 번 읽은 상품은 다음 트랜잭션에서 DB 를 조회하지 않고 2차 캐시에서 읽는다.")
+    @Test
+    void findProductFromSecondLevelCache() {
+        //given
+        Product product = productRepository.save(createProduct("001", "아메리카노"));
+        productRepository.findById(product.getId());
+        statistics.clear();
+
+        //when
+        Product found = productRepository.findById(product.getId()).orElseThrow();
+
+        //then
+        assertThat(found.getName()).isEqualTo("아메리카노");
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getDomainDataRegionStatistics("product").getHitCount()).isEqualTo(1);
+        assertThat(meterRegistry.find("cache.gets")
+                .tags("cache", "product", "cacheManager", "hibernate", "result", "hit")
+                .functionCounter()).isNotNull();
+    }
+
+    @DisplayName("주문을 만들어도(일자별 매출 집계 upsert 포함) 상품 2차 캐시와 판매 상품 쿼리 캐시는 비워지지 않는다.")
+    @Test
+    void productCacheAfterCreateOrder() {
+        //given
+        Product product = productRepository.save(createProduct("001", "아메리카노"));
+        productRepository.findById(product.getId());
+        productRepository.findAllBySellingStatusIn(List.of(SELLING));
+
+        //when
+        orderService.createOrder(OrderCreateRequest.builder()
+                .productNumbers(List.of("001"))
+                .build(), LocalDateTime.now());
+        statistics.clear();
+        Product found = productRepository.findById(product.getId()).orElseThrow();
+        long productHitCount = statistics.getDomainDataRegionStatistics("product").getHitCount();
+        List<Product> sellingProducts = productRepository.findAllBySellingStatusIn(List.of(SELLING));
+
+        //then
+        assertThat(found.getName()).isEqualTo("아메리카노");
+        assertThat(productHitCount).isEqualTo(1);
+        assertThat(sellingProducts).hasSize(1);
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(dailySalesRepository.findAll()).hasSize(1);
+    }
+
+    @DisplayName("상품을 등록하거나 판매 상태를 바꾸면 쿼리 캐시에 있던 판매 상품 목록에도 바로 반영된다.")
+    @Test
+    void queryCacheAfterCreateProduct() {
+        //given
+        productRepository.save(createProduct("001", "아메리카노"));
+        productRepository.findAllBySellingStatusIn(List.of(SELLING));
+        statistics.clear();
+        assertThat(productRepository.findAllBySellingStatusIn(List.of(SELLING))).hasSize(1);
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+
+        //when
+        ProductResponse created = productService.createProduct(ProductCreateRequest.builder()
+                .type(HANDMADE)
+                .sellingStatus(SELLING)
+                .name("카푸치노")
+                .price(5000)
+                .build());
+        List<Product> afterCreate = productRepository.findAllBySellingStatusIn(List.of(SELLING));
+
+        productService.changeSellingStatus("001", STOP_SELLING);
+        List<Product> afterChange = productRepository.findAllBySellingStatusIn(List.of(SELLING));
+
+        //then
+        assertThat(afterCreate).extracting("productNumber")
+                .containsExactlyInAnyOrder("001", created.getProductNumber());
+        assertThat(afterChange).extracting("productNumber")
+                .containsExactly(created.getProductNumber());
+        assertThat(productRepository.findByProductNumber("001").orElseThrow().getSellingStatus()).isEqualTo(STOP_SELLING);
+    }
+
+    @DisplayName("재고를 차감하면 변경 감지로 바꾸든 UPDATE 쿼리로 바꾸든 2차 캐시에서 읽은 재고에 바로 반영된다.")
+    @Test
+    void stockAfterDeduction() {
+        //given
+        Stock stock = stockRepository.save(Stock.create("001", 10));
+        stockRepository.findById(stock.getId());
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        //when
+        transactionTemplate.executeWithoutResult(status ->
+                stockDeductionStrategies.get(StockDeductionMode.DIRTY_CHECKING).deduct(Map.of("001", 2L)));
+        int afterDirtyChecking = stockRepository.findById(stock.getId()).orElseThrow().getQuantity();
+
+        transactionTemplate.executeWithoutResult(status ->
+                stockDeductionStrategies.get(StockDeductionMode.ATOMIC_SQL).deduct(Map.of("001", 3L)));
+        int afterAtomicSql = stockRepository.findById(stock.getId()).orElseThrow().getQuantity();
+
+        //then
+        assertThat(afterDirtyChecking).isEqualTo(8);
+        assertThat(afterAtomicSql).isEqualTo(5);
+        assertThat(stockRepository.findAll()).extracting("productNumber", "quantity")
+                .containsExactly(tuple("001", 5));
+    }
+
+    private Product createProduct(String productNumber, String name) {
+        return Product.builder()
+                .productNumber(productNumber)
+                .type(HANDMADE)
+                .sellingStatus(SELLING)
+                .name(name)
+                .price(4000)
+                .build();
+    }
+}
@@ -0,0 +1,27 @@
+package sample.cafekiosk.spring.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class VirtualThreadConfigTest {
+
+    @DisplayName("Java 21 미만에서 virtual 프로필을 켜면 시작할 때 예외가 발생한다.")
+    @Test
+    void checkJavaVersionBelow21() {
+        //when //then
+        assertThatThrownBy(() -> VirtualThreadConfig.checkJavaVersion(17))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("virtual 프로필은 Java 21 이상에서만 사용할 수 있습니다. -PjavaVersion=21 로 실행하세요. javaVersion=17");
+    }
+
+    @DisplayName("Java 21 이상이면 virtual 프로필로 시작할 수 있다.")
+    @Test
+    void checkJavaVersion21() {
+        //when //then
+        assertThatCode(() -> VirtualThreadConfig.checkJavaVersion(21))
+                .doesNotThrowAnyException();
+    }
+}
@@ -0,0 +1,135 @@
+package sample.cafekiosk.spring.domain.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SnowflakeIdGeneratorTest {
+
+    private static final long FIXED_TIME = SnowflakeIdGenerator.EPOCH + 1_000L;
+
+    @DisplayName("같은 ms 안에서 발급한 ID 도 발급 순서대로 증가한다.")
+    @Test
+    void nextIdIsTimeOrdered() {
+        //given
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, () -> FIXED_TIME);
+
+        //when
+        long first = generator.nextId();
+        long second = generator.nextId();
+
+        //then
+        assertThat(second).isGreaterThan(first);
+        assertThat(SnowflakeIdGenerator.extractEpochMillis(first)).isEqualTo(FIXED_TIME);
+        assertThat(SnowflakeIdGenerator.extractNodeId(first)).isEqualTo(1);
+    }
+
+    @DisplayName("한 ms 의 sequence 를 모두 사용하면 시계가 다음 ms 로 넘어갈 때까지 기다렸다가 발급한다.")
+    @Test
+    void nextIdWhenSequenceExhausted() {
+        //given
+        AtomicLong calls = new AtomicLong();
+        long[] lastRead = new long[1];
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, () -> {
+            lastRead[0] = FIXED_TIME + calls.getAndIncrement() / 5_000;
+            return lastRead[0];
+        });
+        long previous = generator.nextId();
+
+        //when, then
+        for (int i = 0; i < 10_000; i++) {
+            long current = generator.nextId();
+            assertThat(current).isGreaterThan(previous);
+            assertThat(SnowflakeIdGenerator.extractEpochMillis(current)).isLessThanOrEqualTo(lastRead[0]);
+            previous = current;
+        }
+    }
+
+    @DisplayName("시계가 조금 뒤로 가면 따라잡을 때까지 기다렸다가 이전보다 큰 ID 를 발급한다.")
+    @Test
+    void nextIdWhenClockMovesBackwardsSlightly() {
+        //given
+        AtomicLong calls = new AtomicLong();
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, () -> {
+            long call = calls.getAndIncrement();
+            if (call == 0) {
+                return FIXED_TIME;
+            }
+            return call < 5 ? FIXED_TIME - 2 : FIXED_TIME + 1;
+        });
+        long before = generator.nextId();
+
+        //when
+        long after = generator.nextId();
+
+        //then
+        assertThat(after).isGreaterThan(before);
+        assertThat(SnowflakeIdGenerator.extractEpochMillis(after)).isEqualTo(FIXED_TIME + 1);
+    }
+
+    @DisplayName("시계가 허용 범위보다 크게 뒤로 가면 ID 를 발급하지 않고 예외가 발생한다.")
+    @Test
+    void nextIdWhenClockMovesBackwards() {
+        //given
+        long[] now = {FIXED_TIME};
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, () -> now[0]);
+        generator.nextId();
+
+        //when
+        now[0] = FIXED_TIME - 500;
+
+        //then
+        assertThatThrownBy(generator::nextId)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("시계가 뒤로 이동해서 ID 를 발급할 수 없습니다. behindMillis=500");
+    }
+
+    @DisplayName("여러 노드가 여러 스레드에서 동시에 발급해도 ID 가 겹치지 않는다.")
+    @Test
+    void nextIdConcurrentlyOnSeveralNodes() throws InterruptedException {
+        //given
+        int nodeCount = 4;
+        int threadCountPerNode = 4;
+        int idCountPerThread = 10_000;
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executorService = Executors.newFixedThreadPool(nodeCount * threadCountPerNode);
+        CountDownLatch latch = new CountDownLatch(nodeCount * threadCountPerNode);
+
+        //when
+        for (int node = 0; node < nodeCount; node++) {
+            SnowflakeIdGenerator generator = new SnowflakeIdGenerator(node, System::currentTimeMillis);
+            for (int i = 0; i < threadCountPerNode; i++) {
+                executorService.submit(() -> {
+                    try {
+                        for (int j = 0; j < idCountPerThread; j++) {
+                            ids.add(generator.nextId());
+                        }
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+        }
+        latch.await();
+        executorService.shutdown();
+
+        //then
+        assertThat(ids).hasSize(nodeCount * threadCountPerNode * idCountPerThread);
+    }
+
+    @DisplayName("nodeId 가 10bit 범위를 벗어나면 예외가 발생한다.")
+    @Test
+    void invalidNodeId() {
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID + 1, System::currentTimeMillis))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -9,6 +9,8 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.junit.jupiter.api.Assertions.*;
 import static sample.cafekiosk.spring.domain.product.ProductSellingStatus.SELLING;
 import static sample.cafekiosk.spring.domain.product.ProductType.HANDMADE;
@@ -64,6 +66,55 @@ class OrderTest {
         assertThat(order.getRegisteredDateTime()).isEqualTo(registeredDateTime);
     }
 
+    @DisplayName("주문 생성 시 같은 상품은 수량을 합쳐 한 줄로 만들고, 주문 시점의 상품 정보를 복사해 둔다.")
+    @Test
+    void orderProducts(){
+        //given
+        Product americano = createProduct("001", 1000);
+        Product latte = createProduct("002", 2000);
+        List<Product> products = List.of(americano, latte, americano, americano);
+
+        //when
+        Order order = Order.create(products, LocalDateTime.now());
+
+        //then
+        assertThat(order.getTotalPrice()).isEqualTo(5000);
+        assertThat(order.getOrderProducts()).hasSize(2)
+                .extracting("productNumber", "productName", "unitPrice", "quantity", "amount")
+                .containsExactly(
+                        tuple("001", "메뉴 이름", 1000, 3, 3000),
+                        tuple("002", "메뉴 이름", 2000, 1, 2000)
+                );
+    }
+
+    @DisplayName("허용된 상태로는 주문 상태를 변경할 수 있다.")
+    @Test
+    void changeStatus(){
+        //given
+        Order order = Order.create(List.of(createProduct("001", 1000)), LocalDateTime.now());
+
+        //when
+        order.changeStatus(OrderStatus.PAYMENT_COMPLETED);
+        order.changeStatus(OrderStatus.RECEIVED);
+
+        //then
+        assertThat(order.getOrderStatus()).isEqualByComparingTo(OrderStatus.RECEIVED);
+    }
+
+    @DisplayName("허용되지 않은 상태로 변경하면 예외가 발생하고 주문 상태는 그대로다.")
+    @Test
+    void changeStatusWithInvalidTransition(){
+        //given
+        Order order = Order.create(List.of(createProduct("001", 1000)), LocalDateTime.now());
+        order.changeStatus(OrderStatus.CANCELED);
+
+        //when, then
+        assertThatThrownBy(() -> order.changeStatus(OrderStatus.PAYMENT_COMPLETED))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("주문 상태를 변경할 수 없습니다. CANCELED -> PAYMENT_COMPLETED");
+        assertThat(order.getOrderStatus()).isEqualByComparingTo(OrderStatus.CANCELED);
+    }
+
     private Product createProduct(String productNumber, int price){
         return Product.builder()
                 .type(HANDMADE)
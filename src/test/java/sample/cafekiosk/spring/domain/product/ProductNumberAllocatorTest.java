@@ -0,0 +1,121 @@
+package sample.cafekiosk.spring.domain.product;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import sample.cafekiosk.spring.IntegrationTestSupport;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static sample.cafekiosk.spring.domain.product.ProductSellingStatus.SELLING;
+import static sample.cafekiosk.spring.domain.product.ProductType.HANDMADE;
+
+class ProductNumberAllocatorTest extends IntegrationTestSupport {
+
+    @Autowired
+    private ProductNumberAllocator productNumberAllocator;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAllInBatch();
+        productNumberAllocator.reset();
+    }
+
+    @DisplayName("가장 큰 상품번호 다음 번호부터 차례대로 발급한다.")
+    @Test
+    void allocate() {
+        //given
+        productRepository.saveAll(List.of(createProduct("001"), createProduct("007")));
+
+        //when
+        String first = productNumberAllocator.allocate();
+        String second = productNumberAllocator.allocate();
+
+        //then
+        assertThat(first).isEqualTo("008");
+        assertThat(second).isEqualTo("009");
+    }
+
+    @DisplayName("상품이 하나도 없으면 첫 상품번호는 001 이다.")
+    @Test
+    void allocateWhenProductIsEmpty() {
+        //when
+        String productNumber = productNumberAllocator.allocate();
+
+        //then
+        assertThat(productNumber).isEqualTo("001");
+    }
+
+    @DisplayName("시퀀스가 이미 있으면 설정값이 아니라 시퀀스의 increment 만큼 예약한다.")
+    @Test
+    void allocateWithExistingSequence() {
+        //given
+        jdbcTemplate.execute("create sequence product_number_seq start with 1 increment by 10");
+
+        //when
+        String productNumber = productNumberAllocator.allocate();
+
+        //then
+        assertThat(productNumber).isEqualTo("001");
+        assertThat(jdbcTemplate.queryForObject("select next value for product_number_seq", Long.class)).isEqualTo(11L);
+    }
+
+    @DisplayName("여러 스레드가 동시에 발급받아도 상품번호가 중복되지 않는다.")
+    @Test
+    void allocateConcurrently() throws InterruptedException {
+        //given
+        int threadCount = 32;
+        int allocationCountPerThread = 50;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch doneLatch = new CountDownLatch(threadCount);
+        Set<String> productNumbers = ConcurrentHashMap.newKeySet();
+
+        //when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    startLatch.await();
+                    for (int j = 0; j < allocationCountPerThread; j++) {
+                        productNumbers.add(productNumberAllocator.allocate());
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    doneLatch.countDown();
+                }
+            });
+        }
+        startLatch.countDown();
+        doneLatch.await();
+        executorService.shutdown();
+
+        //then
+        assertThat(productNumbers).hasSize(threadCount * allocationCountPerThread)
+                .contains("001", "999", "1000", "1600");
+    }
+
+    private static Product createProduct(String productNumber) {
+        return Product.builder()
+                .productNumber(productNumber)
+                .type(HANDMADE)
+                .sellingStatus(SELLING)
+                .name("메뉴 이름")
+                .price(4000)
+                .build();
+    }
+}
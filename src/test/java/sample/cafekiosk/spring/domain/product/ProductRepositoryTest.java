@@ -89,33 +89,6 @@ class ProductRepositoryTest {
                 );
     }
 
-    @DisplayName("가장 마지막으로 저장한 상품의 상품번호를 읽어온다.")
-    @Test
-    void findLatestProductNumber(){
-        //given
-        Product product1 = createProduct("001", ProductType.HANDMADE, SELLING, "아메리카노", 4000);
-        Product product2 = createProduct("002", ProductType.HANDMADE, HOLD, "카페라떼", 4500);
-        String target = "003";
-        Product product3 = createProduct("003", ProductType.HANDMADE, STOP_SELLING, "팥빙수", 7000);
-        productRepository.saveAll(List.of(product1, product2, product3));
-
-        //when
-        String latestProductNumber = productRepository.findLatestProductNumber();
-
-        //then
-        assertThat(latestProductNumber).isEqualTo(target);
-    }
-
-    @DisplayName("가장 마지막으로 저장한 상품의 상품번호를 읽어올 때, 상품이 하나도 없는 경우에는 null을 반환한다.")
-    @Test
-    void findLatestProductNumberWhenProductIsEmpty(){
-        //when
-        String latestProductNumber = productRepository.findLatestProductNumber();
-
-        //then
-        assertThat(latestProductNumber).isNull();
-    }
-
     private static Product createProduct(String productNumber, ProductType productType, ProductSellingStatus sellingStatus,
                                          String name, int price) {
         return Product.builder()
@@ -94,6 +94,83 @@ class CafeKioskTest {
         assertThat(totalPrice).isEqualTo(8500);
     }
 
+    @DisplayName("같은 음료를 여러 잔 담으면 한 줄의 수량으로 관리하고 총액도 함께 갱신된다.")
+    @Test
+    void addSameBeverageAsQuantity(){
+        CafeKiosk cafeKiosk = new CafeKiosk();
+        Americano americano = new Americano();
+
+        cafeKiosk.add(americano, 500);
+        cafeKiosk.add(americano);
+
+        assertThat(cafeKiosk.getQuantities()).containsEntry(americano, 501).hasSize(1);
+        assertThat(cafeKiosk.calculateTotalPrice()).isEqualTo(4000 * 501);
+    }
+
+    @DisplayName("따로 만든 같은 음료를 담아도 한 줄의 수량으로 합쳐진다.")
+    @Test
+    void addSameBeverageFromDifferentInstances(){
+        CafeKiosk cafeKiosk = new CafeKiosk();
+
+        cafeKiosk.add(new Americano());
+        cafeKiosk.add(new Americano());
+
+        assertThat(cafeKiosk.getQuantities()).hasSize(1)
+                .containsEntry(new Americano(), 2);
+        assertThat(cafeKiosk.calculateTotalPrice()).isEqualTo(8000);
+
+        cafeKiosk.remove(new Americano());
+        assertThat(cafeKiosk.getQuantity(new Americano())).isEqualTo(1);
+    }
+
+    @DisplayName("음료를 하나 빼면 수량이 하나 줄고, 마지막 한 잔을 빼면 장바구니에서 사라진다.")
+    @Test
+    void removeOneOfQuantity(){
+        CafeKiosk cafeKiosk = new CafeKiosk();
+        Americano americano = new Americano();
+        cafeKiosk.add(americano, 2);
+
+        cafeKiosk.remove(americano);
+        assertThat(cafeKiosk.getQuantity(americano)).isEqualTo(1);
+        assertThat(cafeKiosk.calculateTotalPrice()).isEqualTo(4000);
+
+        cafeKiosk.remove(americano);
+        assertThat(cafeKiosk.getQuantities()).isEmpty();
+        assertThat(cafeKiosk.calculateTotalPrice()).isZero();
+    }
+
+    @DisplayName("수량을 바로 바꾸면 총액이 차이만큼 바뀌고, 0 으로 바꾸면 장바구니에서 빠진다.")
+    @Test
+    void changeQuantity(){
+        CafeKiosk cafeKiosk = new CafeKiosk();
+        Americano americano = new Americano();
+        Latte latte = new Latte();
+        cafeKiosk.add(americano, 3);
+        cafeKiosk.add(latte);
+
+        cafeKiosk.changeQuantity(americano, 1);
+        assertThat(cafeKiosk.calculateTotalPrice()).isEqualTo(8500);
+
+        cafeKiosk.changeQuantity(latte, 0);
+        assertThat(cafeKiosk.getQuantities()).containsOnlyKeys(americano);
+        assertThat(cafeKiosk.calculateTotalPrice()).isEqualTo(4000);
+
+        assertThatThrownBy(() -> cafeKiosk.changeQuantity(americano, -1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("음료 수량은 0 이상이어야 합니다.");
+    }
+
+    @DisplayName("담긴 음료 목록은 읽기 전용이다.")
+    @Test
+    void beveragesAreReadOnly(){
+        CafeKiosk cafeKiosk = new CafeKiosk();
+        cafeKiosk.add(new Americano());
+
+        assertThatThrownBy(() -> cafeKiosk.getBeverages().add(new Latte()))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThat(cafeKiosk.getBeverages()).hasSize(1);
+    }
+
     @Disabled
     @Test
     void createOrder(){